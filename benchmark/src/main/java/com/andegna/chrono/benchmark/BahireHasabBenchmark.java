@@ -0,0 +1,75 @@
+package com.andegna.chrono.benchmark;
+
+import com.andegna.chrono.BahireHasab;
+import com.andegna.chrono.EthiopianDate;
+import com.andegna.chrono.EthiopianFeast;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The feasts of 1000 consecutive years with {@link BahireHasab}, memoized
+ * and computed, against the Julian Easter computus.
+ * <p>
+ * The years past 9999 are not memoized, they show the cost of the
+ * computation itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BahireHasabBenchmark {
+
+    private static final int YEARS = 1000;
+
+    private final long[] epochDays = new long[YEARS];
+
+    @Benchmark
+    public long[] batchMemoized() {
+        BahireHasab.feastEpochDays(EthiopianFeast.FASIKA, 1500, epochDays);
+        return epochDays;
+    }
+
+    @Benchmark
+    public long[] batchComputed() {
+        BahireHasab.feastEpochDays(EthiopianFeast.FASIKA, 20000, epochDays);
+        return epochDays;
+    }
+
+    @Benchmark
+    public long[] singleMemoized() {
+        for (int i = 0; i < YEARS; i++) {
+            epochDays[i] = BahireHasab.feastEpochDay(1500 + i, EthiopianFeast.FASIKA);
+        }
+        return epochDays;
+    }
+
+    @Benchmark
+    public long[] singleDates() {
+        for (int i = 0; i < YEARS; i++) {
+            EthiopianDate fasika = EthiopianDate.ofFeast(1500 + i, EthiopianFeast.FASIKA);
+            epochDays[i] = fasika.toEpochDay();
+        }
+        return epochDays;
+    }
+
+    @Benchmark
+    public long[] julianComputus() {
+        for (int i = 0; i < YEARS; i++) {
+            long year = 1508 + i;
+            long d = (19 * (year % 19) + 15) % 30;
+            long e = (2 * (year % 4) + 4 * (year % 7) - d + 34) % 7;
+            int month = (int) ((d + e + 114) / 31);
+            int day = (int) ((d + e + 114) % 31) + 1;
+            int a = (14 - month) / 12;
+            long y = year + 4800 - a;
+            int m = month + 12 * a - 3;
+            epochDays[i] = day + (153 * m + 2) / 5 + 365 * y + y / 4 - 32083 - 2440588;
+        }
+        return epochDays;
+    }
+
+}
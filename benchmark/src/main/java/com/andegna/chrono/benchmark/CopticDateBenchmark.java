@@ -0,0 +1,67 @@
+package com.andegna.chrono.benchmark;
+
+import com.andegna.chrono.CopticDate;
+import java.time.LocalDate;
+import java.time.temporal.ChronoField;
+import java.util.concurrent.TimeUnit;
+import org.ethiopic.EthiopicCalendar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Converting a day of each of 1000 years to the Coptic calendar and reading
+ * its fields: through {@link CopticDate} on the Ethiopian conversion engine
+ * and through {@link EthiopicCalendar#gregorianToCoptic(int, int, int)},
+ * the only Coptic conversion before.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CopticDateBenchmark {
+
+    private final long[] epochDays = new long[1000];
+    private final LocalDate[] isoDates = new LocalDate[epochDays.length];
+    private final EthiopicCalendar calendar = new EthiopicCalendar();
+
+    {
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = -365000 + 365L * i + i % 365;
+            isoDates[i] = LocalDate.ofEpochDay(epochDays[i]);
+        }
+    }
+
+    @Benchmark
+    public long copticDate() {
+        long sum = 0;
+        for (long epochDay : epochDays) {
+            CopticDate date = CopticDate.ofEpochDay(epochDay);
+            sum += date.get(ChronoField.YEAR) + date.get(ChronoField.MONTH_OF_YEAR)
+                    + date.get(ChronoField.DAY_OF_MONTH);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long ethiopicCalendar() {
+        long sum = 0;
+        for (LocalDate iso : isoDates) {
+            int[] date = calendar.gregorianToCoptic(iso.getYear(), iso.getMonthValue(), iso.getDayOfMonth());
+            sum += date[0] + date[1] + date[2];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public CopticDate plusMonths() {
+        CopticDate date = CopticDate.ofEpochDay(epochDays[0]);
+        for (int i = 0; i < epochDays.length; i++) {
+            date = date.plusMonths(1);
+        }
+        return date;
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.andegna.chrono.benchmark;
+
+import com.andegna.chrono.EthiopianBulkConverter;
+import com.andegna.chrono.EthiopianDate;
+import java.time.LocalDate;
+import java.time.temporal.ChronoField;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Column conversions with {@link EthiopianBulkConverter} against converting
+ * one {@link EthiopianDate} at a time. Scores are columns per millisecond.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EthiopianBulkConverterBenchmark {
+
+    @Param({"65536"})
+    public int size;
+
+    private long[] epochDays;
+    private int[] years;
+    private byte[] months;
+    private byte[] days;
+    private long[] back;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        long start = LocalDate.of(1900, 1, 1).toEpochDay();
+        epochDays = new long[size];
+        for (int i = 0; i < size; i++) {
+            epochDays[i] = start + random.nextInt(73049);
+        }
+        years = new int[size];
+        months = new byte[size];
+        days = new byte[size];
+        back = new long[size];
+        EthiopianBulkConverter.epochDaysToEthiopic(epochDays, years, months, days);
+    }
+
+    @Benchmark
+    public int[] bulkToEthiopic() {
+        EthiopianBulkConverter.epochDaysToEthiopic(epochDays, years, months, days);
+        return years;
+    }
+
+    @Benchmark
+    public int[] perObjectToEthiopic() {
+        for (int i = 0; i < size; i++) {
+            EthiopianDate date = EthiopianDate.ofEpochDay(epochDays[i]);
+            years[i] = date.get(ChronoField.YEAR);
+            months[i] = (byte) date.get(ChronoField.MONTH_OF_YEAR);
+            days[i] = (byte) date.get(ChronoField.DAY_OF_MONTH);
+        }
+        return years;
+    }
+
+    @Benchmark
+    public long[] bulkToEpochDays() {
+        EthiopianBulkConverter.ethiopicToEpochDays(years, months, days, back);
+        return back;
+    }
+
+    @Benchmark
+    public long[] perObjectToEpochDays() {
+        for (int i = 0; i < size; i++) {
+            back[i] = EthiopianDate.of(years[i], months[i], days[i]).toEpochDay();
+        }
+        return back;
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.andegna.chrono.benchmark;
+
+import com.andegna.chrono.EthiopianBulkConverter;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Scaling of the parallel column conversions of
+ * {@link EthiopianBulkConverter} with the number of pool threads, the
+ * {@code sequential} benchmark is the single threaded reference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EthiopianBulkScalingBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    @Param({"16384"})
+    public int chunkSize;
+
+    @Param({"4194304"})
+    public int size;
+
+    private ForkJoinPool pool;
+    private long[] epochDays;
+    private int[] years;
+    private byte[] months;
+    private byte[] days;
+
+    @Setup
+    public void setup() {
+        pool = new ForkJoinPool(threads);
+        Random random = new Random(42);
+        long start = LocalDate.of(1900, 1, 1).toEpochDay();
+        epochDays = new long[size];
+        for (int i = 0; i < size; i++) {
+            epochDays[i] = start + random.nextInt(73049);
+        }
+        years = new int[size];
+        months = new byte[size];
+        days = new byte[size];
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int[] parallel() {
+        EthiopianBulkConverter.parallelEpochDaysToEthiopic(pool, chunkSize,
+                epochDays, years, months, days);
+        return years;
+    }
+
+    @Benchmark
+    public int[] sequential() {
+        EthiopianBulkConverter.epochDaysToEthiopic(epochDays, years, months, days);
+        return years;
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.andegna.chrono.benchmark;
+
+import com.andegna.chrono.EthiopianBulkConverter;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The column conversions of {@link EthiopianBulkConverter} on the Vector
+ * API kernel against the scalar loops, the same code in forks with and
+ * without {@link EthiopianBulkConverter#VECTOR_PROPERTY}. Scores are
+ * columns per millisecond.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EthiopianBulkVectorBenchmark {
+
+    private static final String VECTOR_MODULE = "--add-modules=jdk.incubator.vector";
+    private static final String SCALAR = "-D" + EthiopianBulkConverter.VECTOR_PROPERTY + "=false";
+
+    @Param({"65536"})
+    public int size;
+
+    private long[] epochDays;
+    private int[] years;
+    private byte[] months;
+    private byte[] days;
+    private long[] back;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        long start = LocalDate.of(1900, 1, 1).toEpochDay();
+        epochDays = new long[size];
+        for (int i = 0; i < size; i++) {
+            epochDays[i] = start + random.nextInt(73049);
+        }
+        years = new int[size];
+        months = new byte[size];
+        days = new byte[size];
+        back = new long[size];
+        EthiopianBulkConverter.epochDaysToEthiopic(epochDays, years, months, days);
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = VECTOR_MODULE)
+    public int[] vectorToEthiopic() {
+        EthiopianBulkConverter.epochDaysToEthiopic(epochDays, years, months, days);
+        return years;
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = {VECTOR_MODULE, SCALAR})
+    public int[] scalarToEthiopic() {
+        EthiopianBulkConverter.epochDaysToEthiopic(epochDays, years, months, days);
+        return years;
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = VECTOR_MODULE)
+    public long[] vectorToEpochDays() {
+        EthiopianBulkConverter.ethiopicToEpochDays(years, months, days, back);
+        return back;
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = {VECTOR_MODULE, SCALAR})
+    public long[] scalarToEpochDays() {
+        EthiopianBulkConverter.ethiopicToEpochDays(years, months, days, back);
+        return back;
+    }
+
+}
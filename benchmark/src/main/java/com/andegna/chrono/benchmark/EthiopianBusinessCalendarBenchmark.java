@@ -0,0 +1,105 @@
+package com.andegna.chrono.benchmark;
+
+import com.andegna.chrono.EthiopianBusinessCalendar;
+import com.andegna.chrono.EthiopianDate;
+import com.andegna.chrono.EthiopianHoliday;
+import java.time.DayOfWeek;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link EthiopianBusinessCalendar} against walking the dates one by one
+ * with {@code plus} and a {@link HashSet} of the holidays.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EthiopianBusinessCalendarBenchmark {
+
+    private static final int DATES = 1024;
+
+    @Param({"20", "250"})
+    public int businessDays;
+
+    private final EthiopianBusinessCalendar calendar = EthiopianBusinessCalendar.standard();
+    private final Set<EthiopianDate> holidays = new HashSet<>();
+    private final EthiopianDate[] dates = new EthiopianDate[DATES];
+    private int next;
+
+    @Setup
+    public void setup() {
+        for (int year = 2000; year < 2040; year++) {
+            for (EthiopianHoliday holiday : EthiopianHoliday.values()) {
+                for (int i = 0; i < holiday.datesIn(year).size(); i++) {
+                    holidays.add(holiday.datesIn(year).get(i));
+                }
+            }
+        }
+        Random random = new Random(42);
+        EthiopianDate start = EthiopianDate.of(2010, 1, 1);
+        for (int i = 0; i < DATES; i++) {
+            dates[i] = start.plusDays(random.nextInt(365 * 20));
+        }
+        // the bitmaps of the years are computed once per calendar
+        calendar.businessDaysBetween(start, start.plusYears(30));
+    }
+
+    private EthiopianDate nextDate() {
+        return dates[next++ & (DATES - 1)];
+    }
+
+    private boolean isBusinessDay(EthiopianDate date) {
+        int weekday = date.get(ChronoField.DAY_OF_WEEK);
+        return weekday != DayOfWeek.SATURDAY.getValue() && weekday != DayOfWeek.SUNDAY.getValue()
+                && !holidays.contains(date);
+    }
+
+    @Benchmark
+    public EthiopianDate addNaive() {
+        EthiopianDate date = nextDate();
+        for (int remaining = businessDays; remaining > 0; ) {
+            date = date.plus(1, ChronoUnit.DAYS);
+            if (isBusinessDay(date)) {
+                remaining--;
+            }
+        }
+        return date;
+    }
+
+    @Benchmark
+    public EthiopianDate addCalendar() {
+        return calendar.addBusinessDays(nextDate(), businessDays);
+    }
+
+    @Benchmark
+    public long betweenNaive() {
+        EthiopianDate start = nextDate();
+        EthiopianDate end = start.plusDays(businessDays * 7 / 5);
+        long count = 0;
+        for (EthiopianDate date = start; date.isBefore(end); date = date.plus(1, ChronoUnit.DAYS)) {
+            if (isBusinessDay(date)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long betweenCalendar() {
+        EthiopianDate start = nextDate();
+        return calendar.businessDaysBetween(start, start.plusDays(businessDays * 7 / 5));
+    }
+
+}
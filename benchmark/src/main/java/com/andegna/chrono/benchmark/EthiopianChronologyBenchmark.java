@@ -0,0 +1,95 @@
+package com.andegna.chrono.benchmark;
+
+import com.andegna.chrono.EthiopianChronology;
+import com.andegna.chrono.EthiopianDate;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import org.ethiopic.EthiopicCalendar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The hot paths of {@link EthiopicCalendar}, {@link EthiopianChronology} and
+ * {@link EthiopianDate}, one date per invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EthiopianChronologyBenchmark {
+
+    private static final int SIZE = 1024;
+    private static final DateTimeFormatter FORMATTER
+            = DateTimeFormatter.ofPattern("dd/MM/yyyy EEE")
+            .withChronology(EthiopianChronology.INSTANCE);
+
+    private final EthiopicCalendar calendar = new EthiopicCalendar();
+    private final long[] epochDays = new long[SIZE];
+    private final int[][] gregorian = new int[SIZE][];
+    private final int[][] ethiopic = new int[SIZE][];
+    private final EthiopianDate[] dates = new EthiopianDate[SIZE];
+    private int index;
+
+    @Setup
+    public void setup() {
+        // a spread of dates between 1900 and 2100
+        long start = LocalDate.of(1900, 1, 1).toEpochDay();
+        for (int i = 0; i < SIZE; i++) {
+            epochDays[i] = start + (73049L * i) / SIZE;
+            LocalDate date = LocalDate.ofEpochDay(epochDays[i]);
+            gregorian[i] = new int[]{date.getYear(), date.getMonthValue(), date.getDayOfMonth()};
+            ethiopic[i] = calendar.gregorianToEthiopic(gregorian[i][0], gregorian[i][1], gregorian[i][2]);
+            dates[i] = EthiopianDate.ofEpochDay(epochDays[i]);
+        }
+    }
+
+    private int next() {
+        return index = (index + 1) & (SIZE - 1);
+    }
+
+    @Benchmark
+    public int[] gregorianToEthiopic() {
+        int[] date = gregorian[next()];
+        return calendar.gregorianToEthiopic(date[0], date[1], date[2]);
+    }
+
+    @Benchmark
+    public int[] ethiopicToGregorian() {
+        int[] date = ethiopic[next()];
+        return calendar.ethiopicToGregorian(date[0], date[1], date[2],
+                EthiopicCalendar.JD_EPOCH_OFFSET_AMETE_MIHRET);
+    }
+
+    @Benchmark
+    public EthiopianDate dateEpochDay() {
+        return EthiopianChronology.INSTANCE.dateEpochDay(epochDays[next()]);
+    }
+
+    @Benchmark
+    public long getLongEpochDay() {
+        return dates[next()].getLong(ChronoField.EPOCH_DAY);
+    }
+
+    @Benchmark
+    public EthiopianDate plusDays() {
+        return dates[next()].plus(40, ChronoUnit.DAYS);
+    }
+
+    @Benchmark
+    public EthiopianDate minusMonths() {
+        return dates[next()].minus(3, ChronoUnit.MONTHS);
+    }
+
+    @Benchmark
+    public String format() {
+        return FORMATTER.format(dates[next()]);
+    }
+
+}
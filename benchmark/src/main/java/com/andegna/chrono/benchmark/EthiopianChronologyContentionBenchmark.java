@@ -0,0 +1,42 @@
+package com.andegna.chrono.benchmark;
+
+import com.andegna.chrono.EthiopianChronology;
+import com.andegna.chrono.EthiopianDate;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Every available thread converting through the shared
+ * {@link EthiopianChronology#INSTANCE}, the total throughput should grow
+ * with the number of cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(Threads.MAX)
+public class EthiopianChronologyContentionBenchmark {
+
+    private static final long START = LocalDate.of(1900, 1, 1).toEpochDay();
+
+    @Benchmark
+    public EthiopianDate dateEpochDay() {
+        return EthiopianChronology.INSTANCE.dateEpochDay(
+                START + ThreadLocalRandom.current().nextInt(73049));
+    }
+
+    @Benchmark
+    public LocalDate toGregorian() {
+        EthiopianDate date = EthiopianDate.of(
+                1900 + ThreadLocalRandom.current().nextInt(200), 4, 21);
+        return EthiopianChronology.INSTANCE.toGregorian(date);
+    }
+
+}
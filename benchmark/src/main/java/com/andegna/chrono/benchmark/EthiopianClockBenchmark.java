@@ -0,0 +1,43 @@
+package com.andegna.chrono.benchmark;
+
+import com.andegna.chrono.EthiopianChronology;
+import com.andegna.chrono.EthiopianClock;
+import com.andegna.chrono.EthiopianDate;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Reading today's date: from an {@link EthiopianClock}, from
+ * {@link EthiopianDate#now()} which now goes through the shared system
+ * clock, and through {@link LocalDate#now()} and the chronology like
+ * {@code now()} used to.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EthiopianClockBenchmark {
+
+    private final EthiopianClock clock = EthiopianClock.systemDefaultZone();
+
+    @Benchmark
+    public EthiopianDate clock() {
+        return clock.today();
+    }
+
+    @Benchmark
+    public EthiopianDate now() {
+        return EthiopianDate.now();
+    }
+
+    @Benchmark
+    public EthiopianDate localDateNow() {
+        return EthiopianChronology.INSTANCE.date(LocalDate.now());
+    }
+
+}
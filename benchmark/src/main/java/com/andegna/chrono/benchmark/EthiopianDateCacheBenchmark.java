@@ -0,0 +1,82 @@
+package com.andegna.chrono.benchmark;
+
+import com.andegna.chrono.EthiopianConversions;
+import com.andegna.chrono.EthiopianDate;
+import com.andegna.chrono.EthiopianDateCache;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Lookups in an {@link EthiopianDateCache} against converting every time,
+ * and the cost of building the table.
+ * <p>
+ * Run {@code build} with {@code -prof gc}, the normalized allocation rate is
+ * the memory footprint of a table of the given number of years.
+ */
+@State(Scope.Thread)
+public class EthiopianDateCacheBenchmark {
+
+    private static final int SIZE = 1024;
+
+    @Param({"200"})
+    public int years;
+
+    private EthiopianDateCache cache;
+    private final long[] epochDays = new long[SIZE];
+
+    @Setup
+    public void setup() {
+        LocalDate start = LocalDate.of(1900, 1, 1);
+        cache = EthiopianDateCache.of(start, start.plusYears(years));
+        // recent and near future days, the typical working set
+        long today = LocalDate.now().toEpochDay();
+        for (int i = 0; i < SIZE; i++) {
+            epochDays[i] = today - SIZE / 2 + i;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void lookup(Blackhole bh) {
+        for (long epochDay : epochDays) {
+            bh.consume(cache.get(epochDay));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void convert(Blackhole bh) {
+        for (long epochDay : epochDays) {
+            bh.consume(EthiopianConversions.toEthiopianDate(epochDay));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void ofEpochDay(Blackhole bh) {
+        for (long epochDay : epochDays) {
+            bh.consume(EthiopianDate.ofEpochDay(epochDay));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public EthiopianDateCache build() {
+        LocalDate start = LocalDate.of(1900, 1, 1);
+        return EthiopianDateCache.of(start, start.plusYears(years));
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.andegna.chrono.benchmark;
+
+import com.andegna.chrono.EthiopianConversions;
+import com.andegna.chrono.EthiopianDate;
+import com.andegna.chrono.EthiopianDateCodec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link EthiopianDateCodec} against {@link ObjectOutputStream} for a column
+ * of 1024 dates between 1900 and 2100, shuffled or sorted.
+ * <p>
+ * The encoded sizes, in bytes per date, are
+ * <pre>
+ *                               shuffled  sorted
+ *   default serialization (0.1)     31.3     31.3
+ *   serialization proxy             12.1     12.1
+ *   codec                            2.8      1.4
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EthiopianDateCodecBenchmark {
+
+    private static final int SIZE = 1024;
+
+    @Param({"false", "true"})
+    public boolean sorted;
+
+    private final EthiopianDate[] dates = new EthiopianDate[SIZE];
+    private final ByteBuffer buffer = ByteBuffer.allocate(EthiopianDateCodec.maxLength(SIZE));
+    private final ByteArrayOutputStream stream = new ByteArrayOutputStream(32 * SIZE);
+    private byte[] serialized;
+
+    @Setup
+    public void setup() throws IOException {
+        Random random = new Random(42);
+        long[] epochDays = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            // 1900 to 2100 ISO
+            epochDays[i] = -25567 + random.nextInt(73049);
+        }
+        if (sorted) {
+            Arrays.sort(epochDays);
+        }
+        for (int i = 0; i < SIZE; i++) {
+            dates[i] = EthiopianConversions.toEthiopianDate(epochDays[i]);
+        }
+        EthiopianDateCodec.writeDates(buffer, dates, 0, SIZE);
+        serialized = serialize();
+    }
+
+    @Benchmark
+    public int serializationWrite() throws IOException {
+        return serialize().length;
+    }
+
+    @Benchmark
+    public Object serializationRead() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return in.readObject();
+        }
+    }
+
+    @Benchmark
+    public int codecWrite() {
+        buffer.clear();
+        EthiopianDateCodec.writeDates(buffer, dates, 0, SIZE);
+        return buffer.position();
+    }
+
+    @Benchmark
+    public EthiopianDate[] codecRead() {
+        buffer.rewind();
+        return EthiopianDateCodec.readDates(buffer);
+    }
+
+    private byte[] serialize() throws IOException {
+        stream.reset();
+        try (ObjectOutputStream out = new ObjectOutputStream(stream)) {
+            out.writeObject(dates);
+        }
+        return stream.toByteArray();
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.andegna.chrono.benchmark;
+
+import com.andegna.chrono.EthiopianConversions;
+import com.andegna.chrono.EthiopianDate;
+import com.andegna.chrono.EthiopianDateArray;
+import com.andegna.chrono.EthiopianDateIntMap;
+import com.andegna.chrono.EthiopianDateSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The primitive date collections against the JDK collections of
+ * {@link EthiopianDate}.
+ * <p>
+ * Run with {@code -prof gc}: the collections are built presized, so the
+ * normalized allocation of the {@code build} benchmarks is their memory
+ * footprint, the dates included. The {@code contains} benchmarks look up
+ * 1024 days, half of them present.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EthiopianDateCollectionsBenchmark {
+
+    private static final int PROBES = 1024;
+
+    @Param({"100000"})
+    public int size;
+
+    private long[] epochDays;
+    private final long[] probes = new long[PROBES];
+    private final EthiopianDate[] probeDates = new EthiopianDate[PROBES];
+
+    private EthiopianDateSet set;
+    private EthiopianDateArray array;
+    private Set<EthiopianDate> hashSet;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        epochDays = new long[size];
+        for (int i = 0; i < size; i++) {
+            // distinct days from 1900 ISO on, every other day
+            epochDays[i] = -25567 + 2L * i;
+        }
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = -25567 + random.nextInt(2 * size);
+            probeDates[i] = EthiopianConversions.toEthiopianDate(probes[i]);
+        }
+        set = buildSet();
+        array = EthiopianDateArray.ofEpochDays(epochDays);
+        hashSet = buildHashSet();
+    }
+
+    @Benchmark
+    public EthiopianDateSet buildSet() {
+        EthiopianDateSet built = new EthiopianDateSet(size);
+        for (long epochDay : epochDays) {
+            built.addEpochDay(epochDay);
+        }
+        return built;
+    }
+
+    @Benchmark
+    public Set<EthiopianDate> buildHashSet() {
+        Set<EthiopianDate> built = new HashSet<>(size * 4 / 3 + 1);
+        for (long epochDay : epochDays) {
+            built.add(EthiopianConversions.toEthiopianDate(epochDay));
+        }
+        return built;
+    }
+
+    @Benchmark
+    public EthiopianDateArray buildArray() {
+        return EthiopianDateArray.ofEpochDays(epochDays);
+    }
+
+    @Benchmark
+    public EthiopianDateIntMap buildIntMap() {
+        EthiopianDateIntMap built = new EthiopianDateIntMap(size);
+        for (long epochDay : epochDays) {
+            built.addTo(epochDay, 1000);
+        }
+        return built;
+    }
+
+    @Benchmark
+    public Map<EthiopianDate, Integer> buildHashMap() {
+        Map<EthiopianDate, Integer> built = new HashMap<>(size * 4 / 3 + 1);
+        for (long epochDay : epochDays) {
+            built.merge(EthiopianConversions.toEthiopianDate(epochDay), 1000, Integer::sum);
+        }
+        return built;
+    }
+
+    @Benchmark
+    public void containsSet(Blackhole bh) {
+        for (EthiopianDate date : probeDates) {
+            bh.consume(set.contains(date));
+        }
+    }
+
+    @Benchmark
+    public void containsSetEpochDay(Blackhole bh) {
+        for (long epochDay : probes) {
+            bh.consume(set.containsEpochDay(epochDay));
+        }
+    }
+
+    @Benchmark
+    public void containsArray(Blackhole bh) {
+        for (long epochDay : probes) {
+            bh.consume(array.indexOf(epochDay) >= 0);
+        }
+    }
+
+    @Benchmark
+    public void containsHashSet(Blackhole bh) {
+        for (EthiopianDate date : probeDates) {
+            bh.consume(hashSet.contains(date));
+        }
+    }
+
+}
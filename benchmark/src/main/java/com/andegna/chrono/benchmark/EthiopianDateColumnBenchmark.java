@@ -0,0 +1,102 @@
+package com.andegna.chrono.benchmark;
+
+import com.andegna.chrono.EthiopianConversions;
+import com.andegna.chrono.EthiopianDate;
+import com.andegna.chrono.EthiopianDateColumn;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.temporal.ChronoField;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Opening an {@link EthiopianDateColumn} against loading the same dates into
+ * the heap, and a month scan of the sorted column against filtering the
+ * loaded dates.
+ */
+@State(Scope.Benchmark)
+public class EthiopianDateColumnBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    private Path path;
+    private EthiopianDateColumn column;
+    private EthiopianDate[] heap;
+
+    @Setup
+    public void setup() throws IOException {
+        Random random = new Random(42);
+        long[] epochDays = new long[size];
+        for (int i = 0; i < size; i++) {
+            // 1900 to 2100 ISO
+            epochDays[i] = -25567 + random.nextInt(73049);
+        }
+        Arrays.sort(epochDays);
+        path = Files.createTempFile("column", ".ethd");
+        EthiopianDateColumn.write(path, epochDays, 0, size);
+        column = EthiopianDateColumn.open(path);
+        heap = load();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        column = null;
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public EthiopianDateColumn open() throws IOException {
+        return EthiopianDateColumn.open(path);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public EthiopianDate[] load() throws IOException {
+        EthiopianDateColumn source = EthiopianDateColumn.open(path);
+        EthiopianDate[] dates = new EthiopianDate[source.size()];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = EthiopianConversions.toEthiopianDate(source.getEpochDay(i));
+        }
+        return dates;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int scanMonth(Blackhole bh) {
+        return column.scanMonth(2016, 5, bh::consume);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int filterMonth(Blackhole bh) {
+        int count = 0;
+        for (int i = 0; i < heap.length; i++) {
+            EthiopianDate date = heap[i];
+            if (date.get(ChronoField.YEAR_OF_ERA) == 2016
+                    && date.get(ChronoField.MONTH_OF_YEAR) == 5) {
+                bh.consume(i);
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
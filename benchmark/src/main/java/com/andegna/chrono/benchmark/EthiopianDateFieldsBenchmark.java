@@ -0,0 +1,57 @@
+package com.andegna.chrono.benchmark;
+
+import com.andegna.chrono.EthiopianDate;
+import java.time.LocalDate;
+import java.time.temporal.ChronoField;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Reading the fields of a month grid, the day of week and aligned week of
+ * every day of a year, from {@link EthiopianDate} against the
+ * {@link LocalDate} the values used to be read from.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EthiopianDateFieldsBenchmark {
+
+    private final EthiopianDate[] dates = new EthiopianDate[365];
+
+    @Setup
+    public void setup() {
+        EthiopianDate start = EthiopianDate.of(2016, 1, 1);
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = start.plusDays(i);
+        }
+    }
+
+    @Benchmark
+    public long gridNative() {
+        long sum = 0;
+        for (EthiopianDate date : dates) {
+            sum += date.getLong(ChronoField.DAY_OF_WEEK)
+                    + date.getLong(ChronoField.ALIGNED_WEEK_OF_MONTH);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long gridLocalDate() {
+        long sum = 0;
+        for (EthiopianDate date : dates) {
+            LocalDate iso = LocalDate.ofEpochDay(date.toEpochDay());
+            sum += iso.getLong(ChronoField.DAY_OF_WEEK);
+            iso = LocalDate.ofEpochDay(date.toEpochDay());
+            sum += iso.getLong(ChronoField.ALIGNED_WEEK_OF_MONTH);
+        }
+        return sum;
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.andegna.chrono.benchmark;
+
+import com.andegna.chrono.EthiopianChronology;
+import com.andegna.chrono.EthiopianConversions;
+import com.andegna.chrono.EthiopianDate;
+import com.andegna.chrono.EthiopianDateFormatter;
+import java.nio.ByteBuffer;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link EthiopianDateFormatter} writing into reused buffers against
+ * {@link DateTimeFormatter} over the chronology, for a numeric pattern and
+ * one with a weekday.
+ * <p>
+ * Run with {@code -prof gc}, the buffer writes should not allocate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EthiopianDateFormatterBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private final DateTimeFormatter isoFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd")
+            .withChronology(EthiopianChronology.INSTANCE);
+    private final DateTimeFormatter weekdayFormatter = DateTimeFormatter.ofPattern("EEE dd/MM/yyyy")
+            .withChronology(EthiopianChronology.INSTANCE);
+    private final EthiopianDateFormatter iso = EthiopianDateFormatter.ofPattern("yyyy-MM-dd");
+    private final EthiopianDateFormatter weekday = EthiopianDateFormatter.ofPattern("EEE dd/MM/yyyy");
+    private final EthiopianDateFormatter amharic = EthiopianDateFormatter.ofPattern("EEEE፣ MMMM d ቀን yyyy GGGG");
+
+    private final EthiopianDate[] dates = new EthiopianDate[SIZE];
+    private final StringBuilder builder = new StringBuilder(64);
+    private final char[] chars = new char[64];
+    private final ByteBuffer buffer = ByteBuffer.allocate(128);
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            // 1900 to 2100 ISO
+            dates[i] = EthiopianConversions.toEthiopianDate(-25567 + random.nextInt(73049));
+        }
+    }
+
+    @Benchmark
+    public void dateTimeFormatterIso(Blackhole bh) {
+        for (EthiopianDate date : dates) {
+            bh.consume(isoFormatter.format(date));
+        }
+    }
+
+    @Benchmark
+    public void formatterIsoString(Blackhole bh) {
+        for (EthiopianDate date : dates) {
+            bh.consume(iso.format(date));
+        }
+    }
+
+    @Benchmark
+    public void formatterIsoBuilder(Blackhole bh) {
+        for (EthiopianDate date : dates) {
+            builder.setLength(0);
+            bh.consume(iso.formatTo(date, builder).length());
+        }
+    }
+
+    @Benchmark
+    public void formatterIsoChars(Blackhole bh) {
+        for (EthiopianDate date : dates) {
+            bh.consume(iso.formatTo(date, chars, 0));
+        }
+    }
+
+    @Benchmark
+    public void dateTimeFormatterWeekday(Blackhole bh) {
+        for (EthiopianDate date : dates) {
+            bh.consume(weekdayFormatter.format(date));
+        }
+    }
+
+    @Benchmark
+    public void formatterWeekdayChars(Blackhole bh) {
+        for (EthiopianDate date : dates) {
+            bh.consume(weekday.formatTo(date, chars, 0));
+        }
+    }
+
+    @Benchmark
+    public void formatterAmharicBytes(Blackhole bh) {
+        for (EthiopianDate date : dates) {
+            buffer.clear();
+            bh.consume(amharic.formatTo(date, buffer).position());
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.andegna.chrono.benchmark;
+
+import com.andegna.chrono.EthiopianChronology;
+import com.andegna.chrono.EthiopianConversions;
+import com.andegna.chrono.EthiopianDate;
+import com.andegna.chrono.EthiopianDateParser;
+import com.andegna.chrono.EthiopianMonth;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link EthiopianDateParser} against {@code EthiopianDate.from} over a
+ * {@link DateTimeFormatter} of the chronology.
+ * <p>
+ * Run with {@code -prof gc}, the packed parses should not allocate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EthiopianDateParserBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("uuuu-MM-dd")
+            .withChronology(EthiopianChronology.INSTANCE);
+    private final EthiopianDateParser parser = new EthiopianDateParser();
+
+    private final String[] iso = new String[SIZE];
+    private final String[] amharic = new String[SIZE];
+    private final byte[][] amharicUtf8 = new byte[SIZE][];
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            // 1900 to 2100 ISO
+            EthiopianDate date = EthiopianConversions.toEthiopianDate(
+                    -25567 + random.nextInt(73049));
+            iso[i] = formatter.format(date);
+            amharic[i] = EthiopianMonth.of(date.get(ChronoField.MONTH_OF_YEAR))
+                    .getAmharicName() + " " + date.get(ChronoField.DAY_OF_MONTH)
+                    + " ቀን " + date.get(ChronoField.YEAR_OF_ERA) + " ዓ.ም";
+            amharicUtf8[i] = amharic[i].getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Benchmark
+    public void formatterIso(Blackhole bh) {
+        for (String text : iso) {
+            bh.consume(EthiopianDate.from(formatter.parse(text)));
+        }
+    }
+
+    @Benchmark
+    public void parserIso(Blackhole bh) {
+        for (String text : iso) {
+            bh.consume(parser.parse(text));
+        }
+    }
+
+    @Benchmark
+    public void parserIsoPacked(Blackhole bh) {
+        for (String text : iso) {
+            bh.consume(parser.parsePacked(text));
+        }
+    }
+
+    @Benchmark
+    public void parserAmharicPacked(Blackhole bh) {
+        for (String text : amharic) {
+            bh.consume(parser.parsePacked(text));
+        }
+    }
+
+    @Benchmark
+    public void parserAmharicUtf8Packed(Blackhole bh) {
+        for (byte[] text : amharicUtf8) {
+            bh.consume(parser.parsePacked(text, 0, text.length));
+        }
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.andegna.chrono.benchmark;
+
+import com.andegna.chrono.EthiopianDate;
+import com.andegna.chrono.EthiopianDateRange;
+import com.andegna.chrono.EthiopianEra;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Walking every day, and every month, of 40 years with
+ * {@link EthiopianDateRange} against repeated {@code plus} calls.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EthiopianDateRangeBenchmark {
+
+    private EthiopianDate start;
+    private EthiopianDate end;
+    private EthiopianDateRange days;
+    private EthiopianDateRange months;
+
+    @Setup
+    public void setup() {
+        start = new EthiopianDate(EthiopianEra.AMETE_MIHRET, 1990, 1, 1);
+        end = start.plusYears(40);
+        days = EthiopianDateRange.of(start, end);
+        months = days.withStep(1, ChronoUnit.MONTHS);
+    }
+
+    @Benchmark
+    public void daysPlus(Blackhole bh) {
+        for (EthiopianDate date = start; date.isBefore(end); date = date.plus(1, ChronoUnit.DAYS)) {
+            bh.consume(date);
+        }
+    }
+
+    @Benchmark
+    public void daysRange(Blackhole bh) {
+        for (EthiopianDate date : days) {
+            bh.consume(date);
+        }
+    }
+
+    @Benchmark
+    public void daysRangeForEach(Blackhole bh) {
+        days.stream().forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void monthsPlus(Blackhole bh) {
+        for (long i = 0; ; i++) {
+            EthiopianDate date = start.plusMonths(i);
+            if (!date.isBefore(end)) {
+                return;
+            }
+            bh.consume(date);
+        }
+    }
+
+    @Benchmark
+    public void monthsRange(Blackhole bh) {
+        for (EthiopianDate date : months) {
+            bh.consume(date);
+        }
+    }
+
+}
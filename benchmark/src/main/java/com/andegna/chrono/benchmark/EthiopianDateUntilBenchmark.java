@@ -0,0 +1,76 @@
+package com.andegna.chrono.benchmark;
+
+import com.andegna.chrono.EthiopianDate;
+import java.time.LocalDate;
+import java.time.chrono.ChronoPeriod;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * An aging report, the days overdue, the months in arrears and the period
+ * of 1000 due dates to a report date, computed by {@link EthiopianDate}
+ * against the {@link LocalDate} conversions {@code until} used to do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EthiopianDateUntilBenchmark {
+
+    private final EthiopianDate[] dueDates = new EthiopianDate[1000];
+    private final EthiopianDate reportDate = EthiopianDate.of(2016, 5, 13);
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        for (int i = 0; i < dueDates.length; i++) {
+            dueDates[i] = reportDate.minusDays(random.nextInt(2000));
+        }
+    }
+
+    @Benchmark
+    public long agingNative() {
+        long sum = 0;
+        for (EthiopianDate due : dueDates) {
+            sum += due.until(reportDate, ChronoUnit.DAYS) + due.until(reportDate, ChronoUnit.MONTHS);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long agingLocalDate() {
+        long sum = 0;
+        for (EthiopianDate due : dueDates) {
+            sum += LocalDate.ofEpochDay(due.toEpochDay()).until(reportDate, ChronoUnit.DAYS)
+                    + LocalDate.ofEpochDay(due.toEpochDay()).until(reportDate, ChronoUnit.MONTHS);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long periodNative() {
+        long sum = 0;
+        for (EthiopianDate due : dueDates) {
+            ChronoPeriod period = due.until(reportDate);
+            sum += period.get(ChronoUnit.MONTHS);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long periodLocalDate() {
+        long sum = 0;
+        for (EthiopianDate due : dueDates) {
+            sum += LocalDate.ofEpochDay(due.toEpochDay()).until(reportDate).getMonths();
+        }
+        return sum;
+    }
+
+}
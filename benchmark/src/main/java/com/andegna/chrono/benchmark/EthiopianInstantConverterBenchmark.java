@@ -0,0 +1,73 @@
+package com.andegna.chrono.benchmark;
+
+import com.andegna.chrono.EthiopianChronology;
+import com.andegna.chrono.EthiopianDateTime;
+import com.andegna.chrono.EthiopianInstantConverter;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Converting a log of timestamps a few seconds apart, about a week of
+ * them, to Ethiopian dates and times: with an
+ * {@link EthiopianInstantConverter}, with
+ * {@link EthiopianDateTime#ofInstant}, and through {@link LocalDateTime}
+ * and the chronology.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EthiopianInstantConverterBenchmark {
+
+    private static final ZoneId ZONE = ZoneId.of("Africa/Addis_Ababa");
+
+    private final Instant[] instants = new Instant[100_000];
+    private EthiopianInstantConverter converter;
+
+    @Setup
+    public void setup() {
+        Instant instant = Instant.parse("2024-01-22T04:30:00Z");
+        for (int i = 0; i < instants.length; i++) {
+            instants[i] = instant;
+            instant = instant.plusMillis(6000 + i % 7 * 13);
+        }
+        converter = EthiopianInstantConverter.of(ZONE);
+    }
+
+    @Benchmark
+    public long converter() {
+        long sum = 0;
+        for (Instant instant : instants) {
+            sum += converter.toDateTime(instant).getMinute();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long ofInstant() {
+        long sum = 0;
+        for (Instant instant : instants) {
+            sum += EthiopianDateTime.ofInstant(instant, ZONE).getMinute();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long chronology() {
+        long sum = 0;
+        for (Instant instant : instants) {
+            sum += EthiopianChronology.INSTANCE.localDateTime(LocalDateTime.ofInstant(instant, ZONE))
+                    .getMinute();
+        }
+        return sum;
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.andegna.chrono.benchmark;
+
+import com.andegna.chrono.EthiopianConversions;
+import com.andegna.chrono.EthiopianYearTable;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The year start table against the 1461 day cycle arithmetic for epoch day
+ * to Ethiopian conversions.
+ * <p>
+ * {@code arithmetic} runs with the default table turned off.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(jvmArgsAppend = "-Dcom.andegna.chrono.yeartable.enabled=false")
+public class EthiopianYearTableBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private final EthiopianYearTable table = EthiopianYearTable.of(1800, 2200);
+    private final long[] epochDays = new long[SIZE];
+
+    @Setup
+    public void setup() {
+        // random days between 1900 and 2100
+        Random random = new Random(42);
+        long start = LocalDate.of(1900, 1, 1).toEpochDay();
+        for (int i = 0; i < SIZE; i++) {
+            epochDays[i] = start + random.nextInt(73049);
+        }
+    }
+
+    @Benchmark
+    public void arithmetic(Blackhole bh) {
+        for (long epochDay : epochDays) {
+            bh.consume(EthiopianConversions.epochDayToPackedEthiopic(epochDay));
+        }
+    }
+
+    @Benchmark
+    public void table(Blackhole bh) {
+        for (long epochDay : epochDays) {
+            bh.consume(table.epochDayToPackedEthiopic(epochDay));
+        }
+    }
+
+}
@@ -0,0 +1,179 @@
+package com.andegna.chrono.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.ethiopic.EthiopicCalendar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the integer floor arithmetic of {@link EthiopicCalendar} with the
+ * former {@code Math.floor} over doubles implementation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EthiopicCalendarArithmeticBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private final EthiopicCalendar calendar = new EthiopicCalendar();
+    private final int[] jdns = new int[SIZE];
+    private final int[][] gregorian = new int[SIZE][];
+
+    @Setup
+    public void setup() {
+        // a spread of dates between 1900 and 2100
+        for (int i = 0; i < SIZE; i++) {
+            jdns[i] = 2415021 + (int) ((73049L * i) / SIZE);
+            gregorian[i] = calendar.jdnToGregorian(jdns[i]);
+        }
+    }
+
+    @Benchmark
+    public void jdnToGregorianFloorDiv(Blackhole bh) {
+        for (int jdn : jdns) {
+            bh.consume(calendar.jdnToGregorian(jdn));
+        }
+    }
+
+    @Benchmark
+    public void jdnToGregorianDouble(Blackhole bh) {
+        for (int jdn : jdns) {
+            bh.consume(DoubleFloor.jdnToGregorian(jdn));
+        }
+    }
+
+    @Benchmark
+    public void gregorianToJdnFloorDiv(Blackhole bh) {
+        for (int[] date : gregorian) {
+            bh.consume(calendar.gregorianToJDN(date[0], date[1], date[2]));
+        }
+    }
+
+    @Benchmark
+    public void gregorianToJdnDouble(Blackhole bh) {
+        for (int[] date : gregorian) {
+            bh.consume(DoubleFloor.gregorianToJDN(date[0], date[1], date[2]));
+        }
+    }
+
+    @Benchmark
+    public void jdnToEthiopicFloorDiv(Blackhole bh) {
+        for (int jdn : jdns) {
+            bh.consume(calendar.jdnToEthiopic(jdn, EthiopicCalendar.JD_EPOCH_OFFSET_AMETE_MIHRET));
+        }
+    }
+
+    @Benchmark
+    public void jdnToEthiopicDouble(Blackhole bh) {
+        for (int jdn : jdns) {
+            bh.consume(DoubleFloor.jdnToEthiopic(jdn, EthiopicCalendar.JD_EPOCH_OFFSET_AMETE_MIHRET));
+        }
+    }
+
+    /**
+     * The conversions as they were before the integer arithmetic, kept here as
+     * the reference point of the comparison.
+     */
+    static final class DoubleFloor {
+
+        private static final int[] MONTH_DAYS = {
+            0,
+            31, 28, 31, 30, 31, 30,
+            31, 31, 30, 31, 30, 31
+        };
+
+        private DoubleFloor() {
+        }
+
+        static int quotient(long i, long j) {
+            return (int) Math.floor((double) i / j);
+        }
+
+        static int mod(long i, long j) {
+            return (int) (i - (j * quotient(i, j)));
+        }
+
+        static int[] jdnToGregorian(int j) {
+            int r2000 = mod((j - EthiopicCalendar.JD_EPOCH_OFFSET_GREGORIAN), 730485);
+            int r400 = mod((j - EthiopicCalendar.JD_EPOCH_OFFSET_GREGORIAN), 146097);
+            int r100 = mod(r400, 36524);
+            int r4 = mod(r100, 1461);
+
+            int n = mod(r4, 365) + 365 * quotient(r4, 1460);
+            int s = quotient(r4, 1095);
+
+            int aprime = 400 * quotient((j - EthiopicCalendar.JD_EPOCH_OFFSET_GREGORIAN), 146097)
+                    + 100 * quotient(r400, 36524)
+                    + 4 * quotient(r100, 1461)
+                    + quotient(r4, 365)
+                    - quotient(r4, 1460)
+                    - quotient(r2000, 730484);
+            int year = aprime + 1;
+            int t = quotient((364 + s - n), 306);
+            int month = t * (quotient(n, 31) + 1) + (1 - t) * (quotient((5 * (n - s) + 13), 153) + 1);
+
+            n += 1 - quotient(r2000, 730484);
+            int day = n;
+
+            if ((r100 == 0) && (n == 0) && (r400 != 0)) {
+                month = 12;
+                day = 31;
+            } else {
+                boolean leap = (year % 4 == 0) && ((year % 100 != 0) || (year % 400 == 0));
+                for (int i = 1; i <= 12; ++i) {
+                    int days = (i == 2 && leap) ? 29 : MONTH_DAYS[i];
+                    if (n <= days) {
+                        day = n;
+                        break;
+                    }
+                    n -= days;
+                }
+            }
+
+            return new int[]{year, month, day};
+        }
+
+        static int gregorianToJDN(int year, int month, int day) {
+            int s = quotient(year, 4)
+                    - quotient(year - 1, 4)
+                    - quotient(year, 100)
+                    + quotient(year - 1, 100)
+                    + quotient(year, 400)
+                    - quotient(year - 1, 400);
+
+            int t = quotient(14 - month, 12);
+
+            int n = 31 * t * (month - 1)
+                    + (1 - t) * (59 + s + 30 * (month - 3) + quotient((3 * month - 7), 5))
+                    + day - 1;
+
+            return EthiopicCalendar.JD_EPOCH_OFFSET_GREGORIAN
+                    + 365 * (year - 1)
+                    + quotient(year - 1, 4)
+                    - quotient(year - 1, 100)
+                    + quotient(year - 1, 400)
+                    + n;
+        }
+
+        static int[] jdnToEthiopic(int jdn, int era) {
+            long r = mod((jdn - era), 1461);
+            long n = mod(r, 365) + 365 * quotient(r, 1460);
+
+            int year = 4 * quotient((jdn - era), 1461)
+                    + quotient(r, 365)
+                    - quotient(r, 1460);
+            int month = quotient(n, 30) + 1;
+            int day = mod(n, 30) + 1;
+
+            return new int[]{year, month, day};
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.andegna.chrono.benchmark;
+
+import com.andegna.chrono.EthiopianConversions;
+import com.andegna.chrono.EthiopianDate;
+import com.andegna.chrono.EthiopianDateFormatter;
+import com.andegna.chrono.GeezNumerals;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Writing Ge'ez numerals from the tables (days and years) and through the
+ * arithmetic (any number), and whole dates with Ge'ez numerals.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GeezNumeralsBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private final EthiopianDateFormatter formatter = EthiopianDateFormatter
+            .ofPattern("MMMM d ቀን yyyy GGGG").withGeezNumerals();
+
+    private final int[] days = new int[SIZE];
+    private final int[] years = new int[SIZE];
+    private final long[] numbers = new long[SIZE];
+    private final EthiopianDate[] dates = new EthiopianDate[SIZE];
+    private final char[] chars = new char[64];
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            days[i] = 1 + random.nextInt(30);
+            years[i] = 1900 + random.nextInt(200);
+            numbers[i] = 1 + random.nextInt(Integer.MAX_VALUE);
+            // 1900 to 2100 ISO
+            dates[i] = EthiopianConversions.toEthiopianDate(-25567 + random.nextInt(73049));
+        }
+    }
+
+    @Benchmark
+    public void days(Blackhole bh) {
+        for (int day : days) {
+            bh.consume(GeezNumerals.writeTo(day, chars, 0));
+        }
+    }
+
+    @Benchmark
+    public void years(Blackhole bh) {
+        for (int year : years) {
+            bh.consume(GeezNumerals.writeTo(year, chars, 0));
+        }
+    }
+
+    @Benchmark
+    public void arithmetic(Blackhole bh) {
+        for (long number : numbers) {
+            bh.consume(GeezNumerals.writeTo(number, chars, 0));
+        }
+    }
+
+    @Benchmark
+    public void dates(Blackhole bh) {
+        for (EthiopianDate date : dates) {
+            bh.consume(formatter.formatTo(date, chars, 0));
+        }
+    }
+
+}
@@ -0,0 +1,159 @@
+package com.andegna.chrono;
+
+/**
+ * Bahire Hasab, the computus of the Ethiopian Orthodox church, giving the
+ * day of Nenewe and so of the {@link EthiopianFeast movable feasts} of a
+ * year.
+ * <p>
+ * Years are counted continuously in Amete Mihret, the year before 1 is 0,
+ * which is 5500 Amete Alem, and so on. The computation goes
+ * <pre>
+ *   Wenber      = (Amete Alem year - 1) mod 19
+ *   Abekte      = Wenber * 11 mod 30
+ *   Metqi       = Wenber * 19 mod 30
+ *   Beale Metqi = Meskerem Metqi when Metqi &gt; 14, Tikimt Metqi otherwise,
+ *                 Meskerem 30 when Metqi is 0
+ *   Tewsak      = 8, 7, 6, 5, 4, 3 or 2 for a Beale Metqi on a Saturday,
+ *                 Sunday ... Friday
+ *   Nenewe      = Beale Metqi + Tewsak + 120 days
+ * </pre>
+ * Nenewe falls between Tir 17 and Yekatit 22. Its day of year is memoized
+ * in a byte per year for the years 1 to 9999, so repeated queries are an
+ * array lookup.
+ */
+public final class BahireHasab {
+
+    private static final int FIRST_CACHED_YEAR = 1;
+    private static final int CACHED_YEARS = 9999;
+
+    // the day of year of Nenewe, 0 when not computed yet
+    private static final byte[] NENEWE = new byte[CACHED_YEARS];
+
+    // the Tewsak of a Beale Metqi on Monday, Tuesday ... Sunday
+    private static final int[] TEWSAK = {6, 5, 4, 3, 2, 8, 7};
+
+    // prevent instantiation
+    private BahireHasab() {
+    }
+
+    /**
+     * @param year the year in Amete Mihret
+     * @return the Wenber, the position of the year in the 19 year cycle of
+     * the moon, 0 to 18
+     */
+    public static int wenber(int year) {
+        return Math.floorMod(year + EthiopianDate.AMETE_ALEM_YEARS - 1, 19);
+    }
+
+    /**
+     * @param year the year in Amete Mihret
+     * @return the Abekte, the age of the moon at the start of the year, 0 to
+     * 29
+     */
+    public static int abekte(int year) {
+        return wenber(year) * 11 % 30;
+    }
+
+    /**
+     * @param year the year in Amete Mihret
+     * @return the Metqi, the day of the new moon of Meskerem or Tikimt, 0 to
+     * 29
+     */
+    public static int metqi(int year) {
+        return wenber(year) * 19 % 30;
+    }
+
+    /**
+     * @param year the year in Amete Mihret
+     * @return the day of Beale Metqi
+     */
+    public static EthiopianDate bealeMetqi(int year) {
+        return EthiopianDate.ofEpochDay(bealeMetqiEpochDay(year));
+    }
+
+    /**
+     * @param year the year in Amete Mihret
+     * @return the Tewsak, the days added to Beale Metqi, 2 to 8
+     */
+    public static int tewsak(int year) {
+        return TEWSAK[(int) Math.floorMod(bealeMetqiEpochDay(year) + 3, 7)];
+    }
+
+    /**
+     * @param year the year in Amete Mihret
+     * @return the day of Nenewe
+     */
+    public static EthiopianDate nenewe(int year) {
+        return feast(year, EthiopianFeast.NENEWE);
+    }
+
+    /**
+     * @param year the year in Amete Mihret
+     * @param feast the movable feast
+     * @return the day of the feast in the year
+     */
+    public static EthiopianDate feast(int year, EthiopianFeast feast) {
+        return EthiopianDate.ofEpochDay(feastEpochDay(year, feast));
+    }
+
+    /**
+     * @param year the year in Amete Mihret
+     * @param feast the movable feast
+     * @return the epoch day of the feast in the year
+     */
+    public static long feastEpochDay(int year, EthiopianFeast feast) {
+        return startOfYear(year) + neneweDayOfYear(year) - 1 + feast.getDaysAfterNenewe();
+    }
+
+    /**
+     * Computes a feast for consecutive years.
+     *
+     * @param feast the movable feast
+     * @param fromYear the first year in Amete Mihret
+     * @param epochDays receives the epoch day of the feast in
+     * {@code fromYear + i} at index i
+     */
+    public static void feastEpochDays(EthiopianFeast feast, int fromYear, long[] epochDays) {
+        int days = feast.getDaysAfterNenewe() - 1;
+        for (int i = 0; i < epochDays.length; i++) {
+            int year = fromYear + i;
+            epochDays[i] = startOfYear(year) + neneweDayOfYear(year) + days;
+        }
+    }
+
+    /**
+     * @param year the year in Amete Mihret
+     * @return the day of year of Nenewe, 137 to 172
+     */
+    static int neneweDayOfYear(int year) {
+        int index = year - FIRST_CACHED_YEAR;
+        if (index < 0 || index >= CACHED_YEARS) {
+            return computeNeneweDayOfYear(year);
+        }
+        int dayOfYear = NENEWE[index] & 0xff;
+        if (dayOfYear == 0) {
+            // racing threads store the same value
+            dayOfYear = computeNeneweDayOfYear(year);
+            NENEWE[index] = (byte) dayOfYear;
+        }
+        return dayOfYear;
+    }
+
+    private static int computeNeneweDayOfYear(int year) {
+        long bealeMetqi = bealeMetqiEpochDay(year);
+        int tewsak = TEWSAK[(int) Math.floorMod(bealeMetqi + 3, 7)];
+        return (int) (bealeMetqi - startOfYear(year)) + tewsak + 120 + 1;
+    }
+
+    private static long bealeMetqiEpochDay(int year) {
+        int metqi = metqi(year);
+        int dayOfYear = metqi == 0 ? 30 : metqi > 14 ? metqi : 30 + metqi;
+        return startOfYear(year) + dayOfYear - 1;
+    }
+
+    private static long startOfYear(long year) {
+        return EthiopianConversions.toEpochDay(
+                EthiopianEra.AMETE_MIHRET.getEpochOffset(), year, 1, 1);
+    }
+
+}
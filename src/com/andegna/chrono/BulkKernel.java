@@ -0,0 +1,80 @@
+package com.andegna.chrono;
+
+/**
+ * The conversion loops of {@link EthiopianBulkConverter}.
+ * <p>
+ * This is the scalar kernel. On Java 17 and later a multi-release jar also
+ * carries {@code VectorBulkKernel}, which overrides the loops with the
+ * incubating Vector API. It is used when {@code jdk.incubator.vector} is
+ * in the boot layer ({@code --add-modules jdk.incubator.vector}) and the
+ * CPU has vectors of 8 longs, this kernel otherwise.
+ */
+class BulkKernel {
+
+    // the days from the first day of 0 Amete Mihret to the epoch day zero
+    static final long MIHRET_EPOCH_DAY = EthiopianConversions.JDN_OF_EPOCH_DAY_ZERO
+            - EthiopianEra.AMETE_MIHRET.getEpochOffset();
+    // whole 1461 day cycles added so the dividend of the cycle division is
+    // never negative, covers every epoch day of LocalDate
+    static final long BIAS_CYCLES = 1L << 28;
+    static final long BIAS_DAYS = BIAS_CYCLES * 1461;
+
+    /**
+     * The kernel in use
+     */
+    static final BulkKernel INSTANCE = load();
+
+    private static BulkKernel load() {
+        if (Boolean.parseBoolean(System.getProperty(EthiopianBulkConverter.VECTOR_PROPERTY, "true"))) {
+            try {
+                return (BulkKernel) Class.forName("com.andegna.chrono.VectorBulkKernel")
+                        .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError unavailable) {
+                // before Java 17, without the module or without wide vectors
+            }
+        }
+        return new BulkKernel();
+    }
+
+    /**
+     * @return true when the loops run on the Vector API
+     */
+    boolean isVectorized() {
+        return false;
+    }
+
+    /**
+     * Converts the epoch days between {@code from} inclusive and {@code to}
+     * exclusive, the ranges are already checked.
+     */
+    void epochDaysToEthiopic(long[] epochDays, int from, int to,
+            int[] years, byte[] months, byte[] days) {
+        for (int i = from; i < to; i++) {
+            long n = epochDays[i] + MIHRET_EPOCH_DAY + BIAS_DAYS;
+            long cycles = n / 1461;
+            int r = (int) (n - cycles * 1461);
+            // the 4th year of a cycle takes the 1461st day
+            int leapDay = r / 1460;
+            int dayOfYear = r - 365 * (r / 365) + 365 * leapDay;
+
+            years[i] = (int) (4 * (cycles - BIAS_CYCLES)) + r / 365 - leapDay;
+            months[i] = (byte) (dayOfYear / 30 + 1);
+            days[i] = (byte) (dayOfYear % 30 + 1);
+        }
+    }
+
+    /**
+     * Converts the Ethiopian dates between {@code from} inclusive and
+     * {@code to} exclusive, the ranges are already checked.
+     */
+    void ethiopicToEpochDays(int[] years, byte[] months, byte[] days,
+            long[] epochDays, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int year = years[i];
+            // an arithmetic shift is a floor division by 4
+            epochDays[i] = 365L * year + (year >> 2)
+                    + 30 * months[i] + days[i] - 31 - MIHRET_EPOCH_DAY;
+        }
+    }
+
+}
@@ -0,0 +1,223 @@
+package com.andegna.chrono;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import java.time.chrono.AbstractChronology;
+import java.time.chrono.Era;
+import java.time.temporal.ChronoField;
+import static java.time.temporal.ChronoField.EPOCH_DAY;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.ValueRange;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The Coptic calendar, which has the months and the 4 year cycle of the
+ * Ethiopian calendar with years counted 276 later, from the Era of the
+ * Martyrs.
+ * <p>
+ * Dates are converted by the stateless engine of {@link EthiopianConversions},
+ * with the Julian day epoch offset of the Coptic era.
+ */
+public final class CopticChronology extends AbstractChronology {
+
+    /**
+     * Singleton instance CopticChronology
+     */
+    public static final CopticChronology INSTANCE = new CopticChronology();
+
+    // prevent public instantiation
+    private CopticChronology() {
+    }
+
+    /**
+     * Returns unique identifier to {@link CopticChronology}.
+     *
+     * @return String
+     */
+    @Override
+    public String getId() {
+        return "Coptic";
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return String
+     */
+    @Override
+    public String getCalendarType() {
+        // the calendar type identifier defined by CLDR/LDML
+        return "coptic";
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param prolepticYear
+     * @param month
+     * @param dayOfMonth
+     * @return {@link CopticDate}
+     */
+    @Override
+    public CopticDate date(int prolepticYear, int month, int dayOfMonth) {
+        return new CopticDate(prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param era
+     * @param yearOfEra
+     * @param month
+     * @param dayOfMonth
+     * @return {@link CopticDate}
+     */
+    @Override
+    public CopticDate date(Era era, int yearOfEra, int month, int dayOfMonth) {
+        return date(prolepticYear(era, yearOfEra), month, dayOfMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param prolepticYear
+     * @param dayOfYear
+     * @return {@link CopticDate}
+     */
+    @Override
+    public CopticDate dateYearDay(int prolepticYear, int dayOfYear) {
+        ChronoField.DAY_OF_YEAR.checkValidValue(dayOfYear);
+        return date(prolepticYear, (dayOfYear - 1) / 30 + 1, (dayOfYear - 1) % 30 + 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param epochDay
+     * @return {@link CopticDate}
+     */
+    @Override
+    public CopticDate dateEpochDay(long epochDay) {
+        EPOCH_DAY.checkValidValue(epochDay);
+        return CopticDate.ofValidEpochDay(epochDay);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param temporal
+     * @return {@link CopticDate}
+     */
+    @Override
+    public CopticDate date(TemporalAccessor temporal) {
+        if (temporal instanceof CopticDate) {
+            return (CopticDate) temporal;
+        }
+        if (temporal instanceof EthiopianDate) {
+            // the same day of the same month, 276 years earlier
+            return CopticDate.of((EthiopianDate) temporal);
+        }
+        return CopticDate.ofValidEpochDay(temporal.getLong(EPOCH_DAY));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link CopticDate}
+     */
+    @Override
+    public CopticDate dateNow() {
+        return date(EthiopianClock.systemDefaultZone().today());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param zone
+     * @return {@link CopticDate}
+     */
+    @Override
+    public CopticDate dateNow(ZoneId zone) {
+        return date(EthiopianClock.system(zone).today());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param clock
+     * @return {@link CopticDate}
+     */
+    @Override
+    public CopticDate dateNow(Clock clock) {
+        return date(EthiopianClock.of(clock).today());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param prolepticYear
+     * @return true for the year before a Coptic year divisible by 4
+     */
+    @Override
+    public boolean isLeapYear(long prolepticYear) {
+        return Math.floorMod(prolepticYear, 4) == 3;
+    }
+
+    @Override
+    public int prolepticYear(Era era, int yearOfEra) {
+        if (!(era instanceof CopticEra)) {
+            throw new ClassCastException("Era must be CopticEra");
+        }
+        // the year 0 is the year 1 before the Era of the Martyrs
+        return era == CopticEra.AM ? yearOfEra : 1 - yearOfEra;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param eraValue
+     * @return {@link CopticEra}
+     */
+    @Override
+    public CopticEra eraOf(int eraValue) {
+        return CopticEra.eraOf(eraValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the eras
+     */
+    @Override
+    public List<Era> eras() {
+        return Arrays.<Era>asList(CopticEra.values());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param field
+     * @return {@link ValueRange}
+     */
+    @Override
+    public ValueRange range(ChronoField field) {
+        switch (field) {
+            case DAY_OF_MONTH:
+                return ValueRange.of(1, 5, 30);
+            case MONTH_OF_YEAR:
+                return ValueRange.of(1, 13);
+            case DAY_OF_YEAR:
+                return ValueRange.of(1, 365, 366);
+            case ALIGNED_WEEK_OF_MONTH:
+                return ValueRange.of(1, 1, 5);
+            case ALIGNED_WEEK_OF_YEAR:
+                return ValueRange.of(1, 53);
+            case ERA:
+                return ValueRange.of(0, 1);
+            default:
+                return field.range();
+        }
+    }
+
+}
@@ -0,0 +1,536 @@
+package com.andegna.chrono;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoPeriod;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAmount;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.time.temporal.ValueRange;
+
+/**
+ * A date of the {@link CopticChronology}.
+ * <p>
+ * Like {@link EthiopianDate} the fields and the epoch day are kept, the
+ * fields are read and the arithmetic is done without a conversion. The
+ * year is proleptic, 0 is the year 1 before the Era of the Martyrs.
+ */
+public final class CopticDate implements ChronoLocalDate, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The years from the Coptic year to the Amete Mihret year of the same
+     * days
+     */
+    static final int AMETE_MIHRET_YEARS = 276;
+
+    // the Julian day number of the day before the year 1, less 365
+    private static final int EPOCH_OFFSET = 1824665;
+
+    private final int year;
+    private final int month;
+    private final int day;
+    // computed once, every comparison and arithmetic is served from it
+    private final long epochDay;
+
+    CopticDate(int prolepticYear, int month, int day) {
+        validate(prolepticYear, month, day);
+        this.year = prolepticYear;
+        this.month = month;
+        this.day = day;
+        this.epochDay = EthiopianConversions.toEpochDay(EPOCH_OFFSET, prolepticYear, month, day);
+    }
+
+    // for already validated fields whose epoch day is known
+    private CopticDate(int prolepticYear, int month, int day, long epochDay) {
+        this.year = prolepticYear;
+        this.month = month;
+        this.day = day;
+        this.epochDay = epochDay;
+    }
+
+    public static CopticDate now() {
+        return CopticChronology.INSTANCE.dateNow();
+    }
+
+    /**
+     * @param zone the time zone
+     * @return the current date in the zone
+     */
+    public static CopticDate now(ZoneId zone) {
+        return CopticChronology.INSTANCE.dateNow(zone);
+    }
+
+    /**
+     * @param clock the clock
+     * @return the current date of the clock
+     */
+    public static CopticDate now(Clock clock) {
+        return CopticChronology.INSTANCE.dateNow(clock);
+    }
+
+    public static CopticDate from(TemporalAccessor temporal) {
+        return CopticChronology.INSTANCE.date(temporal);
+    }
+
+    public static CopticDate of(int prolepticYear, int month, int dayOfMonth) {
+        return new CopticDate(prolepticYear, month, dayOfMonth);
+    }
+
+    public static CopticDate ofEpochDay(long epochDay) {
+        return CopticChronology.INSTANCE.dateEpochDay(epochDay);
+    }
+
+    public static CopticDate ofYearDay(int prolepticYear, int dayOfYear) {
+        return CopticChronology.INSTANCE.dateYearDay(prolepticYear, dayOfYear);
+    }
+
+    // the same day, the months and leap years of both calendars match
+    static CopticDate of(EthiopianDate date) {
+        return new CopticDate((int) (date.ameteMihretYear() - AMETE_MIHRET_YEARS),
+                date.getMonth(), date.getDay(), date.toEpochDay());
+    }
+
+    // through the Ethiopian engine and its year table
+    static CopticDate ofValidEpochDay(long epochDay) {
+        long packed = EthiopianConversions.epochDayToPackedEthiopic(epochDay);
+        return new CopticDate((int) (EthiopianConversions.ameteMihretYear(packed) - AMETE_MIHRET_YEARS),
+                EthiopianConversions.unpackMonth(packed), EthiopianConversions.unpackDay(packed),
+                epochDay);
+    }
+
+    // the leap years are those of the Ethiopian calendar
+    static void validate(int prolepticYear, int month, int day) {
+        if (1 > day || day > 30) {
+            throw new DateTimeException("Invalid date '" + day + "'. Day must be between 1-30");
+        } else if (1 > month || month > 13) {
+            throw new DateTimeException("Invalid month '" + month + "'. Month must be between 1-13");
+        } else if (month == 13 && day > 6) {
+            throw new DateTimeException("Invalid date 'Nasie " + day + "' " + prolepticYear);
+        } else if (month == 13 && day > 5 && !CopticChronology.INSTANCE.isLeapYear(prolepticYear)) {
+            throw new DateTimeException("Invalid date 'Nasie 6' as '" + prolepticYear
+                    + "' is not a leap year");
+        }
+    }
+
+    @Override
+    public CopticChronology getChronology() {
+        return CopticChronology.INSTANCE;
+    }
+
+    @Override
+    public CopticEra getEra() {
+        return year >= 1 ? CopticEra.AM : CopticEra.BEFORE_AM;
+    }
+
+    @Override
+    public boolean isLeapYear() {
+        return Math.floorMod(year, 4) == 3;
+    }
+
+    @Override
+    public int lengthOfMonth() {
+        return month < 13 ? 30 : isLeapYear() ? 6 : 5;
+    }
+
+    @Override
+    public int lengthOfYear() {
+        return isLeapYear() ? 366 : 365;
+    }
+
+    @Override
+    public long getLong(TemporalField field) {
+        if (field instanceof ChronoField) {
+            switch ((ChronoField) field) {
+                case DAY_OF_MONTH:
+                    return day;
+                case MONTH_OF_YEAR:
+                    return month;
+                case YEAR:
+                    return year;
+                case YEAR_OF_ERA:
+                    return year >= 1 ? year : 1 - year;
+                case ERA:
+                    return year >= 1 ? 1 : 0;
+                case EPOCH_DAY:
+                    return epochDay;
+                case DAY_OF_YEAR:
+                    return (month - 1) * 30 + day;
+                case PROLEPTIC_MONTH:
+                    return prolepticMonth();
+                case DAY_OF_WEEK:
+                    // the epoch day 0 was a Thursday
+                    return Math.floorMod(epochDay + 3, 7) + 1;
+                case ALIGNED_DAY_OF_WEEK_IN_MONTH:
+                    return (day - 1) % 7 + 1;
+                case ALIGNED_DAY_OF_WEEK_IN_YEAR:
+                    return ((month - 1) * 30 + day - 1) % 7 + 1;
+                case ALIGNED_WEEK_OF_MONTH:
+                    return (day - 1) / 7 + 1;
+                case ALIGNED_WEEK_OF_YEAR:
+                    return ((month - 1) * 30 + day - 1) / 7 + 1;
+            }
+            throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+        }
+        return field.getFrom(this);
+    }
+
+    @Override
+    public int get(TemporalField field) {
+        return (int) getLong(field);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The ranges of the day and aligned week fields are those of the month
+     * and year of this date, the others those of the chronology.
+     *
+     * @param field
+     * @return {@link ValueRange}
+     */
+    @Override
+    public ValueRange range(TemporalField field) {
+        if (field instanceof ChronoField) {
+            if (!isSupported(field)) {
+                throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+            }
+            switch ((ChronoField) field) {
+                case DAY_OF_MONTH:
+                    return ValueRange.of(1, lengthOfMonth());
+                case DAY_OF_YEAR:
+                    return ValueRange.of(1, lengthOfYear());
+                case ALIGNED_WEEK_OF_MONTH:
+                    return ValueRange.of(1, month == 13 ? 1 : 5);
+            }
+            return getChronology().range((ChronoField) field);
+        }
+        return field.rangeRefinedBy(this);
+    }
+
+    @Override
+    public CopticDate with(TemporalAdjuster adjuster) {
+        return (CopticDate) adjuster.adjustInto(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Setting the month, year or era keeps the day of month, clamped to the
+     * length of Nasie.
+     *
+     * @param field
+     * @param newValue
+     * @return {@link CopticDate}
+     */
+    @Override
+    public CopticDate with(TemporalField field, long newValue) {
+        if (field instanceof ChronoField) {
+            ChronoField f = (ChronoField) field;
+            long value = getLong(f);
+            if (value == newValue) {
+                return this;
+            }
+            range(f).checkValidValue(newValue, f);
+            int nvalue = (int) newValue;
+            switch (f) {
+                case DAY_OF_MONTH:
+                    return of(year, month, nvalue);
+                case DAY_OF_YEAR:
+                    return ofYearDay(year, nvalue);
+                case MONTH_OF_YEAR:
+                    return resolve(year, nvalue, day);
+                case YEAR:
+                    return resolve(nvalue, month, day);
+                case YEAR_OF_ERA:
+                    return resolve(year >= 1 ? nvalue : 1 - nvalue, month, day);
+                case ERA:
+                    return resolve(1 - year, month, day);
+                case EPOCH_DAY:
+                    return ofEpochDay(newValue);
+                case PROLEPTIC_MONTH:
+                    return plusMonths(newValue - value);
+                case DAY_OF_WEEK:
+                case ALIGNED_DAY_OF_WEEK_IN_MONTH:
+                case ALIGNED_DAY_OF_WEEK_IN_YEAR:
+                    return plusDays(newValue - value);
+                case ALIGNED_WEEK_OF_MONTH:
+                case ALIGNED_WEEK_OF_YEAR:
+                    return plusDays((newValue - value) * 7);
+            }
+            throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+        }
+        return field.adjustInto(this, newValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A {@link Period} is applied in Coptic years, months and days, in that
+     * order, any other amount adds itself through this date's units.
+     *
+     * @param amount
+     * @return {@link CopticDate}
+     */
+    @Override
+    public CopticDate plus(TemporalAmount amount) {
+        if (amount instanceof Period) {
+            Period period = (Period) amount;
+            return plusYears(period.getYears())
+                    .plusMonths(period.getMonths())
+                    .plusDays(period.getDays());
+        }
+        return (CopticDate) amount.addTo(this);
+    }
+
+    @Override
+    public CopticDate plus(long amountToAdd, TemporalUnit unit) {
+        if (unit instanceof ChronoUnit) {
+            switch ((ChronoUnit) unit) {
+                case DAYS:
+                    return plusDays(amountToAdd);
+                case WEEKS:
+                    return plusDays(Math.multiplyExact(amountToAdd, 7));
+                case MONTHS:
+                    return plusMonths(amountToAdd);
+                case YEARS:
+                    return plusYears(amountToAdd);
+                case DECADES:
+                    return plusYears(Math.multiplyExact(amountToAdd, 10));
+                case CENTURIES:
+                    return plusYears(Math.multiplyExact(amountToAdd, 100));
+                case MILLENNIA:
+                    return plusYears(Math.multiplyExact(amountToAdd, 1000));
+                case ERAS:
+                    return with(ChronoField.ERA, Math.addExact(getLong(ChronoField.ERA), amountToAdd));
+            }
+            throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+        }
+        return unit.addTo(this, amountToAdd);
+    }
+
+    @Override
+    public CopticDate minus(TemporalAmount amount) {
+        if (amount instanceof Period) {
+            Period period = (Period) amount;
+            return minusYears(period.getYears())
+                    .minusMonths(period.getMonths())
+                    .minusDays(period.getDays());
+        }
+        return (CopticDate) amount.subtractFrom(this);
+    }
+
+    @Override
+    public CopticDate minus(long amountToSubtract, TemporalUnit unit) {
+        return (amountToSubtract == Long.MIN_VALUE)
+                ? plus(Long.MAX_VALUE, unit).plus(1, unit)
+                : plus(-amountToSubtract, unit);
+    }
+
+    public CopticDate plusDays(long days) {
+        return days == 0 ? this : ofEpochDay(Math.addExact(epochDay, days));
+    }
+
+    public CopticDate plusMonths(long months) {
+        if (months == 0) {
+            return this;
+        }
+        long monthCount = Math.addExact(prolepticMonth(), months);
+        return resolve(Math.floorDiv(monthCount, 13), (int) Math.floorMod(monthCount, 13) + 1, day);
+    }
+
+    public CopticDate plusYears(long years) {
+        return years == 0 ? this : resolve(Math.addExact(year, years), month, day);
+    }
+
+    public CopticDate minusDays(long days) {
+        return days == Long.MIN_VALUE
+                ? plusDays(Long.MAX_VALUE).plusDays(1) : plusDays(-days);
+    }
+
+    public CopticDate minusMonths(long months) {
+        return months == Long.MIN_VALUE
+                ? plusMonths(Long.MAX_VALUE).plusMonths(1) : plusMonths(-months);
+    }
+
+    public CopticDate minusYears(long years) {
+        return years == Long.MIN_VALUE
+                ? plusYears(Long.MAX_VALUE).plusYears(1) : plusYears(-years);
+    }
+
+    // clamps the day of Nasie to the length of the month
+    private static CopticDate resolve(long prolepticYear, int month, int day) {
+        int year = ChronoField.YEAR.checkValidIntValue(prolepticYear);
+        if (month == 13 && day > 5) {
+            day = CopticChronology.INSTANCE.isLeapYear(year) ? 6 : 5;
+        }
+        return new CopticDate(year, month, day);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The period is counted in Coptic years of 13 months, like
+     * {@link java.time.LocalDate#until(ChronoLocalDate)}.
+     *
+     * @param endDateExclusive
+     * @return {@link ChronoPeriod}
+     */
+    @Override
+    public ChronoPeriod until(ChronoLocalDate endDateExclusive) {
+        CopticDate end = CopticDate.from(endDateExclusive);
+        long totalMonths = end.prolepticMonth() - prolepticMonth();
+        int days = end.day - day;
+        if (totalMonths > 0 && days < 0) {
+            totalMonths--;
+            days = (int) (end.epochDay - plusMonths(totalMonths).epochDay);
+        } else if (totalMonths < 0 && days > 0) {
+            totalMonths++;
+            days -= end.lengthOfMonth();
+        }
+        return getChronology().period(Math.toIntExact(totalMonths / 13),
+                (int) (totalMonths % 13), days);
+    }
+
+    @Override
+    public long until(Temporal endExclusive, TemporalUnit unit) {
+        CopticDate end = CopticDate.from(endExclusive);
+        if (unit instanceof ChronoUnit) {
+            switch ((ChronoUnit) unit) {
+                case DAYS:
+                    return end.epochDay - epochDay;
+                case WEEKS:
+                    return (end.epochDay - epochDay) / 7;
+                case MONTHS:
+                    return monthsUntil(end);
+                case YEARS:
+                    return monthsUntil(end) / 13;
+                case DECADES:
+                    return monthsUntil(end) / 130;
+                case CENTURIES:
+                    return monthsUntil(end) / 1300;
+                case MILLENNIA:
+                    return monthsUntil(end) / 13000;
+                case ERAS:
+                    return end.getLong(ChronoField.ERA) - getLong(ChronoField.ERA);
+            }
+            throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+        }
+        return unit.between(this, end);
+    }
+
+    // the whole months, a month is complete when the day of month is reached
+    private long monthsUntil(CopticDate end) {
+        long months = end.prolepticMonth() - prolepticMonth();
+        if (months > 0 && end.day < day) {
+            months--;
+        } else if (months < 0 && end.day > day) {
+            months++;
+        }
+        return months;
+    }
+
+    // the months since Thout of the year 0
+    private long prolepticMonth() {
+        return year * 13L + month - 1;
+    }
+
+    @Override
+    public long toEpochDay() {
+        return epochDay;
+    }
+
+    @Override
+    public int compareTo(ChronoLocalDate other) {
+        if (other instanceof CopticDate) {
+            return Long.compare(epochDay, ((CopticDate) other).epochDay);
+        }
+        return ChronoLocalDate.super.compareTo(other);
+    }
+
+    @Override
+    public boolean isAfter(ChronoLocalDate other) {
+        return epochDay > other.toEpochDay();
+    }
+
+    @Override
+    public boolean isBefore(ChronoLocalDate other) {
+        return epochDay < other.toEpochDay();
+    }
+
+    @Override
+    public boolean isEqual(ChronoLocalDate other) {
+        return epochDay == other.toEpochDay();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof CopticDate && epochDay == ((CopticDate) obj).epochDay;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(epochDay);
+    }
+
+    /**
+     * @return the date like {@link java.time.chrono.HijrahDate}, eg:-
+     * Coptic AM 1740-05-13
+     */
+    @Override
+    public String toString() {
+        return getChronology().getId() + ' ' + getEra() + ' ' + get(ChronoField.YEAR_OF_ERA)
+                + (month < 10 ? "-0" : "-") + month + (day < 10 ? "-0" : "-") + day;
+    }
+
+    /**
+     * Writes the date as a {@link SerializationProxy}.
+     *
+     * @return the proxy
+     */
+    private Object writeReplace() {
+        return new SerializationProxy(this);
+    }
+
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("Deserialization via serialization proxy");
+    }
+
+    // the proleptic year, and the month and day in a short
+    private static final class SerializationProxy implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int year;
+        private final short fields;
+
+        SerializationProxy(CopticDate date) {
+            this.year = date.year;
+            this.fields = (short) (date.month << 5 | date.day);
+        }
+
+        private Object readResolve() throws InvalidObjectException {
+            try {
+                return new CopticDate(year, fields >> 5 & 0xf, fields & 0x1f);
+            } catch (DateTimeException ex) {
+                InvalidObjectException invalid = new InvalidObjectException(ex.getMessage());
+                invalid.initCause(ex);
+                throw invalid;
+            }
+        }
+    }
+
+}
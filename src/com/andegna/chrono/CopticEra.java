@@ -0,0 +1,34 @@
+package com.andegna.chrono;
+
+import java.time.DateTimeException;
+import java.time.chrono.Era;
+
+/**
+ * The eras of the {@link CopticChronology}: the Era of the Martyrs
+ * (Anno Martyrum) from the 29th of August 284 (Julian), and the years
+ * before it counted backwards from 1.
+ */
+public enum CopticEra implements Era {
+
+    BEFORE_AM,
+    AM;
+
+    @Override
+    public int getValue() {
+        return ordinal();
+    }
+
+    /**
+     * @param eraValue 0 for {@link #BEFORE_AM}, 1 for {@link #AM}
+     * @return the {@link CopticEra}
+     */
+    public static CopticEra eraOf(int eraValue) {
+        switch (eraValue) {
+            case 0:
+                return BEFORE_AM;
+            case 1:
+                return AM;
+        }
+        throw new DateTimeException("invalid Coptic era");
+    }
+}
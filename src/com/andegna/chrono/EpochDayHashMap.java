@@ -0,0 +1,46 @@
+package com.andegna.chrono;
+
+import java.time.chrono.ChronoLocalDate;
+
+/**
+ * The keys of the primitive date maps, the subclasses only add their values.
+ */
+abstract class EpochDayHashMap extends EpochDayHashTable {
+
+    EpochDayHashMap(int expectedSize) {
+        super(expectedSize);
+    }
+
+    /**
+     * @param date the key
+     * @return whether the date is a key
+     */
+    public boolean containsKey(ChronoLocalDate date) {
+        return containsKey(date.toEpochDay());
+    }
+
+    /**
+     * @param epochDay the epoch day of the key
+     * @return whether the date is a key
+     */
+    public boolean containsKey(long epochDay) {
+        return indexOf(epochDay) >= 0;
+    }
+
+    /**
+     * @param date the key
+     * @return whether the date was a key
+     */
+    public boolean remove(ChronoLocalDate date) {
+        return remove(date.toEpochDay());
+    }
+
+    /**
+     * @param epochDay the epoch day of the key
+     * @return whether the date was a key
+     */
+    public boolean remove(long epochDay) {
+        return removeKey(epochDay);
+    }
+
+}
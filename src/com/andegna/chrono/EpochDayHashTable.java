@@ -0,0 +1,186 @@
+package com.andegna.chrono;
+
+import java.util.Arrays;
+
+/**
+ * The open addressing table of epoch days shared by the primitive date
+ * collections, linear probing with Fibonacci hashing and backward shift
+ * deletion.
+ * <p>
+ * The keys are handled here, the maps only keep their values in an array
+ * parallel to the keys and are told when entries move.
+ */
+abstract class EpochDayHashTable {
+
+    // not an epoch day of LocalDate
+    static final long EMPTY = Long.MIN_VALUE;
+
+    private static final long GOLDEN = 0x9e3779b97f4a7c15L;
+    private static final int MIN_CAPACITY = 8;
+
+    long[] keys;
+    int size;
+    private int shift;
+    private int maxSize;
+
+    EpochDayHashTable(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Invalid expected size " + expectedSize);
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    // a power of two kept at most 3/4 full
+    private static int capacityFor(int expectedSize) {
+        long needed = Math.max(MIN_CAPACITY, expectedSize * 4L / 3 + 1);
+        if (needed > 1 << 30) {
+            throw new IllegalArgumentException("Too many dates " + expectedSize);
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        shift = 64 - Integer.numberOfTrailingZeros(capacity);
+        maxSize = capacity / 4 * 3;
+    }
+
+    private int home(long key) {
+        return (int) ((key * GOLDEN) >>> shift);
+    }
+
+    // the slot holding the key, or the empty slot it would go to
+    private int slot(long key) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Invalid epoch day " + key);
+        }
+        int mask = keys.length - 1;
+        int i = home(key);
+        long k;
+        while ((k = keys[i]) != EMPTY && k != key) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    /**
+     * @param key the epoch day
+     * @return the slot holding the key, or -1
+     */
+    final int indexOf(long key) {
+        int slot = slot(key);
+        return keys[slot] == key ? slot : -1;
+    }
+
+    /**
+     * Adds a key if it is missing, growing the table when it is full.
+     *
+     * @param key the epoch day
+     * @return the slot of a key already there, or {@code ~slot} of a key
+     * just added, whose value is not set yet
+     */
+    final int addKey(long key) {
+        int slot = slot(key);
+        if (keys[slot] == key) {
+            return slot;
+        }
+        keys[slot] = key;
+        if (++size > maxSize) {
+            grow();
+            slot = slot(key);
+        }
+        return ~slot;
+    }
+
+    /**
+     * @param key the epoch day
+     * @return whether the key was there
+     */
+    final boolean removeKey(long key) {
+        int slot = slot(key);
+        if (keys[slot] != key) {
+            return false;
+        }
+        removeAt(slot);
+        return true;
+    }
+
+    // shifts back the keys probed past the slot
+    private void removeAt(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        int i = slot;
+        while (true) {
+            i = (i + 1) & mask;
+            long k = keys[i];
+            if (k == EMPTY) {
+                break;
+            }
+            // move the key unless its home is between the hole and it
+            if (((i - home(k)) & mask) >= ((i - hole) & mask)) {
+                keys[hole] = k;
+                moveValue(i, hole);
+                hole = i;
+            }
+        }
+        keys[hole] = EMPTY;
+        size--;
+    }
+
+    /**
+     * Removes every key, keeping the capacity.
+     */
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    /**
+     * @return the number of dates
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return whether there is no date
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        allocate(oldKeys.length * 2);
+        int[] newSlots = new int[oldKeys.length];
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key == EMPTY) {
+                newSlots[i] = -1;
+            } else {
+                int slot = slot(key);
+                keys[slot] = key;
+                newSlots[i] = slot;
+            }
+        }
+        relocateValues(newSlots, keys.length);
+    }
+
+    /**
+     * Copies the value of a slot to another slot.
+     *
+     * @param from the slot of the value
+     * @param to the slot receiving it
+     */
+    abstract void moveValue(int from, int to);
+
+    /**
+     * Moves the values to a new array after the table has grown.
+     *
+     * @param newSlots the new slot of every old slot, -1 for the empty ones
+     * @param capacity the new capacity
+     */
+    abstract void relocateValues(int[] newSlots, int capacity);
+
+}
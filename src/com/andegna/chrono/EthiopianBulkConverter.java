@@ -0,0 +1,225 @@
+package com.andegna.chrono;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Converts whole columns of dates between epoch days and Ethiopian year,
+ * month and day arrays.
+ * <p>
+ * The loops are kept free of allocation, calls and data dependent branches
+ * so the JIT can unroll them. Years are counted continuously in Amete
+ * Mihret: the year before 1 is 0, which is 5500 Amete Alem, and so on.
+ * Inputs are not validated, an epoch day outside the range of
+ * {@link java.time.LocalDate} gives an unspecified result.
+ * <p>
+ * The {@code parallel} methods split the columns into chunks converted on a
+ * {@link ForkJoinPool}. The conversion is stateless, so the results are
+ * identical to the sequential methods.
+ * <p>
+ * On Java 17 and later, with {@code --add-modules jdk.incubator.vector},
+ * the loops convert a vector of dates per iteration, see
+ * {@link #isVectorized()}. The results are the same.
+ */
+public final class EthiopianBulkConverter {
+
+    /**
+     * The default number of dates converted by one parallel task
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 14;
+
+    /**
+     * The system property that keeps the loops off the Vector API when
+     * false
+     */
+    public static final String VECTOR_PROPERTY = "com.andegna.chrono.bulk.vector";
+
+    // prevent instantiation
+    private EthiopianBulkConverter() {
+    }
+
+    /**
+     * Converts every epoch day to an Ethiopian date.
+     *
+     * @param epochDays the epoch days to convert
+     * @param years receives the continuous Amete Mihret years
+     * @param months receives the months of year
+     * @param days receives the days of month
+     */
+    public static void epochDaysToEthiopic(long[] epochDays,
+            int[] years, byte[] months, byte[] days) {
+        epochDaysToEthiopic(epochDays, 0, epochDays.length, years, months, days);
+    }
+
+    /**
+     * Converts the epoch days between {@code from} inclusive and {@code to}
+     * exclusive, the results are written at the same indexes.
+     *
+     * @param epochDays the epoch days to convert
+     * @param from the first index
+     * @param to the index after the last one
+     * @param years receives the continuous Amete Mihret years
+     * @param months receives the months of year
+     * @param days receives the days of month
+     */
+    public static void epochDaysToEthiopic(long[] epochDays, int from, int to,
+            int[] years, byte[] months, byte[] days) {
+        checkRange(from, to, epochDays.length, years.length, months.length, days.length);
+        BulkKernel.INSTANCE.epochDaysToEthiopic(epochDays, from, to, years, months, days);
+    }
+
+    /**
+     * Converts every Ethiopian date to an epoch day.
+     *
+     * @param years the continuous Amete Mihret years
+     * @param months the months of year
+     * @param days the days of month
+     * @param epochDays receives the epoch days
+     */
+    public static void ethiopicToEpochDays(int[] years, byte[] months, byte[] days,
+            long[] epochDays) {
+        ethiopicToEpochDays(years, months, days, epochDays, 0, years.length);
+    }
+
+    /**
+     * Converts the Ethiopian dates between {@code from} inclusive and
+     * {@code to} exclusive, the results are written at the same indexes.
+     *
+     * @param years the continuous Amete Mihret years
+     * @param months the months of year
+     * @param days the days of month
+     * @param epochDays receives the epoch days
+     * @param from the first index
+     * @param to the index after the last one
+     */
+    public static void ethiopicToEpochDays(int[] years, byte[] months, byte[] days,
+            long[] epochDays, int from, int to) {
+        checkRange(from, to, years.length, months.length, days.length, epochDays.length);
+        BulkKernel.INSTANCE.ethiopicToEpochDays(years, months, days, epochDays, from, to);
+    }
+
+    /**
+     * Converts every epoch day to an Ethiopian date on the common
+     * {@link ForkJoinPool}.
+     *
+     * @param epochDays the epoch days to convert
+     * @param years receives the continuous Amete Mihret years
+     * @param months receives the months of year
+     * @param days receives the days of month
+     */
+    public static void parallelEpochDaysToEthiopic(long[] epochDays,
+            int[] years, byte[] months, byte[] days) {
+        parallelEpochDaysToEthiopic(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE,
+                epochDays, years, months, days);
+    }
+
+    /**
+     * Converts every epoch day to an Ethiopian date on the given pool, in
+     * tasks of at most {@code chunkSize} dates.
+     *
+     * @param pool the pool running the conversion
+     * @param chunkSize the largest number of dates of a task
+     * @param epochDays the epoch days to convert
+     * @param years receives the continuous Amete Mihret years
+     * @param months receives the months of year
+     * @param days receives the days of month
+     */
+    public static void parallelEpochDaysToEthiopic(ForkJoinPool pool, int chunkSize,
+            final long[] epochDays, final int[] years, final byte[] months, final byte[] days) {
+        checkRange(0, epochDays.length, years.length, months.length, days.length);
+        pool.invoke(new ConversionTask(0, epochDays.length, chunkSize,
+                (from, to) -> epochDaysToEthiopic(epochDays, from, to, years, months, days)));
+    }
+
+    /**
+     * Converts every Ethiopian date to an epoch day on the common
+     * {@link ForkJoinPool}.
+     *
+     * @param years the continuous Amete Mihret years
+     * @param months the months of year
+     * @param days the days of month
+     * @param epochDays receives the epoch days
+     */
+    public static void parallelEthiopicToEpochDays(int[] years, byte[] months, byte[] days,
+            long[] epochDays) {
+        parallelEthiopicToEpochDays(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE,
+                years, months, days, epochDays);
+    }
+
+    /**
+     * Converts every Ethiopian date to an epoch day on the given pool, in
+     * tasks of at most {@code chunkSize} dates.
+     *
+     * @param pool the pool running the conversion
+     * @param chunkSize the largest number of dates of a task
+     * @param years the continuous Amete Mihret years
+     * @param months the months of year
+     * @param days the days of month
+     * @param epochDays receives the epoch days
+     */
+    public static void parallelEthiopicToEpochDays(ForkJoinPool pool, int chunkSize,
+            final int[] years, final byte[] months, final byte[] days, final long[] epochDays) {
+        checkRange(0, years.length, months.length, days.length, epochDays.length);
+        pool.invoke(new ConversionTask(0, years.length, chunkSize,
+                (from, to) -> ethiopicToEpochDays(years, months, days, epochDays, from, to)));
+    }
+
+    /**
+     * @return true when the conversions run on the incubating Vector API,
+     * false when they run one date at a time
+     */
+    public static boolean isVectorized() {
+        return BulkKernel.INSTANCE.isVectorized();
+    }
+
+    private static void checkRange(int from, int to, int... lengths) {
+        if (from < 0 || from > to) {
+            throw new IndexOutOfBoundsException("Invalid range " + from + " to " + to);
+        }
+        for (int length : lengths) {
+            if (to > length) {
+                throw new IndexOutOfBoundsException("Range end " + to
+                        + " is beyond an array of length " + length);
+            }
+        }
+    }
+
+    // converts the dates between two indexes
+    private interface RangeConversion {
+
+        void convert(int from, int to);
+    }
+
+    // halves its range until it is at most chunkSize long
+    private static final class ConversionTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final RangeConversion conversion;
+
+        ConversionTask(int from, int to, int chunkSize, RangeConversion conversion) {
+            if (chunkSize < 1) {
+                throw new IllegalArgumentException("Invalid chunk size " + chunkSize);
+            }
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.conversion = conversion;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                conversion.convert(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ConversionTask(from, middle, chunkSize, conversion),
+                    new ConversionTask(middle, to, chunkSize, conversion));
+        }
+    }
+
+}
@@ -0,0 +1,360 @@
+package com.andegna.chrono;
+
+import java.time.DayOfWeek;
+import java.time.chrono.ChronoLocalDate;
+import java.time.temporal.ChronoField;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Business day arithmetic over the Ethiopian calendar: weekends,
+ * {@link EthiopianHoliday public holidays} and custom holidays of a shop.
+ * <p>
+ * Every Ethiopian year is turned once into a bitmap of its business days,
+ * 6 {@code long} words, with the number of business days before each word.
+ * Counting the business days between two dates is then a bit count of two
+ * partial words plus the totals of the years in between, and adding
+ * business days selects a bit in one word, instead of a walk over the
+ * dates. The bitmaps of the years 1800 to 2199 are kept once computed, the
+ * others are computed on every call.
+ * <p>
+ * Calendars are immutable and thread safe, the {@code with} methods return
+ * a new calendar.
+ */
+public final class EthiopianBusinessCalendar {
+
+    // the years whose bitmaps are kept, in Amete Mihret
+    private static final int FIRST_KEPT_YEAR = 1800;
+    private static final int KEPT_YEARS = 400;
+
+    // the weekdays, bit 0 for Monday
+    private static final int SATURDAY_AND_SUNDAY = 0b1100000;
+
+    private static final EthiopianBusinessCalendar STANDARD = new EthiopianBusinessCalendar(
+            EnumSet.allOf(EthiopianHoliday.class), SATURDAY_AND_SUNDAY,
+            new int[0], EthiopianDateArray.ofEpochDays(new long[0]));
+
+    private final Set<EthiopianHoliday> holidays;
+    private final int weekend;
+    // month << 5 | day of the holidays of every year, sorted
+    private final int[] annualHolidays;
+    private final EthiopianDateArray customHolidays;
+
+    private final AtomicReferenceArray<Year> years = new AtomicReferenceArray<>(KEPT_YEARS);
+
+    private EthiopianBusinessCalendar(Set<EthiopianHoliday> holidays, int weekend,
+            int[] annualHolidays, EthiopianDateArray customHolidays) {
+        this.holidays = holidays;
+        this.weekend = weekend;
+        this.annualHolidays = annualHolidays;
+        this.customHolidays = customHolidays;
+    }
+
+    /**
+     * @return the calendar of every {@link EthiopianHoliday} with Saturday
+     * and Sunday off
+     */
+    public static EthiopianBusinessCalendar standard() {
+        return STANDARD;
+    }
+
+    /**
+     * @param dates the days off on top of the holidays of this calendar
+     * @return the calendar with the dates as holidays
+     */
+    public EthiopianBusinessCalendar withHolidays(Collection<? extends ChronoLocalDate> dates) {
+        long[] epochDays = Arrays.copyOf(customHolidays.toEpochDayArray(),
+                customHolidays.size() + dates.size());
+        int i = customHolidays.size();
+        for (ChronoLocalDate date : dates) {
+            epochDays[i++] = date.toEpochDay();
+        }
+        return new EthiopianBusinessCalendar(holidays, weekend, annualHolidays,
+                EthiopianDateArray.ofEpochDays(epochDays));
+    }
+
+    /**
+     * @param date a day off on top of the holidays of this calendar
+     * @return the calendar with the date as a holiday
+     */
+    public EthiopianBusinessCalendar withHoliday(ChronoLocalDate date) {
+        return withHolidays(Arrays.asList(date));
+    }
+
+    /**
+     * A day off every year, Ṗagume 6 only counts in leap years.
+     *
+     * @param month the month of year, 1 to 13
+     * @param day the day of month
+     * @return the calendar with the day of every year as a holiday
+     */
+    public EthiopianBusinessCalendar withAnnualHoliday(int month, int day) {
+        // 3 is a leap year, so Ṗagume 6 is accepted
+        EthiopianDate.validate(3, month, day);
+        int[] annual = Arrays.copyOf(annualHolidays, annualHolidays.length + 1);
+        annual[annualHolidays.length] = month << 5 | day;
+        Arrays.sort(annual);
+        return new EthiopianBusinessCalendar(holidays, weekend, annual, customHolidays);
+    }
+
+    /**
+     * @param holiday a public holiday worked in
+     * @return the calendar without the public holiday
+     */
+    public EthiopianBusinessCalendar withoutHoliday(EthiopianHoliday holiday) {
+        Set<EthiopianHoliday> kept = EnumSet.noneOf(EthiopianHoliday.class);
+        kept.addAll(holidays);
+        kept.remove(holiday);
+        return new EthiopianBusinessCalendar(kept, weekend, annualHolidays, customHolidays);
+    }
+
+    /**
+     * @param days the days of the weekend, not all the seven
+     * @return the calendar with the given weekend
+     */
+    public EthiopianBusinessCalendar withWeekend(DayOfWeek... days) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        if (mask == 0b1111111) {
+            throw new IllegalArgumentException("There must be a business day in a week");
+        }
+        return new EthiopianBusinessCalendar(holidays, mask, annualHolidays, customHolidays);
+    }
+
+    /**
+     * @param date a date of any chronology
+     * @return whether the date is a working day
+     */
+    public boolean isBusinessDay(ChronoLocalDate date) {
+        long epochDay = date.toEpochDay();
+        Year year = yearOf(epochDay);
+        int dayOfYear = (int) (epochDay - year.start);
+        return (year.business[dayOfYear >>> 6] & 1L << dayOfYear) != 0;
+    }
+
+    /**
+     * @param date a date of any chronology
+     * @return whether the date is a public, annual or custom holiday,
+     * weekends aside
+     */
+    public boolean isHoliday(ChronoLocalDate date) {
+        long epochDay = date.toEpochDay();
+        Year year = yearOf(epochDay);
+        int dayOfYear = (int) (epochDay - year.start);
+        return (year.holidays[dayOfYear >>> 6] & 1L << dayOfYear) != 0;
+    }
+
+    /**
+     * @param year the year in Amete Mihret
+     * @return the holidays of the Ethiopian year, weekends aside
+     */
+    public EthiopianDateArray getHolidays(int year) {
+        Year bitmap = year(year);
+        long[] epochDays = new long[bitmap.holidayCount()];
+        int i = 0;
+        for (int w = 0; w < bitmap.holidays.length; w++) {
+            for (long word = bitmap.holidays[w]; word != 0; word &= word - 1) {
+                epochDays[i++] = bitmap.start + 64 * w + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return EthiopianDateArray.ofSortedUnique(epochDays);
+    }
+
+    /**
+     * Counts the business days from {@code startInclusive} to
+     * {@code endExclusive}, negated when the end is before the start.
+     *
+     * @param startInclusive the first date
+     * @param endExclusive the date after the last one
+     * @return the number of business days
+     */
+    public long businessDaysBetween(ChronoLocalDate startInclusive, ChronoLocalDate endExclusive) {
+        long start = startInclusive.toEpochDay();
+        long end = endExclusive.toEpochDay();
+        return start <= end ? countBetween(start, end) : -countBetween(end, start);
+    }
+
+    private long countBetween(long start, long end) {
+        Year first = yearOf(start);
+        Year last = yearOf(end);
+        long count = last.rank((int) (end - last.start)) - first.rank((int) (start - first.start));
+        for (long y = first.year; y < last.year; y++) {
+            count += year(y).total;
+        }
+        return count;
+    }
+
+    /**
+     * Moves a date by a number of business days, the date itself need not
+     * be a business day.
+     *
+     * @param date a date of any chronology
+     * @param businessDays the business days to move forward, or backward
+     * when negative
+     * @return the date when 0, or the business day reached
+     */
+    public EthiopianDate addBusinessDays(ChronoLocalDate date, long businessDays) {
+        long epochDay = date.toEpochDay();
+        if (businessDays == 0) {
+            return EthiopianDate.from(date);
+        }
+        Year year = yearOf(epochDay);
+        long remaining = Math.abs(businessDays);
+        if (businessDays > 0) {
+            // the business days from the day after the date to the year end
+            int before = year.rank((int) (epochDay - year.start) + 1);
+            while (remaining > year.total - before) {
+                remaining -= year.total - before;
+                year = year(year.year + 1);
+                before = 0;
+            }
+            return year.date(year.select((int) (before + remaining - 1)));
+        }
+        // the business days from the year start to the day before the date
+        int before = year.rank((int) (epochDay - year.start));
+        while (remaining > before) {
+            remaining -= before;
+            year = year(year.year - 1);
+            before = year.total;
+        }
+        return year.date(year.select((int) (before - remaining)));
+    }
+
+    /**
+     * @param date a date of any chronology
+     * @return the first business day after the date
+     */
+    public EthiopianDate nextBusinessDay(ChronoLocalDate date) {
+        return addBusinessDays(date, 1);
+    }
+
+    /**
+     * @param date a date of any chronology
+     * @return the last business day before the date
+     */
+    public EthiopianDate previousBusinessDay(ChronoLocalDate date) {
+        return addBusinessDays(date, -1);
+    }
+
+    private Year yearOf(long epochDay) {
+        long year = EthiopianConversions.ameteMihretYear(
+                EthiopianConversions.epochDayToPackedEthiopic(epochDay));
+        return year(year);
+    }
+
+    private Year year(long year) {
+        long index = year - FIRST_KEPT_YEAR;
+        if (index < 0 || index >= KEPT_YEARS) {
+            return new Year(year);
+        }
+        Year kept = years.get((int) index);
+        if (kept == null) {
+            // a racing thread computes an equal bitmap
+            kept = new Year(year);
+            years.lazySet((int) index, kept);
+        }
+        return kept;
+    }
+
+    /**
+     * The business days and the holidays of an Ethiopian year, a bit per
+     * day of year.
+     */
+    private final class Year {
+
+        final long year;
+        final long start;
+        final long[] business = new long[6];
+        final long[] holidays = new long[6];
+        // the business days before each word
+        final int[] before = new int[6];
+        final int total;
+
+        Year(long year) {
+            this.year = year;
+            this.start = EthiopianConversions.toEpochDay(
+                    EthiopianEra.AMETE_MIHRET.getEpochOffset(), year, 1, 1);
+            int length = Math.floorMod(year, 4) == 3 ? 366 : 365;
+            // the bitmaps cover the dates of LocalDate
+            ChronoField.EPOCH_DAY.checkValidValue(start);
+
+            for (EthiopianHoliday holiday : EthiopianBusinessCalendar.this.holidays) {
+                holiday.forEachEpochDay(year, epochDay -> set(holidays, epochDay - start));
+            }
+            for (int monthDay : annualHolidays) {
+                int month = monthDay >>> 5;
+                int day = monthDay & 0x1f;
+                if ((month - 1) * 30 + day <= length) {
+                    set(holidays, (month - 1) * 30 + day - 1);
+                }
+            }
+            for (int i = customHolidays.ceilingIndex(start);
+                    i < customHolidays.size() && customHolidays.getEpochDay(i) < start + length; i++) {
+                set(holidays, customHolidays.getEpochDay(i) - start);
+            }
+
+            // Monday is 0
+            int weekday = (int) Math.floorMod(start + 3, 7);
+            int count = 0;
+            for (int dayOfYear = 0; dayOfYear < length; dayOfYear++) {
+                if ((weekend & 1 << weekday) == 0 && !get(holidays, dayOfYear)) {
+                    set(business, dayOfYear);
+                }
+                if (++weekday == 7) {
+                    weekday = 0;
+                }
+            }
+            for (int w = 0; w < 6; w++) {
+                before[w] = count;
+                count += Long.bitCount(business[w]);
+            }
+            total = count;
+        }
+
+        private void set(long[] bits, long dayOfYear) {
+            bits[(int) dayOfYear >>> 6] |= 1L << dayOfYear;
+        }
+
+        private boolean get(long[] bits, int dayOfYear) {
+            return (bits[dayOfYear >>> 6] & 1L << dayOfYear) != 0;
+        }
+
+        // the business days before a day of year, up to the year length
+        int rank(int dayOfYear) {
+            int w = dayOfYear >>> 6;
+            return w == 6 ? total
+                    : before[w] + Long.bitCount(business[w] & ((1L << dayOfYear) - 1));
+        }
+
+        // the day of year of the business day of the given rank
+        int select(int rank) {
+            int w = 5;
+            while (before[w] > rank) {
+                w--;
+            }
+            long word = business[w];
+            for (int k = rank - before[w]; k > 0; k--) {
+                word &= word - 1;
+            }
+            return 64 * w + Long.numberOfTrailingZeros(word);
+        }
+
+        int holidayCount() {
+            int count = 0;
+            for (long word : holidays) {
+                count += Long.bitCount(word);
+            }
+            return count;
+        }
+
+        EthiopianDate date(int dayOfYear) {
+            return EthiopianDate.ofEpochDay(start + dayOfYear);
+        }
+    }
+
+}
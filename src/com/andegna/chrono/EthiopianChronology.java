@@ -1,7 +1,10 @@
 package com.andegna.chrono;
 
+import java.time.Clock;
 import java.time.DateTimeException;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.chrono.AbstractChronology;
 import java.time.chrono.Era;
 import java.time.temporal.ChronoField;
@@ -10,15 +13,11 @@ import java.time.temporal.TemporalAccessor;
 import java.time.temporal.ValueRange;
 import java.util.Arrays;
 import java.util.List;
-import org.ethiopic.EthiopicCalendar;
 
 public class EthiopianChronology extends AbstractChronology {
 
     public static final float VERSION = 0.1f;
 
-    // The underlying calender converter with the worst API ever
-    private static final EthiopicCalendar ETHIOPIC_CALENDAR = new EthiopicCalendar();
-
     /**
      * Singleton instance EthiopianChronology
      */
@@ -45,9 +44,8 @@ public class EthiopianChronology extends AbstractChronology {
      */
     @Override
     public String getCalendarType() {
-        /* FIXME: search for ethiopian calendar type identifier defined by the
-         * CLDR and Unicode Locale Data Markup Language(LDML) specifications */
-        return null;
+        // the calendar type identifier defined by CLDR/LDML
+        return "ethiopic";
     }
 
     /**
@@ -98,6 +96,19 @@ public class EthiopianChronology extends AbstractChronology {
         return date(prolepticYear, month, dayOfMonth);
     }
 
+    /**
+     * Obtains the day of a movable feast computed by {@link BahireHasab}.
+     *
+     * @param prolepticYear the proleptic year, negative in Amete Alem
+     * @param feast the movable feast
+     * @return {@link EthiopianDate}
+     */
+    public EthiopianDate dateFeast(int prolepticYear, EthiopianFeast feast) {
+        int year = prolepticYear > 0 ? prolepticYear
+                : Math.abs(prolepticYear) - EthiopianDate.AMETE_ALEM_YEARS;
+        return dateEpochDay(BahireHasab.feastEpochDay(year, feast));
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -106,18 +117,13 @@ public class EthiopianChronology extends AbstractChronology {
      */
     @Override
     public EthiopianDate dateEpochDay(long epochDay) {
-        // first get the IsoLocalDate from the epoch
-        LocalDate date = LocalDate.ofEpochDay(epochDay);
-        // second get the year, monthOfYear and dayOfYear
-        int year = date.get(ChronoField.YEAR);
-        int monthOfYear = date.get(ChronoField.MONTH_OF_YEAR);
-        int dayOfYear = date.get(ChronoField.DAY_OF_MONTH);
-        // third convert the iso date to ethiopic
-        int[] ethiopianDate = ETHIOPIC_CALENDAR.gregorianToEthiopic(
-                year, monthOfYear, dayOfYear);
-        // fourth call the date method with the returned value
-        // the returnd array hold 3 values in the year,month and day sequence
-        return date(ethiopianDate[0], ethiopianDate[1], ethiopianDate[2]);
+        // the shared instance when the day is in the configured table
+        EthiopianDate cached = EthiopianDateCache.getDefault().get(epochDay);
+        if (cached != null) {
+            return cached;
+        }
+        // the conversion engine is stateless, no need to go through LocalDate
+        return EthiopianConversions.toEthiopianDate(epochDay);
     }
 
     /**
@@ -138,6 +144,72 @@ public class EthiopianChronology extends AbstractChronology {
         return dateEpochDay(temporal.getLong(EPOCH_DAY));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link EthiopianDate}
+     */
+    @Override
+    public EthiopianDate dateNow() {
+        return EthiopianClock.systemDefaultZone().today();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param zone
+     * @return {@link EthiopianDate}
+     */
+    @Override
+    public EthiopianDate dateNow(ZoneId zone) {
+        return EthiopianClock.system(zone).today();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param clock
+     * @return {@link EthiopianDate}
+     */
+    @Override
+    public EthiopianDate dateNow(Clock clock) {
+        return EthiopianClock.of(clock).today();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param temporal
+     * @return {@link EthiopianDateTime}
+     */
+    @Override
+    public EthiopianDateTime localDateTime(TemporalAccessor temporal) {
+        return EthiopianDateTime.from(temporal);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param temporal
+     * @return {@link EthiopianZonedDateTime}
+     */
+    @Override
+    public EthiopianZonedDateTime zonedDateTime(TemporalAccessor temporal) {
+        return EthiopianZonedDateTime.from(temporal);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param instant
+     * @param zone
+     * @return {@link EthiopianZonedDateTime}
+     */
+    @Override
+    public EthiopianZonedDateTime zonedDateTime(Instant instant, ZoneId zone) {
+        return EthiopianZonedDateTime.ofInstant(instant, zone);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -148,13 +220,15 @@ public class EthiopianChronology extends AbstractChronology {
     public boolean isLeapYear(long prolepticYear) {
         // true if the year is the last of the 4 year cycle
         // eg:- 1999 % 4 = 3 --> leap year
-        return prolepticYear % 4 == 3;
+        // the proleptic year of Amete Alem is the negated year of era, the
+        // cycle is that of the year of era as 5500 is a multiple of 4
+        return Math.floorMod(Math.abs(prolepticYear), 4) == 3;
     }
 
     @Override
     public int prolepticYear(Era era, int yearOfEra) {
         // check the era is for this chronology
-        if (era instanceof EthiopianEra) {
+        if (!(era instanceof EthiopianEra)) {
             throw new ClassCastException("Era must be EthiopianEra");
         }
 
@@ -199,6 +273,12 @@ public class EthiopianChronology extends AbstractChronology {
                     return ValueRange.of(1, 5, 30);
                 case MONTH_OF_YEAR:
                     return ValueRange.of(1, 13);
+                case DAY_OF_YEAR:
+                    return ValueRange.of(1, 365, 366);
+                case ALIGNED_WEEK_OF_MONTH:
+                    return ValueRange.of(1, 1, 5);
+                case ALIGNED_WEEK_OF_YEAR:
+                    return ValueRange.of(1, 53);
                 default:
                     return field.range();
             }
@@ -213,9 +293,7 @@ public class EthiopianChronology extends AbstractChronology {
      * @return {@link LocalDate}
      */
     public LocalDate toGregorian(EthiopianDate date) {
-        int[] gregorian = ETHIOPIC_CALENDAR.ethiopicToGregorian(
-                date.getYear(), date.getMonth(), date.getDay(), ((EthiopianEra) date.getEra()).getEpochOffset());
-        return LocalDate.of(gregorian[0], gregorian[1], gregorian[2]);
+        return LocalDate.ofEpochDay(date.toEpochDay());
     }
 
 }
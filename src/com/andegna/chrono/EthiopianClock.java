@@ -0,0 +1,130 @@
+package com.andegna.chrono;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The current Ethiopian date and time of a {@link Clock}.
+ * <p>
+ * The clock remembers today and the epoch milliseconds of its first and
+ * next local midnight, so {@link #today()} reads the clock and compares
+ * two longs, the date is only converted again when the day rolls over.
+ * The system clocks are shared, one per time zone.
+ * <p>
+ * The remembered day is immutable, so a clock can be shared between
+ * threads, they just replace each other's day.
+ */
+public final class EthiopianClock {
+
+    private static final ConcurrentMap<ZoneId, EthiopianClock> SYSTEM_CLOCKS
+            = new ConcurrentHashMap<>();
+
+    private final Clock clock;
+    private final EthiopianInstantConverter converter;
+    private Today today;
+
+    private EthiopianClock(Clock clock) {
+        this.clock = clock;
+        this.converter = EthiopianInstantConverter.of(clock.getZone());
+    }
+
+    /**
+     * @param clock the clock to read the instant and the zone from
+     * @return the {@link EthiopianClock}
+     */
+    public static EthiopianClock of(Clock clock) {
+        return new EthiopianClock(clock);
+    }
+
+    /**
+     * @param zone the time zone
+     * @return the shared {@link EthiopianClock} of the system clock in the
+     * zone
+     */
+    public static EthiopianClock system(ZoneId zone) {
+        EthiopianClock clock = SYSTEM_CLOCKS.get(zone);
+        if (clock == null) {
+            clock = SYSTEM_CLOCKS.computeIfAbsent(zone, z -> new EthiopianClock(Clock.system(z)));
+        }
+        return clock;
+    }
+
+    /**
+     * @return the shared {@link EthiopianClock} of the system clock in the
+     * current default time zone
+     */
+    public static EthiopianClock systemDefaultZone() {
+        return system(ZoneId.systemDefault());
+    }
+
+    /**
+     * @return the underlying clock
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * @return the time zone of the clock
+     */
+    public ZoneId getZone() {
+        return clock.getZone();
+    }
+
+    /**
+     * @return the current date
+     */
+    public EthiopianDate today() {
+        return todayOf(clock.millis()).date;
+    }
+
+    /**
+     * @return the epoch day of the current date
+     */
+    public long todayEpochDay() {
+        return todayOf(clock.millis()).date.toEpochDay();
+    }
+
+    /**
+     * @return the current date and time
+     */
+    public EthiopianDateTime now() {
+        return converter.toDateTime(clock.instant());
+    }
+
+    private Today todayOf(long epochMilli) {
+        Today t = today;
+        if (t == null || epochMilli < t.from || epochMilli >= t.until) {
+            t = new Today(epochMilli);
+            today = t;
+        }
+        return t;
+    }
+
+    /**
+     * The epoch milliseconds between two local midnights.
+     */
+    private final class Today {
+
+        final EthiopianDate date;
+        final long from;
+        final long until;
+
+        Today(long epochMilli) {
+            ZoneId zone = clock.getZone();
+            long epochSecond = Math.floorDiv(epochMilli, 1000);
+            int offset = zone.getRules().getOffset(Instant.ofEpochSecond(epochSecond))
+                    .getTotalSeconds();
+            long epochDay = Math.floorDiv(epochSecond + offset, EthiopianDateTime.SECONDS_PER_DAY);
+            date = EthiopianDate.ofEpochDay(epochDay);
+            // the start of the day, not always midnight across a transition
+            from = LocalDate.ofEpochDay(epochDay).atStartOfDay(zone).toInstant().toEpochMilli();
+            until = LocalDate.ofEpochDay(epochDay + 1).atStartOfDay(zone).toInstant().toEpochMilli();
+        }
+    }
+
+}
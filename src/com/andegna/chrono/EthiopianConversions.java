@@ -0,0 +1,212 @@
+package com.andegna.chrono;
+
+import static java.time.temporal.ChronoField.EPOCH_DAY;
+
+/**
+ * Stateless conversion engine between Ethiopian dates and epoch days.
+ * <p>
+ * Every method is a pure function over its arguments, nothing is cached and
+ * nothing is shared, so it can be called from any number of threads without
+ * synchronization.
+ *
+ * <pre>
+ * The Ethiopian calendar repeats every 1461 days (4 years), the last year
+ * of every cycle has a 6 day Ṗagume and all the others have 5 days.
+ *      jdn = era + 365 + 365 * (year - 1) + floor(year / 4) + 30 * month + day - 31
+ * </pre>
+ * <p>
+ * The <i>packed</i> methods encode a whole date in a single {@code long} so
+ * hot loops can convert without allocating anything. The layout is
+ * <pre>
+ *   bits 63..10  year of era (signed)
+ *   bit       9  era value, 0 for Amete Alem and 1 for Amete Mihret
+ *   bits  8..5   month of year
+ *   bits  4..0   day of month
+ * </pre>
+ * so within one era the natural order of packed values is chronological.
+ */
+public final class EthiopianConversions {
+
+    /**
+     * The Julian day number of the ISO epoch day zero, 1970-01-01
+     */
+    static final long JDN_OF_EPOCH_DAY_ZERO = 2440588L;
+
+    private static final int DAY_BITS = 5;
+    private static final int MONTH_BITS = 4;
+    private static final int MONTH_SHIFT = DAY_BITS;
+    private static final int ERA_SHIFT = MONTH_SHIFT + MONTH_BITS;
+    private static final int YEAR_SHIFT = ERA_SHIFT + 1;
+
+    // the year start table, null when it is turned off
+    private static final EthiopianYearTable YEAR_TABLE
+            = EthiopianYearTable.fromSystemProperties();
+
+    // prevent instantiation
+    private EthiopianConversions() {
+    }
+
+    /**
+     * Converts an Ethiopian date to the number of days since 1970-01-01 (ISO).
+     *
+     * @param era the era the year is counted in
+     * @param year the year of era
+     * @param month the month of year, 1 to 13
+     * @param day the day of month, 1 to 30
+     * @return the epoch day
+     */
+    public static long toEpochDay(EthiopianEra era, int year, int month, int day) {
+        return toEpochDay(era.getEpochOffset(), year, month, day);
+    }
+
+    /**
+     * Converts a date counted from the given Julian day epoch offset to the
+     * number of days since 1970-01-01 (ISO).
+     *
+     * @param epochOffset the Julian day number epoch offset of the era
+     * @param year the year of era
+     * @param month the month of year
+     * @param day the day of month
+     * @return the epoch day
+     */
+    static long toEpochDay(long epochOffset, long year, int month, int day) {
+        long jdn = (epochOffset + 365)
+                + 365 * (year - 1)
+                + Math.floorDiv(year, 4)
+                + 30 * month
+                + day - 31;
+        return jdn - JDN_OF_EPOCH_DAY_ZERO;
+    }
+
+    /**
+     * Returns the era an epoch day is conventionally labeled with: Amete
+     * Mihret from its first Meskerem onward and Amete Alem before that.
+     *
+     * @param epochDay the epoch day
+     * @return the {@link EthiopianEra}
+     */
+    public static EthiopianEra eraOfEpochDay(long epochDay) {
+        long jdn = epochDay + JDN_OF_EPOCH_DAY_ZERO;
+        return (jdn >= EthiopianEra.AMETE_MIHRET.getEpochOffset() + 365)
+                ? EthiopianEra.AMETE_MIHRET
+                : EthiopianEra.AMETE_ALEM;
+    }
+
+    /**
+     * Converts an epoch day to an {@link EthiopianDate} labeled with the era
+     * returned by {@link #eraOfEpochDay(long)}.
+     *
+     * @param epochDay the epoch day
+     * @return the {@link EthiopianDate}
+     */
+    public static EthiopianDate toEthiopianDate(long epochDay) {
+        EPOCH_DAY.checkValidValue(epochDay);
+        long packed = epochDayToPackedEthiopic(epochDay);
+        return new EthiopianDate(unpackEra(packed), unpackYear(packed),
+                unpackMonth(packed), unpackDay(packed), epochDay);
+    }
+
+    /**
+     * Converts an epoch day to a packed Ethiopian date labeled with the era
+     * returned by {@link #eraOfEpochDay(long)}.
+     *
+     * @param epochDay the epoch day
+     * @return the packed date
+     */
+    public static long epochDayToPackedEthiopic(long epochDay) {
+        return (YEAR_TABLE != null)
+                ? YEAR_TABLE.epochDayToPackedEthiopic(epochDay)
+                : computePackedEthiopic(epochDay);
+    }
+
+    // the 1461 day cycle arithmetic behind epochDayToPackedEthiopic
+    static long computePackedEthiopic(long epochDay) {
+        long jdn = epochDay + JDN_OF_EPOCH_DAY_ZERO;
+        boolean mihret = jdn >= EthiopianEra.AMETE_MIHRET.getEpochOffset() + 365;
+        int epochOffset = mihret
+                ? EthiopianEra.AMETE_MIHRET.getEpochOffset()
+                : EthiopianEra.AMETE_ALEM.getEpochOffset();
+
+        // days since the start of the era, and the offset in the 4 year cycle
+        long n = jdn - epochOffset;
+        int r = (int) Math.floorMod(n, 1461);
+        int dayOfYear = r % 365 + 365 * (r / 1460);
+
+        long year = 4 * Math.floorDiv(n, 1461) + r / 365 - r / 1460;
+        int month = dayOfYear / 30 + 1;
+        int day = dayOfYear % 30 + 1;
+
+        return (year << YEAR_SHIFT) | ((mihret ? 1L : 0L) << ERA_SHIFT)
+                | (month << MONTH_SHIFT) | day;
+    }
+
+    /**
+     * Converts a packed Ethiopian date to the number of days since
+     * 1970-01-01 (ISO).
+     *
+     * @param packed the packed date
+     * @return the epoch day
+     */
+    public static long packedEthiopicToEpochDay(long packed) {
+        return toEpochDay(unpackEra(packed).getEpochOffset(), packed >> YEAR_SHIFT,
+                unpackMonth(packed), unpackDay(packed));
+    }
+
+    /**
+     * Packs an Ethiopian date into a single {@code long}. The fields are not
+     * validated.
+     *
+     * @param era the era
+     * @param year the year of era
+     * @param month the month of year, 1 to 13
+     * @param day the day of month, 1 to 30
+     * @return the packed date
+     */
+    public static long pack(EthiopianEra era, int year, int month, int day) {
+        return ((long) year << YEAR_SHIFT) | ((long) era.getValue() << ERA_SHIFT)
+                | (month << MONTH_SHIFT) | day;
+    }
+
+    /**
+     * @param packed the packed date
+     * @return the {@link EthiopianEra} of the packed date
+     */
+    public static EthiopianEra unpackEra(long packed) {
+        return ((packed >>> ERA_SHIFT) & 1) == 1
+                ? EthiopianEra.AMETE_MIHRET
+                : EthiopianEra.AMETE_ALEM;
+    }
+
+    /**
+     * @param packed the packed date
+     * @return the year of era of the packed date
+     */
+    public static int unpackYear(long packed) {
+        return (int) (packed >> YEAR_SHIFT);
+    }
+
+    /**
+     * @param packed the packed date
+     * @return the month of year of the packed date
+     */
+    public static int unpackMonth(long packed) {
+        return (int) (packed >>> MONTH_SHIFT) & ((1 << MONTH_BITS) - 1);
+    }
+
+    /**
+     * @param packed the packed date
+     * @return the day of month of the packed date
+     */
+    public static int unpackDay(long packed) {
+        return (int) packed & ((1 << DAY_BITS) - 1);
+    }
+
+    // the year of a packed date counted continuously in Amete Mihret, the
+    // years before 1 are 0, -1, -2 ...
+    static long ameteMihretYear(long packed) {
+        int year = unpackYear(packed);
+        return unpackEra(packed) == EthiopianEra.AMETE_MIHRET
+                ? year : (long) year - EthiopianDate.AMETE_ALEM_YEARS;
+    }
+
+}
@@ -1,21 +1,30 @@
 package com.andegna.chrono;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.time.Clock;
 import java.time.DateTimeException;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.time.Period;
+import java.time.ZoneId;
 import java.time.chrono.ChronoLocalDate;
 import java.time.chrono.ChronoPeriod;
 import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
 import static java.time.temporal.ChronoField.DAY_OF_MONTH;
 import static java.time.temporal.ChronoField.ERA;
 import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
 import static java.time.temporal.ChronoField.PROLEPTIC_MONTH;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAdjuster;
 import java.time.temporal.TemporalAmount;
 import java.time.temporal.TemporalField;
 import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.time.temporal.ValueRange;
 
 /**
  *
@@ -25,13 +34,32 @@ public class EthiopianDate implements ChronoLocalDate, Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    // the years from the creation of the world to the first Amete Mihret
+    static final int AMETE_ALEM_YEARS = 5500;
+
     /**
      * <b>NOW</b>
      *
      * @return
      */
     public static EthiopianDate now() {
-        return EthiopianChronology.INSTANCE.date(LocalDate.now());
+        return EthiopianClock.systemDefaultZone().today();
+    }
+
+    /**
+     * @param zone the time zone
+     * @return the current date in the zone
+     */
+    public static EthiopianDate now(ZoneId zone) {
+        return EthiopianClock.system(zone).today();
+    }
+
+    /**
+     * @param clock the clock
+     * @return the current date of the clock
+     */
+    public static EthiopianDate now(Clock clock) {
+        return EthiopianClock.of(clock).today();
     }
 
     public static EthiopianDate from(TemporalAccessor temporal) {
@@ -50,10 +78,16 @@ public class EthiopianDate implements ChronoLocalDate, Serializable {
         return EthiopianChronology.INSTANCE.dateYearDay(prolepticYear, dayOfYear);
     }
 
+    public static EthiopianDate ofFeast(int prolepticYear, EthiopianFeast feast) {
+        return EthiopianChronology.INSTANCE.dateFeast(prolepticYear, feast);
+    }
+
     private final EthiopianEra era;
     private final int year;
     private final int month;
     private final int day;
+    // computed once, every comparison and arithmetic is served from it
+    private final long epochDay;
 
     public EthiopianDate(EthiopianEra era, int year, int month, int day) {
         validate(year, month, day);
@@ -61,6 +95,16 @@ public class EthiopianDate implements ChronoLocalDate, Serializable {
         this.year = year;
         this.month = month;
         this.day = day;
+        this.epochDay = EthiopianConversions.toEpochDay(era, year, month, day);
+    }
+
+    // for already validated fields whose epoch day is known
+    EthiopianDate(EthiopianEra era, int year, int month, int day, long epochDay) {
+        this.era = era;
+        this.year = year;
+        this.month = month;
+        this.day = day;
+        this.epochDay = epochDay;
     }
 
     @Override
@@ -80,10 +124,30 @@ public class EthiopianDate implements ChronoLocalDate, Serializable {
         return 30;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The period is counted in Ethiopian years of 13 months, like
+     * {@link LocalDate#until(ChronoLocalDate)}: whole months first, the
+     * month is complete when the day of month is reached, then the days.
+     *
+     * @param endDateExclusive
+     * @return {@link ChronoPeriod}
+     */
     @Override
     public ChronoPeriod until(ChronoLocalDate endDateExclusive) {
-        Period period = LocalDate.ofEpochDay(toEpochDay()).until(endDateExclusive);
-        return getChronology().period(period.getYears(), period.getMonths(), period.getDays());
+        EthiopianDate end = EthiopianDate.from(endDateExclusive);
+        long totalMonths = end.prolepticMonth() - prolepticMonth();
+        int days = end.day - day;
+        if (totalMonths > 0 && days < 0) {
+            totalMonths--;
+            days = (int) (end.epochDay - plusMonths(totalMonths).epochDay);
+        } else if (totalMonths < 0 && days > 0) {
+            totalMonths++;
+            days -= end.lengthOfMonth();
+        }
+        return getChronology().period(Math.toIntExact(totalMonths / 13),
+                (int) (totalMonths % 13), days);
     }
 
     @Override
@@ -101,17 +165,58 @@ public class EthiopianDate implements ChronoLocalDate, Serializable {
                 case ERA:
                     return era.getValue();
                 case EPOCH_DAY:
-                    return getChronology().toGregorian(this).toEpochDay();
+                    return epochDay;
                 case DAY_OF_YEAR:
                     return (month - 1) * 30 + day;
                 case PROLEPTIC_MONTH:
                     return year * 13 + month - 1;
+                case DAY_OF_WEEK:
+                    // the epoch day 0 was a Thursday
+                    return Math.floorMod(epochDay + 3, 7) + 1;
+                // the aligned weeks start on the first day of the month or
+                // the year, a month has 5 of them and Ṗagume 1
+                case ALIGNED_DAY_OF_WEEK_IN_MONTH:
+                    return (day - 1) % 7 + 1;
+                case ALIGNED_DAY_OF_WEEK_IN_YEAR:
+                    return ((month - 1) * 30 + day - 1) % 7 + 1;
+                case ALIGNED_WEEK_OF_MONTH:
+                    return (day - 1) / 7 + 1;
+                case ALIGNED_WEEK_OF_YEAR:
+                    return ((month - 1) * 30 + day - 1) / 7 + 1;
             }
-            return getChronology().toGregorian(this).getLong(field);
+            throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
         }
         return field.getFrom(this);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The ranges of the day and aligned week fields are those of the month
+     * and year of this date, the others those of the chronology.
+     *
+     * @param field
+     * @return {@link ValueRange}
+     */
+    @Override
+    public ValueRange range(TemporalField field) {
+        if (field instanceof ChronoField) {
+            if (!isSupported(field)) {
+                throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+            }
+            switch ((ChronoField) field) {
+                case DAY_OF_MONTH:
+                    return ValueRange.of(1, lengthOfMonth());
+                case DAY_OF_YEAR:
+                    return ValueRange.of(1, lengthOfYear());
+                case ALIGNED_WEEK_OF_MONTH:
+                    return ValueRange.of(1, month == 13 ? 1 : 5);
+            }
+            return getChronology().range((ChronoField) field);
+        }
+        return field.rangeRefinedBy(this);
+    }
+
     @Override
     public int get(TemporalField field) {
         return (int) getLong(field);
@@ -119,31 +224,281 @@ public class EthiopianDate implements ChronoLocalDate, Serializable {
 
     @Override
     public long until(Temporal endExclusive, TemporalUnit unit) {
-        return getChronology().toGregorian(this).until(endExclusive, unit);
+        EthiopianDate end = EthiopianDate.from(endExclusive);
+        if (unit instanceof ChronoUnit) {
+            switch ((ChronoUnit) unit) {
+                case DAYS:
+                    return end.epochDay - epochDay;
+                case WEEKS:
+                    return (end.epochDay - epochDay) / 7;
+                case MONTHS:
+                    return monthsUntil(end);
+                case YEARS:
+                    return monthsUntil(end) / 13;
+                case DECADES:
+                    return monthsUntil(end) / 130;
+                case CENTURIES:
+                    return monthsUntil(end) / 1300;
+                case MILLENNIA:
+                    return monthsUntil(end) / 13000;
+                case ERAS:
+                    return end.era.getValue() - era.getValue();
+            }
+            throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+        }
+        return unit.between(this, end);
     }
 
+    // the whole months, a month is complete when the day of month is reached
+    private long monthsUntil(EthiopianDate end) {
+        long months = end.prolepticMonth() - prolepticMonth();
+        if (months > 0 && end.day < day) {
+            months--;
+        } else if (months < 0 && end.day > day) {
+            months++;
+        }
+        return months;
+    }
+
+    // the months since Meskerem of the year 0 Amete Mihret
+    private long prolepticMonth() {
+        return ameteMihretYear() * 13 + month - 1;
+    }
+
+    @Override
+    public EthiopianDate with(TemporalAdjuster adjuster) {
+        return (EthiopianDate) adjuster.adjustInto(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Setting the month, year or era keeps the day of month, clamped to the
+     * length of Ṗagume.
+     *
+     * @param field
+     * @param newValue
+     * @return {@link EthiopianDate}
+     */
+    @Override
+    public EthiopianDate with(TemporalField field, long newValue) {
+        if (field instanceof ChronoField) {
+            ChronoField f = (ChronoField) field;
+            long value = getLong(f);
+            if (value == newValue) {
+                return this;
+            }
+            range(f).checkValidValue(newValue, f);
+            int nvalue = (int) newValue;
+            switch (f) {
+                case DAY_OF_MONTH:
+                    return new EthiopianDate(era, year, month, nvalue);
+                case DAY_OF_YEAR:
+                    return new EthiopianDate(era, year, (nvalue - 1) / 30 + 1, (nvalue - 1) % 30 + 1);
+                case MONTH_OF_YEAR:
+                    return resolve(era, year, nvalue, day);
+                case YEAR:
+                    return resolve(EthiopianEra.era(nvalue), Math.abs(nvalue), month, day);
+                case YEAR_OF_ERA:
+                    return resolve(era, nvalue, month, day);
+                case ERA:
+                    return resolve(EthiopianEra.eraOf(nvalue), year, month, day);
+                case EPOCH_DAY:
+                    return getChronology().dateEpochDay(newValue);
+                case PROLEPTIC_MONTH:
+                    return plusMonths(newValue - value);
+                case DAY_OF_WEEK:
+                case ALIGNED_DAY_OF_WEEK_IN_MONTH:
+                case ALIGNED_DAY_OF_WEEK_IN_YEAR:
+                    return plusDays(newValue - value);
+                case ALIGNED_WEEK_OF_MONTH:
+                case ALIGNED_WEEK_OF_YEAR:
+                    return plusDays((newValue - value) * 7);
+            }
+            throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+        }
+        return field.adjustInto(this, newValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A {@link Period} is applied in Ethiopian years, months and days, in that
+     * order, any other amount adds itself through this date's units.
+     *
+     * @param amount
+     * @return {@link EthiopianDate}
+     */
     @Override
     public EthiopianDate plus(TemporalAmount amount) {
-        return getChronology().date(
-                getChronology().toGregorian(this).plus(amount));
+        if (amount instanceof Period) {
+            Period period = (Period) amount;
+            return plusYears(period.getYears())
+                    .plusMonths(period.getMonths())
+                    .plusDays(period.getDays());
+        }
+        return (EthiopianDate) amount.addTo(this);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The arithmetic is done directly in the Ethiopian calendar, a month is
+     * one of the 13 Ethiopian months and a year has 13 months. When the
+     * resulting month is Ṗagume the day is clamped to 5 or 6 depending on
+     * the leap year.
+     *
+     * @param amountToAdd
+     * @param unit
+     * @return {@link EthiopianDate}
+     */
     @Override
     public EthiopianDate plus(long amountToAdd, TemporalUnit unit) {
-        return getChronology().date(
-                getChronology().toGregorian(this).plus(amountToAdd, unit));
+        if (unit instanceof ChronoUnit) {
+            switch ((ChronoUnit) unit) {
+                case DAYS:
+                    return plusDays(amountToAdd);
+                case WEEKS:
+                    return plusDays(Math.multiplyExact(amountToAdd, 7));
+                case MONTHS:
+                    return plusMonths(amountToAdd);
+                case YEARS:
+                    return plusYears(amountToAdd);
+                case DECADES:
+                    return plusYears(Math.multiplyExact(amountToAdd, 10));
+                case CENTURIES:
+                    return plusYears(Math.multiplyExact(amountToAdd, 100));
+                case MILLENNIA:
+                    return plusYears(Math.multiplyExact(amountToAdd, 1000));
+                case ERAS:
+                    return with(ERA, Math.addExact(era.getValue(), amountToAdd));
+            }
+            throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+        }
+        return unit.addTo(this, amountToAdd);
     }
 
     @Override
     public EthiopianDate minus(TemporalAmount amount) {
-        return getChronology().date(
-                getChronology().toGregorian(this).minus(amount));
+        if (amount instanceof Period) {
+            Period period = (Period) amount;
+            return minusYears(period.getYears())
+                    .minusMonths(period.getMonths())
+                    .minusDays(period.getDays());
+        }
+        return (EthiopianDate) amount.subtractFrom(this);
+    }
+
+    @Override
+    public EthiopianDate minus(long amountToSubtract, TemporalUnit unit) {
+        return (amountToSubtract == Long.MIN_VALUE)
+                ? plus(Long.MAX_VALUE, unit).plus(1, unit)
+                : plus(-amountToSubtract, unit);
+    }
+
+    public EthiopianDate plusDays(long days) {
+        return days == 0 ? this
+                : getChronology().dateEpochDay(Math.addExact(epochDay, days));
+    }
+
+    public EthiopianDate plusMonths(long months) {
+        if (months == 0) {
+            return this;
+        }
+        // count months from Meskerem of the year 0 Amete Mihret
+        long monthCount = Math.addExact(ameteMihretYear() * 13L + month - 1, months);
+        return resolve(Math.floorDiv(monthCount, 13),
+                (int) Math.floorMod(monthCount, 13) + 1, day);
+    }
+
+    public EthiopianDate plusYears(long years) {
+        return years == 0 ? this
+                : resolve(Math.addExact(ameteMihretYear(), years), month, day);
+    }
+
+    public EthiopianDate minusDays(long days) {
+        return days == Long.MIN_VALUE
+                ? plusDays(Long.MAX_VALUE).plusDays(1) : plusDays(-days);
+    }
+
+    public EthiopianDate minusMonths(long months) {
+        return months == Long.MIN_VALUE
+                ? plusMonths(Long.MAX_VALUE).plusMonths(1) : plusMonths(-months);
+    }
+
+    public EthiopianDate minusYears(long years) {
+        return years == Long.MIN_VALUE
+                ? plusYears(Long.MAX_VALUE).plusYears(1) : plusYears(-years);
+    }
+
+    /**
+     * The year of this date counted continuously in Amete Mihret, the years
+     * before 1 Amete Mihret are 0, -1, -2 ...
+     */
+    long ameteMihretYear() {
+        return era == EthiopianEra.AMETE_MIHRET ? year
+                : (long) year - AMETE_ALEM_YEARS;
+    }
+
+    /**
+     * Creates the date from a year counted continuously in Amete Mihret,
+     * clamping the day of Ṗagume to the length of the month.
+     */
+    static EthiopianDate resolve(long ameteMihretYear, int month, int day) {
+        EthiopianEra era = ameteMihretYear > 0
+                ? EthiopianEra.AMETE_MIHRET : EthiopianEra.AMETE_ALEM;
+        int year = ChronoField.YEAR.checkValidIntValue(ameteMihretYear > 0
+                ? ameteMihretYear : ameteMihretYear + AMETE_ALEM_YEARS);
+        if (month == 13) {
+            day = Math.min(day, EthiopianChronology.INSTANCE.isLeapYear(year) ? 6 : 5);
+        }
+        return new EthiopianDate(era, year, month, day);
+    }
+
+    // keeps the era, clamping the day of Ṗagume to the length of the month
+    private static EthiopianDate resolve(EthiopianEra era, int year, int month, int day) {
+        if (month == 13) {
+            day = Math.min(day, EthiopianChronology.INSTANCE.isLeapYear(year) ? 6 : 5);
+        }
+        return new EthiopianDate(era, year, month, day);
     }
 
     @Override
-    public EthiopianDate minus(long amountToAdd, TemporalUnit unit) {
-        return getChronology().date(
-                getChronology().toGregorian(this).minus(amountToAdd, unit));
+    public EthiopianDateTime atTime(LocalTime localTime) {
+        return EthiopianDateTime.of(this, localTime);
+    }
+
+    @Override
+    public long toEpochDay() {
+        return epochDay;
+    }
+
+    @Override
+    public int compareTo(ChronoLocalDate other) {
+        if (other instanceof EthiopianDate) {
+            return Long.compare(epochDay, ((EthiopianDate) other).epochDay);
+        }
+        return ChronoLocalDate.super.compareTo(other);
+    }
+
+    @Override
+    public boolean isAfter(ChronoLocalDate other) {
+        return epochDay > other.toEpochDay();
+    }
+
+    @Override
+    public boolean isBefore(ChronoLocalDate other) {
+        return epochDay < other.toEpochDay();
+    }
+
+    @Override
+    public boolean isEqual(ChronoLocalDate other) {
+        return epochDay == other.toEpochDay();
+    }
+
+    @Override
+    public EthiopianEra getEra() {
+        return era;
     }
 
     int getYear() {
@@ -158,14 +513,15 @@ public class EthiopianDate implements ChronoLocalDate, Serializable {
         return day;
     }
 
-    private void validate(int year, int month, int day) {
+    // shared with EthiopianDateParser
+    static void validate(int year, int month, int day) {
         if (1 > day || day > 30) {
             throw new DateTimeException("Invalid date '" + day + "'. Day must be between 1-30");
         } else if (1 > month || month > 13) {
             throw new DateTimeException("Invalid month '" + month + "'. Month must be between 1-13");
         } else if (month == 13 && day > 6) {
             throw new DateTimeException("Invalid date 'Ṗagume " + day + "' " + year);
-        } else if (!getChronology().isLeapYear(year) && month == 13 && day > 5) {
+        } else if (!EthiopianChronology.INSTANCE.isLeapYear(year) && month == 13 && day > 5) {
             throw new DateTimeException("Invalid date 'Ṗagume 6' as '" + year + "' is not a leap year");
         }
     }
@@ -180,15 +536,61 @@ public class EthiopianDate implements ChronoLocalDate, Serializable {
 
     @Override
     public int hashCode() {
-        int hash = 21;
-        hash = 97 * hash + this.year;
-        hash = 97 * hash + this.month;
-        hash = 97 * hash + this.day;
-        return hash;
+        // consistent with equals, the era is part of the day
+        return Long.hashCode(epochDay);
     }
 
     public boolean equals(EthiopianDate date) {
-        return this.compareTo(date) == 0;
+        return date != null && this.epochDay == date.epochDay;
+    }
+
+    /**
+     * @return the date like {@link java.time.chrono.HijrahDate}, eg:-
+     * Ethiopian AMETE_MIHRET 2016-05-13
+     */
+    @Override
+    public String toString() {
+        return getChronology().getId() + ' ' + era + ' ' + year
+                + (month < 10 ? "-0" : "-") + month + (day < 10 ? "-0" : "-") + day;
+    }
+
+    /**
+     * Writes the date as a {@link SerializationProxy}, 6 bytes of data per
+     * date.
+     *
+     * @return the proxy
+     */
+    private Object writeReplace() {
+        return new SerializationProxy(this);
+    }
+
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("Deserialization via serialization proxy");
+    }
+
+    // the year, and the era, month and day in a short
+    private static final class SerializationProxy implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int year;
+        private final short fields;
+
+        SerializationProxy(EthiopianDate date) {
+            this.year = date.year;
+            this.fields = (short) (date.era.getValue() << 9 | date.month << 5 | date.day);
+        }
+
+        private Object readResolve() throws InvalidObjectException {
+            try {
+                return new EthiopianDate(EthiopianEra.eraOf(fields >> 9 & 1), year,
+                        fields >> 5 & 0xf, fields & 0x1f);
+            } catch (DateTimeException ex) {
+                InvalidObjectException invalid = new InvalidObjectException(ex.getMessage());
+                invalid.initCause(ex);
+                throw invalid;
+            }
+        }
     }
 
 }
@@ -0,0 +1,147 @@
+package com.andegna.chrono;
+
+import java.time.chrono.ChronoLocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * An immutable sorted array of distinct dates kept as primitive epoch days,
+ * 8 bytes per date, searched by binary search.
+ * <p>
+ * Suited to calendars built once and read often, eg:- holidays, where the
+ * next date on or after a day and the number of dates in a range are
+ * frequent questions.
+ */
+public final class EthiopianDateArray {
+
+    private final long[] epochDays;
+
+    private EthiopianDateArray(long[] epochDays) {
+        this.epochDays = epochDays;
+    }
+
+    /**
+     * @param dates the dates, in any order and possibly repeated
+     * @return the {@link EthiopianDateArray}
+     */
+    public static EthiopianDateArray of(ChronoLocalDate... dates) {
+        return of(Arrays.asList(dates));
+    }
+
+    /**
+     * @param dates the dates, in any order and possibly repeated
+     * @return the {@link EthiopianDateArray}
+     */
+    public static EthiopianDateArray of(Collection<? extends ChronoLocalDate> dates) {
+        long[] epochDays = new long[dates.size()];
+        int i = 0;
+        for (ChronoLocalDate date : dates) {
+            epochDays[i++] = date.toEpochDay();
+        }
+        return sortUnique(epochDays);
+    }
+
+    /**
+     * @param epochDays the epoch days of the dates, in any order and
+     * possibly repeated
+     * @return the {@link EthiopianDateArray}
+     */
+    public static EthiopianDateArray ofEpochDays(long[] epochDays) {
+        return sortUnique(epochDays.clone());
+    }
+
+    // takes ownership of an already sorted array without repeats
+    static EthiopianDateArray ofSortedUnique(long[] epochDays) {
+        return new EthiopianDateArray(epochDays);
+    }
+
+    private static EthiopianDateArray sortUnique(long[] epochDays) {
+        Arrays.sort(epochDays);
+        int unique = 0;
+        for (int i = 0; i < epochDays.length; i++) {
+            if (unique == 0 || epochDays[i] != epochDays[unique - 1]) {
+                epochDays[unique++] = epochDays[i];
+            }
+        }
+        return new EthiopianDateArray(unique == epochDays.length
+                ? epochDays : Arrays.copyOf(epochDays, unique));
+    }
+
+    /**
+     * @return the number of dates
+     */
+    public int size() {
+        return epochDays.length;
+    }
+
+    /**
+     * @param index the index of the date
+     * @return the epoch day of the date
+     */
+    public long getEpochDay(int index) {
+        return epochDays[index];
+    }
+
+    /**
+     * @param index the index of the date
+     * @return the date
+     */
+    public EthiopianDate get(int index) {
+        return EthiopianDate.ofEpochDay(epochDays[index]);
+    }
+
+    /**
+     * @param date the date to look for
+     * @return whether the date is in the array
+     */
+    public boolean contains(ChronoLocalDate date) {
+        return indexOf(date.toEpochDay()) >= 0;
+    }
+
+    /**
+     * @param epochDay the epoch day to look for
+     * @return the index of the date, or {@code -(insertion point) - 1} like
+     * {@link Arrays#binarySearch(long[], long)}
+     */
+    public int indexOf(long epochDay) {
+        return Arrays.binarySearch(epochDays, epochDay);
+    }
+
+    /**
+     * @param epochDay an epoch day
+     * @return the index of the first date on or after the day,
+     * {@link #size()} when there is none
+     */
+    public int ceilingIndex(long epochDay) {
+        int index = Arrays.binarySearch(epochDays, epochDay);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * @param date a date
+     * @return the first date on or after the date, or null when there is
+     * none
+     */
+    public EthiopianDate ceiling(ChronoLocalDate date) {
+        int index = ceilingIndex(date.toEpochDay());
+        return index < epochDays.length ? get(index) : null;
+    }
+
+    /**
+     * @param fromEpochDay the first epoch day
+     * @param toEpochDay the epoch day after the last one
+     * @return the number of dates from {@code fromEpochDay} inclusive to
+     * {@code toEpochDay} exclusive
+     */
+    public int countBetween(long fromEpochDay, long toEpochDay) {
+        return Math.max(0, ceilingIndex(toEpochDay) - ceilingIndex(fromEpochDay));
+    }
+
+    /**
+     * @return a copy of the epoch days, in ascending order
+     */
+    public long[] toEpochDayArray() {
+        return epochDays.clone();
+    }
+
+}
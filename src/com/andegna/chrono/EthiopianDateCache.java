@@ -0,0 +1,135 @@
+package com.andegna.chrono;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An immutable table of precomputed {@link EthiopianDate} instances covering
+ * a window of epoch days.
+ * <p>
+ * Dates inside the window are served with an array lookup instead of a
+ * conversion and the same instance is returned on every call. The default
+ * table, used by {@link EthiopianChronology#dateEpochDay(long)} and so by
+ * {@link EthiopianDate#ofEpochDay(long)}, {@link EthiopianDate#now()} and
+ * {@link EthiopianChronology#date(java.time.temporal.TemporalAccessor)}, is
+ * empty unless both of the system properties below are set to ISO dates
+ * <pre>
+ *   -Dcom.andegna.chrono.cache.start=1900-01-01
+ *   -Dcom.andegna.chrono.cache.end=2100-01-01
+ * </pre>
+ * Every cached day costs a reference in the table plus one
+ * {@link EthiopianDate}, roughly 40 bytes, so 200 years take about 3MB.
+ */
+public final class EthiopianDateCache {
+
+    /**
+     * The system property holding the first cached ISO date, inclusive
+     */
+    public static final String START_PROPERTY = "com.andegna.chrono.cache.start";
+
+    /**
+     * The system property holding the last cached ISO date, exclusive
+     */
+    public static final String END_PROPERTY = "com.andegna.chrono.cache.end";
+
+    private final long startEpochDay;
+    private final EthiopianDate[] dates;
+
+    private EthiopianDateCache(long startEpochDay, EthiopianDate[] dates) {
+        this.startEpochDay = startEpochDay;
+        this.dates = dates;
+    }
+
+    /**
+     * Builds a table for the dates from {@code start} inclusive to
+     * {@code end} exclusive.
+     *
+     * @param start the first cached date
+     * @param end the date after the last cached date
+     * @return the {@link EthiopianDateCache}
+     */
+    public static EthiopianDateCache of(LocalDate start, LocalDate end) {
+        return of(start.toEpochDay(), end.toEpochDay());
+    }
+
+    /**
+     * Builds a table for the epoch days from {@code startEpochDay} inclusive
+     * to {@code endEpochDay} exclusive.
+     *
+     * @param startEpochDay the first cached epoch day
+     * @param endEpochDay the epoch day after the last cached one
+     * @return the {@link EthiopianDateCache}
+     */
+    public static EthiopianDateCache of(long startEpochDay, long endEpochDay) {
+        if (endEpochDay < startEpochDay) {
+            throw new IllegalArgumentException("The end " + endEpochDay
+                    + " is before the start " + startEpochDay);
+        }
+        EthiopianDate[] dates = new EthiopianDate[
+                Math.toIntExact(endEpochDay - startEpochDay)];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = EthiopianConversions.toEthiopianDate(startEpochDay + i);
+        }
+        return new EthiopianDateCache(startEpochDay, dates);
+    }
+
+    /**
+     * The table configured through {@link #START_PROPERTY} and
+     * {@link #END_PROPERTY}, empty when they are not set.
+     *
+     * @return the default {@link EthiopianDateCache}
+     */
+    public static EthiopianDateCache getDefault() {
+        return Default.CACHE;
+    }
+
+    /**
+     * Returns the cached date of the epoch day.
+     *
+     * @param epochDay the epoch day
+     * @return the shared {@link EthiopianDate}, or null when the epoch day
+     * is outside the table
+     */
+    public EthiopianDate get(long epochDay) {
+        long index = epochDay - startEpochDay;
+        return (index >= 0 && index < dates.length) ? dates[(int) index] : null;
+    }
+
+    /**
+     * @return the number of cached dates
+     */
+    public int size() {
+        return dates.length;
+    }
+
+    /**
+     * The table configured through {@link #START_PROPERTY} and
+     * {@link #END_PROPERTY}. A malformed date or range is logged and the
+     * table is left empty, it is built during a class initialization that
+     * must not fail.
+     *
+     * @return the {@link EthiopianDateCache}
+     */
+    static EthiopianDateCache fromSystemProperties() {
+        String start = System.getProperty(START_PROPERTY);
+        String end = System.getProperty(END_PROPERTY);
+        if (start != null && end != null) {
+            try {
+                return of(LocalDate.parse(start.trim()), LocalDate.parse(end.trim()));
+            } catch (DateTimeException | IllegalArgumentException | ArithmeticException ex) {
+                Logger.getLogger(EthiopianDateCache.class.getName()).log(Level.WARNING,
+                        "Invalid date cache range " + start + " to " + end + ", the cache is empty", ex);
+            }
+        }
+        return new EthiopianDateCache(0, new EthiopianDate[0]);
+    }
+
+    // built on first use so the chronology is fully initialized by then
+    private static final class Default {
+
+        static final EthiopianDateCache CACHE = fromSystemProperties();
+    }
+
+}
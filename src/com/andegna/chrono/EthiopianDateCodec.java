@@ -0,0 +1,175 @@
+package com.andegna.chrono;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A compact binary format of dates, as epoch days in variable length
+ * integers.
+ * <p>
+ * A single date is its epoch day zigzag encoded, so small negative and
+ * positive days both take few bytes: the dates of this century take 3
+ * bytes. A sequence is its length followed by the first epoch day and the
+ * difference of every next one, a sorted column of close dates takes
+ * about 1 byte per date.
+ * <p>
+ * The varints are 7 bits per byte, least significant group first, the high
+ * bit set on every byte but the last.
+ */
+public final class EthiopianDateCodec {
+
+    /**
+     * The longest encoding of one epoch day, in bytes
+     */
+    public static final int MAX_DATE_LENGTH = 10;
+
+    // prevent instantiation
+    private EthiopianDateCodec() {
+    }
+
+    /**
+     * @param count the number of dates
+     * @return the longest encoding of a sequence of {@code count} dates
+     */
+    public static int maxLength(int count) {
+        return 5 + count * MAX_DATE_LENGTH;
+    }
+
+    /**
+     * Writes a date at the position of a buffer.
+     *
+     * @param buffer the buffer receiving the date
+     * @param date the date
+     */
+    public static void writeDate(ByteBuffer buffer, EthiopianDate date) {
+        writeVarLong(buffer, zigzag(date.toEpochDay()));
+    }
+
+    /**
+     * Reads a date written by {@link #writeDate(ByteBuffer, EthiopianDate)}.
+     *
+     * @param buffer the buffer holding the date
+     * @return the {@link EthiopianDate}
+     */
+    public static EthiopianDate readDate(ByteBuffer buffer) {
+        return EthiopianConversions.toEthiopianDate(unzigzag(readVarLong(buffer)));
+    }
+
+    /**
+     * Writes the dates between {@code from} inclusive and {@code to}
+     * exclusive as a sequence.
+     *
+     * @param buffer the buffer receiving the dates
+     * @param dates the dates
+     * @param from the first index
+     * @param to the index after the last one
+     */
+    public static void writeDates(ByteBuffer buffer, EthiopianDate[] dates, int from, int to) {
+        checkRange(from, to, dates.length);
+        writeVarLong(buffer, to - from);
+        long previous = 0;
+        for (int i = from; i < to; i++) {
+            long epochDay = dates[i].toEpochDay();
+            writeVarLong(buffer, zigzag(epochDay - previous));
+            previous = epochDay;
+        }
+    }
+
+    /**
+     * Reads a sequence written by
+     * {@link #writeDates(ByteBuffer, EthiopianDate[], int, int)}.
+     *
+     * @param buffer the buffer holding the dates
+     * @return the {@link EthiopianDate}s
+     */
+    public static EthiopianDate[] readDates(ByteBuffer buffer) {
+        EthiopianDate[] dates = new EthiopianDate[readCount(buffer)];
+        long epochDay = 0;
+        for (int i = 0; i < dates.length; i++) {
+            epochDay += unzigzag(readVarLong(buffer));
+            dates[i] = EthiopianConversions.toEthiopianDate(epochDay);
+        }
+        return dates;
+    }
+
+    /**
+     * Writes the epoch days between {@code from} inclusive and {@code to}
+     * exclusive as a sequence, readable as dates by
+     * {@link #readDates(ByteBuffer)} too.
+     *
+     * @param buffer the buffer receiving the epoch days
+     * @param epochDays the epoch days
+     * @param from the first index
+     * @param to the index after the last one
+     */
+    public static void writeEpochDays(ByteBuffer buffer, long[] epochDays, int from, int to) {
+        checkRange(from, to, epochDays.length);
+        writeVarLong(buffer, to - from);
+        long previous = 0;
+        for (int i = from; i < to; i++) {
+            writeVarLong(buffer, zigzag(epochDays[i] - previous));
+            previous = epochDays[i];
+        }
+    }
+
+    /**
+     * Reads a sequence as epoch days, without checking they are in the range
+     * of {@link java.time.LocalDate}.
+     *
+     * @param buffer the buffer holding the sequence
+     * @return the epoch days
+     */
+    public static long[] readEpochDays(ByteBuffer buffer) {
+        long[] epochDays = new long[readCount(buffer)];
+        long epochDay = 0;
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDay += unzigzag(readVarLong(buffer));
+            epochDays[i] = epochDay;
+        }
+        return epochDays;
+    }
+
+    private static int readCount(ByteBuffer buffer) {
+        long count = readVarLong(buffer);
+        // every date takes at least a byte
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid date count " + count);
+        }
+        return (int) count;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7fL) != 0) {
+            buffer.put((byte) (value & 0x7f | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7f) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    private static void checkRange(int from, int to, int length) {
+        if (from < 0 || from > to || to > length) {
+            throw new IndexOutOfBoundsException("Invalid range " + from + " to " + to
+                    + " of length " + length);
+        }
+    }
+
+}
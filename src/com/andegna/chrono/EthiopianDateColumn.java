@@ -0,0 +1,257 @@
+package com.andegna.chrono;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntConsumer;
+
+/**
+ * A read only column of dates in a memory mapped file, the dates stay out of
+ * the heap and opening a column is a single {@link FileChannel#map}.
+ * <p>
+ * The file is a 16 byte header: the magic {@code ETHD}, the version, the
+ * number of dates and the flags (1 when the dates are sorted), followed by
+ * the epoch day of every date as an int. Everything is big endian. A column
+ * holds at most {@link #MAX_SIZE} dates.
+ * <p>
+ * The dates are read by index as epoch days, packed dates (see
+ * {@link EthiopianConversions#pack(EthiopianEra, int, int, int)}) or
+ * {@link EthiopianDate}s created on demand. The scans hand the indexes of
+ * the dates of a range to an {@link IntConsumer}, a sorted column finds the
+ * range by binary search, an unsorted one is read through.
+ * <p>
+ * A column is immutable and thread safe. The mapping is released when the
+ * column is garbage collected.
+ */
+public final class EthiopianDateColumn {
+
+    /**
+     * The largest number of dates of a column
+     */
+    public static final int MAX_SIZE = (Integer.MAX_VALUE - 16) / 4;
+
+    private static final int MAGIC = 0x45544844;
+    private static final int VERSION = 1;
+    private static final int SORTED = 1;
+    private static final int HEADER_LENGTH = 16;
+
+    private static final long MIHRET_OFFSET = EthiopianEra.AMETE_MIHRET.getEpochOffset();
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final boolean sorted;
+
+    private EthiopianDateColumn(ByteBuffer buffer, int size, boolean sorted) {
+        this.buffer = buffer;
+        this.size = size;
+        this.sorted = sorted;
+    }
+
+    /**
+     * Writes a column file of the epoch days between {@code from} inclusive
+     * and {@code to} exclusive, replacing any existing file.
+     *
+     * @param path the file
+     * @param epochDays the epoch days
+     * @param from the first index
+     * @param to the index after the last one
+     * @throws IOException if the file can not be written
+     * @throws IllegalArgumentException if an epoch day does not fit an int
+     */
+    public static void write(Path path, long[] epochDays, int from, int to) throws IOException {
+        if (from < 0 || from > to || to > epochDays.length) {
+            throw new IndexOutOfBoundsException("Invalid range " + from + " to " + to
+                    + " of length " + epochDays.length);
+        }
+        if (to - from > MAX_SIZE) {
+            throw new IllegalArgumentException("Too many dates " + (to - from));
+        }
+        boolean sorted = true;
+        for (int i = from; i < to; i++) {
+            if (epochDays[i] != (int) epochDays[i]) {
+                throw new IllegalArgumentException("Epoch day " + epochDays[i]
+                        + " does not fit an int");
+            }
+            if (i > from && epochDays[i - 1] > epochDays[i]) {
+                sorted = false;
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_LENGTH + 4L * (to - from));
+            map.putInt(MAGIC).putInt(VERSION).putInt(to - from).putInt(sorted ? SORTED : 0);
+            for (int i = from; i < to; i++) {
+                map.putInt((int) epochDays[i]);
+            }
+            map.force();
+        }
+    }
+
+    /**
+     * Maps a column file.
+     *
+     * @param path the file
+     * @return the {@link EthiopianDateColumn}
+     * @throws IOException if the file can not be read or is not a column
+     */
+    public static EthiopianDateColumn open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < HEADER_LENGTH) {
+                throw new IOException("Not a date column: " + path);
+            }
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    Math.min(length, Integer.MAX_VALUE));
+            if (map.getInt(0) != MAGIC) {
+                throw new IOException("Not a date column: " + path);
+            }
+            if (map.getInt(4) != VERSION) {
+                throw new IOException("Unsupported date column version " + map.getInt(4)
+                        + ": " + path);
+            }
+            int size = map.getInt(8);
+            if (size > MAX_SIZE) {
+                // the offsets of the dates would overflow an int
+                throw new IOException("Corrupt date column size " + size + ": " + path);
+            }
+            if (size < 0 || HEADER_LENGTH + 4L * size > length) {
+                throw new IOException("Truncated date column: " + path);
+            }
+            return new EthiopianDateColumn(map, size, (map.getInt(12) & SORTED) != 0);
+        }
+    }
+
+    /**
+     * @return the number of dates
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return whether the dates are in ascending order
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * @param index the index of the date
+     * @return the epoch day of the date
+     */
+    public int getEpochDay(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " of size " + size);
+        }
+        return buffer.getInt(HEADER_LENGTH + 4 * index);
+    }
+
+    /**
+     * @param index the index of the date
+     * @return the packed date
+     */
+    public long getPacked(int index) {
+        return EthiopianConversions.epochDayToPackedEthiopic(getEpochDay(index));
+    }
+
+    /**
+     * @param index the index of the date
+     * @return the date
+     */
+    public EthiopianDate get(int index) {
+        return EthiopianDate.ofEpochDay(getEpochDay(index));
+    }
+
+    /**
+     * Hands the index of every date from {@code fromEpochDay} inclusive to
+     * {@code toEpochDay} exclusive to the consumer, in index order.
+     *
+     * @param fromEpochDay the first epoch day
+     * @param toEpochDay the epoch day after the last one
+     * @param consumer receives the indexes
+     * @return the number of dates found
+     */
+    public int scan(long fromEpochDay, long toEpochDay, IntConsumer consumer) {
+        if (sorted) {
+            int start = lowerBound(fromEpochDay);
+            int end = lowerBound(toEpochDay);
+            for (int i = start; i < end; i++) {
+                consumer.accept(i);
+            }
+            return Math.max(0, end - start);
+        }
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int epochDay = buffer.getInt(HEADER_LENGTH + 4 * i);
+            if (epochDay >= fromEpochDay && epochDay < toEpochDay) {
+                consumer.accept(i);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Hands the index of every date of an Amete Mihret year to the consumer.
+     *
+     * @param year the year, continuing to 0 and below into Amete Alem
+     * @param consumer receives the indexes
+     * @return the number of dates found
+     */
+    public int scanYear(int year, IntConsumer consumer) {
+        return scan(EthiopianConversions.toEpochDay(MIHRET_OFFSET, year, 1, 1),
+                EthiopianConversions.toEpochDay(MIHRET_OFFSET, year + 1L, 1, 1), consumer);
+    }
+
+    /**
+     * Hands the index of every date of a month of an Amete Mihret year to the
+     * consumer.
+     *
+     * @param year the year, continuing to 0 and below into Amete Alem
+     * @param month the month of year, 1 to 13
+     * @param consumer receives the indexes
+     * @return the number of dates found
+     */
+    public int scanMonth(int year, int month, IntConsumer consumer) {
+        if (month < 1 || month > 13) {
+            throw new IllegalArgumentException("Invalid month " + month);
+        }
+        long start = EthiopianConversions.toEpochDay(MIHRET_OFFSET, year, month, 1);
+        long end = month == 13
+                ? EthiopianConversions.toEpochDay(MIHRET_OFFSET, year + 1L, 1, 1)
+                : start + 30;
+        return scan(start, end, consumer);
+    }
+
+    /**
+     * The index of the first date on or after an epoch day, in a sorted
+     * column.
+     *
+     * @param epochDay the epoch day
+     * @return the index, {@link #size()} when every date is before
+     * @throws IllegalStateException if the column is not sorted
+     */
+    public int lowerBound(long epochDay) {
+        if (!sorted) {
+            throw new IllegalStateException("The column is not sorted");
+        }
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (buffer.getInt(HEADER_LENGTH + 4 * middle) < epochDay) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+}
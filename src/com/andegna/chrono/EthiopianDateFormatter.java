@@ -0,0 +1,469 @@
+package com.andegna.chrono;
+
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+
+/**
+ * Formats {@link EthiopianDate}s with a pattern compiled once, writing
+ * straight into a {@link StringBuilder}, a {@code char[]} or a
+ * {@link ByteBuffer} (UTF-8) without intermediate strings.
+ * <p>
+ * The pattern letters are
+ * <pre>
+ *   y      year of era          2016
+ *   yy     two digit year       16
+ *   yyyy   zero padded year     2016
+ *   M, MM  month of year        5, 05
+ *   MMM    month name           Tir
+ *   MMMM   Amharic month name   ጥር
+ *   d, dd  day of month         7, 07
+ *   E..EEE weekday name         Segno
+ *   EEEE   Amharic weekday name ሰኞ
+ *   G..GGG era                  AM
+ *   GGGG   Amharic era          ዓ.ም
+ * </pre>
+ * Text in single quotes is written as it is, two single quotes write one.
+ * Any other letter is reserved, every other character is a literal.
+ * <p>
+ * {@link #withGeezNumerals()} writes the numbers in Ge'ez numerals, eg:-
+ * ፳፻፲፮ for 2016, see {@link GeezNumerals}.
+ * <p>
+ * A formatter is immutable and thread safe.
+ */
+public final class EthiopianDateFormatter {
+
+    private static final int YEAR = 0;
+    private static final int YEAR_TWO_DIGITS = 1;
+    private static final int MONTH = 2;
+    private static final int MONTH_NAME = 3;
+    private static final int MONTH_AMHARIC_NAME = 4;
+    private static final int DAY = 5;
+    private static final int WEEKDAY_NAME = 6;
+    private static final int WEEKDAY_AMHARIC_NAME = 7;
+    private static final int ERA = 8;
+    private static final int ERA_AMHARIC = 9;
+    private static final int LITERAL = 10;
+
+    // Monday first, like java.time.DayOfWeek
+    private static final String[] WEEKDAY_NAMES = {
+        "Segno", "Maksegno", "Rob", "Hamus", "Arb", "Kidame", "Ehud"
+    };
+    private static final String[] WEEKDAY_AMHARIC_NAMES = {
+        "ሰኞ", "ማክሰኞ", "ረቡዕ", "ሐሙስ", "ዓርብ", "ቅዳሜ", "እሑድ"
+    };
+    // by era value
+    private static final String[] ERA_NAMES = {"AA", "AM"};
+    private static final String[] ERA_AMHARIC_NAMES = {"ዓ.ዓ", "ዓ.ም"};
+    private static final String[] MONTH_NAMES = new String[13];
+    private static final String[] MONTH_AMHARIC_NAMES = new String[13];
+
+    static {
+        for (EthiopianMonth month : EthiopianMonth.values()) {
+            MONTH_NAMES[month.ordinal()] = month.getLatinName();
+            MONTH_AMHARIC_NAMES[month.ordinal()] = month.getAmharicName();
+        }
+    }
+
+    // the text of every name element, indexed by element kind
+    private static final String[][] TEXTS = new String[LITERAL][];
+    private static final byte[][][] UTF8_TEXTS = new byte[LITERAL][][];
+
+    static {
+        TEXTS[MONTH_NAME] = MONTH_NAMES;
+        TEXTS[MONTH_AMHARIC_NAME] = MONTH_AMHARIC_NAMES;
+        TEXTS[WEEKDAY_NAME] = WEEKDAY_NAMES;
+        TEXTS[WEEKDAY_AMHARIC_NAME] = WEEKDAY_AMHARIC_NAMES;
+        TEXTS[ERA] = ERA_NAMES;
+        TEXTS[ERA_AMHARIC] = ERA_AMHARIC_NAMES;
+        for (int kind = 0; kind < LITERAL; kind++) {
+            if (TEXTS[kind] != null) {
+                UTF8_TEXTS[kind] = utf8(TEXTS[kind]);
+            }
+        }
+    }
+
+    private final String pattern;
+    // one entry per element: its kind, its minimum width for numbers or its
+    // index in literals
+    private final int[] kinds;
+    private final int[] arguments;
+    private final String[] literals;
+    private final byte[][] utf8Literals;
+    private final boolean geezNumerals;
+
+    private EthiopianDateFormatter(String pattern, int[] kinds, int[] arguments,
+            String[] literals, byte[][] utf8Literals, boolean geezNumerals) {
+        this.pattern = pattern;
+        this.kinds = kinds;
+        this.arguments = arguments;
+        this.literals = literals;
+        this.utf8Literals = utf8Literals;
+        this.geezNumerals = geezNumerals;
+    }
+
+    /**
+     * Compiles a pattern, see the class documentation for the letters.
+     *
+     * @param pattern the pattern
+     * @return the {@link EthiopianDateFormatter}
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static EthiopianDateFormatter ofPattern(String pattern) {
+        int length = pattern.length();
+        int[] kinds = new int[length];
+        int[] arguments = new int[length];
+        String[] literals = new String[length];
+        int elements = 0;
+        int literalCount = 0;
+        StringBuilder literal = new StringBuilder();
+
+        int i = 0;
+        while (i < length) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                int close = i + 1;
+                while (true) {
+                    if (close >= length) {
+                        throw new IllegalArgumentException("Unterminated quote in pattern: " + pattern);
+                    }
+                    if (pattern.charAt(close) == '\'') {
+                        if (close + 1 < length && pattern.charAt(close + 1) == '\'') {
+                            literal.append('\'');
+                            close += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    literal.append(pattern.charAt(close++));
+                }
+                if (close == i + 1) {
+                    // '' outside quotes
+                    literal.append('\'');
+                }
+                i = close + 1;
+                continue;
+            }
+            if ((c < 'a' || c > 'z') && (c < 'A' || c > 'Z')) {
+                literal.append(c);
+                i++;
+                continue;
+            }
+
+            int count = 1;
+            while (i + count < length && pattern.charAt(i + count) == c) {
+                count++;
+            }
+            int kind = kindOf(c, count, pattern);
+            if (literal.length() > 0) {
+                kinds[elements] = LITERAL;
+                arguments[elements++] = literalCount;
+                literals[literalCount++] = literal.toString();
+                literal.setLength(0);
+            }
+            kinds[elements] = kind;
+            arguments[elements++] = count;
+            i += count;
+        }
+        if (literal.length() > 0) {
+            kinds[elements] = LITERAL;
+            arguments[elements++] = literalCount;
+            literals[literalCount++] = literal.toString();
+        }
+
+        String[] usedLiterals = new String[literalCount];
+        System.arraycopy(literals, 0, usedLiterals, 0, literalCount);
+        int[] usedKinds = new int[elements];
+        int[] usedArguments = new int[elements];
+        System.arraycopy(kinds, 0, usedKinds, 0, elements);
+        System.arraycopy(arguments, 0, usedArguments, 0, elements);
+        return new EthiopianDateFormatter(pattern, usedKinds, usedArguments, usedLiterals,
+                utf8(usedLiterals), false);
+    }
+
+    /**
+     * A copy of this formatter writing the numbers in Ge'ez numerals. The
+     * numbers are not padded, and as Ge'ez numerals have no zero a two digit
+     * year of a year ending in 00 can not be written.
+     *
+     * @return the {@link EthiopianDateFormatter}
+     */
+    public EthiopianDateFormatter withGeezNumerals() {
+        if (geezNumerals) {
+            return this;
+        }
+        return new EthiopianDateFormatter(pattern, kinds, arguments, literals, utf8Literals, true);
+    }
+
+    /**
+     * @return whether the numbers are written in Ge'ez numerals
+     */
+    public boolean isGeezNumerals() {
+        return geezNumerals;
+    }
+
+    private static int kindOf(char letter, int count, String pattern) {
+        switch (letter) {
+            case 'y':
+                return count == 2 ? YEAR_TWO_DIGITS : YEAR;
+            case 'M':
+                if (count <= 2) {
+                    return MONTH;
+                } else if (count == 3) {
+                    return MONTH_NAME;
+                } else if (count == 4) {
+                    return MONTH_AMHARIC_NAME;
+                }
+                break;
+            case 'd':
+                if (count <= 2) {
+                    return DAY;
+                }
+                break;
+            case 'E':
+                if (count <= 3) {
+                    return WEEKDAY_NAME;
+                } else if (count == 4) {
+                    return WEEKDAY_AMHARIC_NAME;
+                }
+                break;
+            case 'G':
+                if (count <= 3) {
+                    return ERA;
+                } else if (count == 4) {
+                    return ERA_AMHARIC;
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown pattern letter '" + letter
+                        + "' in pattern: " + pattern);
+        }
+        throw new IllegalArgumentException("Too many pattern letters '" + letter
+                + "' in pattern: " + pattern);
+    }
+
+    /**
+     * @param date the date to format
+     * @return the formatted date
+     */
+    public String format(EthiopianDate date) {
+        StringBuilder builder = new StringBuilder(32);
+        formatTo(date, builder);
+        return builder.toString();
+    }
+
+    /**
+     * Appends a formatted date.
+     *
+     * @param date the date to format
+     * @param builder the builder receiving the text
+     * @return the builder
+     */
+    public StringBuilder formatTo(EthiopianDate date, StringBuilder builder) {
+        for (int i = 0; i < kinds.length; i++) {
+            int kind = kinds[i];
+            int argument = arguments[i];
+            switch (kind) {
+                case LITERAL:
+                    builder.append(literals[argument]);
+                    break;
+                case YEAR:
+                case YEAR_TWO_DIGITS:
+                case MONTH:
+                case DAY:
+                    int value = number(date, kind);
+                    if (geezNumerals) {
+                        GeezNumerals.appendTo(geez(value), builder);
+                        break;
+                    }
+                    if (value < 0) {
+                        // the years before 1 Amete Alem
+                        builder.append('-');
+                        value = -value;
+                    }
+                    for (int pad = digits(value); pad < argument; pad++) {
+                        builder.append('0');
+                    }
+                    builder.append(value);
+                    break;
+                default:
+                    builder.append(TEXTS[kind][textIndex(date, kind)]);
+            }
+        }
+        return builder;
+    }
+
+    /**
+     * Writes a formatted date into a char array.
+     *
+     * @param date the date to format
+     * @param chars the array receiving the text
+     * @param offset the index of the first char written
+     * @return the index after the last char written
+     * @throws IndexOutOfBoundsException if the text does not fit
+     */
+    public int formatTo(EthiopianDate date, char[] chars, int offset) {
+        int pos = offset;
+        for (int i = 0; i < kinds.length; i++) {
+            int kind = kinds[i];
+            int argument = arguments[i];
+            String text;
+            switch (kind) {
+                case LITERAL:
+                    text = literals[argument];
+                    break;
+                case YEAR:
+                case YEAR_TWO_DIGITS:
+                case MONTH:
+                case DAY:
+                    int value = number(date, kind);
+                    if (geezNumerals) {
+                        pos = GeezNumerals.writeTo(geez(value), chars, pos);
+                        continue;
+                    }
+                    if (value < 0) {
+                        chars[pos++] = '-';
+                        value = -value;
+                    }
+                    int digits = digits(value);
+                    for (int pad = digits; pad < argument; pad++) {
+                        chars[pos++] = '0';
+                    }
+                    pos += digits;
+                    for (int j = pos - 1; j >= pos - digits; j--) {
+                        chars[j] = (char) ('0' + value % 10);
+                        value /= 10;
+                    }
+                    continue;
+                default:
+                    text = TEXTS[kind][textIndex(date, kind)];
+            }
+            int length = text.length();
+            text.getChars(0, length, chars, pos);
+            pos += length;
+        }
+        return pos;
+    }
+
+    /**
+     * Writes a formatted date as UTF-8 at the position of a buffer, the
+     * position is moved after the text.
+     *
+     * @param date the date to format
+     * @param buffer the buffer receiving the text
+     * @return the buffer
+     * @throws BufferOverflowException if the text does not fit
+     */
+    public ByteBuffer formatTo(EthiopianDate date, ByteBuffer buffer) {
+        for (int i = 0; i < kinds.length; i++) {
+            int kind = kinds[i];
+            int argument = arguments[i];
+            switch (kind) {
+                case LITERAL:
+                    buffer.put(utf8Literals[argument]);
+                    break;
+                case YEAR:
+                case YEAR_TWO_DIGITS:
+                case MONTH:
+                case DAY:
+                    int value = number(date, kind);
+                    if (geezNumerals) {
+                        GeezNumerals.writeTo(geez(value), buffer);
+                        break;
+                    }
+                    if (value < 0) {
+                        buffer.put((byte) '-');
+                        value = -value;
+                    }
+                    for (int pad = digits(value); pad < argument; pad++) {
+                        buffer.put((byte) '0');
+                    }
+                    putDigits(buffer, value);
+                    break;
+                default:
+                    buffer.put(UTF8_TEXTS[kind][textIndex(date, kind)]);
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * @return the pattern of this formatter
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    private static int number(EthiopianDate date, int kind) {
+        switch (kind) {
+            case YEAR:
+                return date.getYear();
+            case YEAR_TWO_DIGITS:
+                return date.getYear() % 100;
+            case MONTH:
+                return date.getMonth();
+            default:
+                return date.getDay();
+        }
+    }
+
+    private static int textIndex(EthiopianDate date, int kind) {
+        switch (kind) {
+            case MONTH_NAME:
+            case MONTH_AMHARIC_NAME:
+                return date.getMonth() - 1;
+            case WEEKDAY_NAME:
+            case WEEKDAY_AMHARIC_NAME:
+                // the epoch day 0 is a Thursday
+                return (int) Math.floorMod(date.toEpochDay() + 3, 7L);
+            default:
+                return date.getEra().getValue();
+        }
+    }
+
+    private static int geez(int value) {
+        if (value < 1) {
+            throw new DateTimeException("Ge'ez numerals have no zero or negative numbers");
+        }
+        return value;
+    }
+
+    private static int digits(int value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    private static void putDigits(ByteBuffer buffer, int value) {
+        int digits = digits(value);
+        int end = buffer.position() + digits;
+        if (end > buffer.limit()) {
+            throw new BufferOverflowException();
+        }
+        for (int j = end - 1; j >= end - digits; j--) {
+            buffer.put(j, (byte) ('0' + value % 10));
+            value /= 10;
+        }
+        // ByteBuffer.position(int) only exists from Java 9
+        ((Buffer) buffer).position(end);
+    }
+
+    private static byte[][] utf8(String[] texts) {
+        byte[][] bytes = new byte[texts.length][];
+        for (int i = 0; i < texts.length; i++) {
+            bytes[i] = texts[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return bytes;
+    }
+
+}
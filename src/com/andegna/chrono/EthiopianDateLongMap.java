@@ -0,0 +1,137 @@
+package com.andegna.chrono;
+
+import java.time.chrono.ChronoLocalDate;
+
+/**
+ * A map from dates to {@code long}s kept as primitive epoch days and values
+ * in an open addressing table, for per date counters and aggregates.
+ * <p>
+ * Dates of any chronology are accepted, two dates are the same key when
+ * they are the same day. The map is not thread safe.
+ */
+public final class EthiopianDateLongMap extends EpochDayHashMap {
+
+    /**
+     * Receives the entries of a map.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+
+        /**
+         * @param epochDay the epoch day of the key
+         * @param value the value
+         */
+        void accept(long epochDay, long value);
+    }
+
+    private long[] values;
+
+    /**
+     * An empty map of the default capacity.
+     */
+    public EthiopianDateLongMap() {
+        this(16);
+    }
+
+    /**
+     * An empty map holding {@code expectedSize} dates without growing.
+     *
+     * @param expectedSize the expected number of dates
+     */
+    public EthiopianDateLongMap(int expectedSize) {
+        super(expectedSize);
+        values = new long[keys.length];
+    }
+
+    /**
+     * @param date the key
+     * @param defaultValue the value when the date is not a key
+     * @return the value of the date, or the default value
+     */
+    public long getOrDefault(ChronoLocalDate date, long defaultValue) {
+        return getOrDefault(date.toEpochDay(), defaultValue);
+    }
+
+    /**
+     * @param epochDay the epoch day of the key
+     * @param defaultValue the value when the date is not a key
+     * @return the value of the date, or the default value
+     */
+    public long getOrDefault(long epochDay, long defaultValue) {
+        int slot = indexOf(epochDay);
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    /**
+     * @param date the key
+     * @param value the value
+     */
+    public void put(ChronoLocalDate date, long value) {
+        put(date.toEpochDay(), value);
+    }
+
+    /**
+     * @param epochDay the epoch day of the key
+     * @param value the value
+     */
+    public void put(long epochDay, long value) {
+        int slot = addKey(epochDay);
+        values[slot < 0 ? ~slot : slot] = value;
+    }
+
+    /**
+     * Adds to the value of a date, a missing date counts as 0.
+     *
+     * @param date the key
+     * @param delta the amount to add
+     * @return the new value
+     */
+    public long addTo(ChronoLocalDate date, long delta) {
+        return addTo(date.toEpochDay(), delta);
+    }
+
+    /**
+     * Adds to the value of a date, a missing date counts as 0.
+     *
+     * @param epochDay the epoch day of the key
+     * @param delta the amount to add
+     * @return the new value
+     */
+    public long addTo(long epochDay, long delta) {
+        int slot = addKey(epochDay);
+        if (slot < 0) {
+            return values[~slot] = delta;
+        }
+        return values[slot] += delta;
+    }
+
+    /**
+     * Hands every entry to the consumer, in no particular order.
+     *
+     * @param consumer receives the entries
+     */
+    public void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    void relocateValues(int[] newSlots, int capacity) {
+        long[] moved = new long[capacity];
+        for (int i = 0; i < newSlots.length; i++) {
+            if (newSlots[i] >= 0) {
+                moved[newSlots[i]] = values[i];
+            }
+        }
+        values = moved;
+    }
+
+}
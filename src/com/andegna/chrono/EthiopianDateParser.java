@@ -0,0 +1,464 @@
+package com.andegna.chrono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Parses Ethiopian dates straight out of a {@link CharSequence}, a
+ * {@code char[]} or a UTF-8 {@code byte[]} slice, without creating
+ * substrings or any other object for a valid input.
+ * <p>
+ * Two forms are read
+ * <pre>
+ *   2015-13-05        year-month-day, a '/' separator is accepted too
+ *   05/13/2015        day/month/year, when the first number has 1 or 2 digits
+ *   ጥር 12 ቀን 2016 ዓ.ም  month name, day, an optional ቀን, year and era
+ *   Tir 12 2016       the transliterated month names work too
+ * </pre>
+ * The numbers may be written in Ge'ez numerals too, eg:- ጥር ፲፪ ቀን ፳፻፲፮ ዓ.ም
+ * or ፳፻፲፭-፲፫-፭, a numeric form in Ge'ez numerals is always year first.
+ * <p>
+ * The Amharic names are matched with their common spellings (ህዳር for ኅዳር,
+ * ጳጉሜ for ጳጉሜን and so on), the Latin names ignoring case. The era marker
+ * is ዓ.ም (Amete Mihret, the default) or ዓ.ዓ (Amete Alem), the dots may be
+ * left out or written as '/'. The date is checked with the rules of
+ * {@link EthiopianDate}, so Pagume 6 is only accepted on a leap year.
+ * <p>
+ * A parser keeps a cursor while it works, it is not thread safe. Use one
+ * instance per thread.
+ */
+public final class EthiopianDateParser {
+
+    // every accepted month name, the month of NAMES[i] is NAME_MONTHS[i]
+    private static final String[] NAMES;
+    private static final int[] NAME_MONTHS;
+    // the lower case first character of every name, to skip most names
+    // after a single comparison
+    private static final char[] NAME_FIRSTS;
+
+    static {
+        String[][] variants = {
+            {}, {}, {"ህዳር"}, {"ታህሳስ", "ታኅሳስ"}, {}, {}, {},
+            {"ሚያዚያ"}, {}, {}, {"ሀምሌ"}, {"ነሀሴ"}, {"ጳጉሜ"}
+        };
+        int count = 0;
+        for (String[] names : variants) {
+            count += names.length + 2;
+        }
+        NAMES = new String[count];
+        NAME_MONTHS = new int[count];
+        int i = 0;
+        for (EthiopianMonth month : EthiopianMonth.values()) {
+            NAMES[i] = month.getAmharicName();
+            NAME_MONTHS[i++] = month.getValue();
+            NAMES[i] = month.getLatinName();
+            NAME_MONTHS[i++] = month.getValue();
+            for (String name : variants[month.ordinal()]) {
+                NAMES[i] = name;
+                NAME_MONTHS[i++] = month.getValue();
+            }
+        }
+        NAME_FIRSTS = new char[count];
+        for (i = 0; i < count; i++) {
+            NAME_FIRSTS[i] = Character.toLowerCase(NAMES[i].charAt(0));
+        }
+    }
+
+    private static final int DAY_WORD = 'ቀ';
+    private static final int DAY_WORD_END = 'ን';
+    private static final int ERA_WORD = 'ዓ';
+    private static final int MIHRET_MARK = 'ም';
+    private static final int ETHIOPIC_WORDSPACE = '፡';
+
+    // the input, only one of them is set while parsing
+    private CharSequence chars;
+    private char[] array;
+    private byte[] bytes;
+
+    private int start;
+    private int end;
+    private int pos;
+    // reused by every Ge'ez number
+    private final GeezNumerals.Reader geez = new GeezNumerals.Reader();
+
+    /**
+     * Parses a whole text to a packed date, see
+     * {@link EthiopianConversions#pack(EthiopianEra, int, int, int)}.
+     *
+     * @param text the text to parse
+     * @return the packed date
+     * @throws DateTimeParseException if the text is not a valid date
+     */
+    public long parsePacked(CharSequence text) {
+        return parsePacked(text, 0, text.length());
+    }
+
+    /**
+     * Parses the characters between {@code start} inclusive and {@code end}
+     * exclusive to a packed date.
+     *
+     * @param text the text to parse
+     * @param start the index of the first character
+     * @param end the index after the last character
+     * @return the packed date
+     * @throws DateTimeParseException if the slice is not a valid date
+     */
+    public long parsePacked(CharSequence text, int start, int end) {
+        checkSlice(start, end, text.length());
+        chars = text;
+        try {
+            return parse(start, end);
+        } finally {
+            chars = null;
+        }
+    }
+
+    /**
+     * Parses {@code length} characters from {@code offset} to a packed date.
+     *
+     * @param text the characters to parse
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return the packed date
+     * @throws DateTimeParseException if the slice is not a valid date
+     */
+    public long parsePacked(char[] text, int offset, int length) {
+        checkSlice(offset, offset + length, text.length);
+        array = text;
+        try {
+            return parse(offset, offset + length);
+        } finally {
+            array = null;
+        }
+    }
+
+    /**
+     * Parses {@code length} bytes of UTF-8 from {@code offset} to a packed
+     * date. The error index of a failure is a byte index.
+     *
+     * @param utf8 the UTF-8 bytes to parse
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the packed date
+     * @throws DateTimeParseException if the slice is not a valid date
+     */
+    public long parsePacked(byte[] utf8, int offset, int length) {
+        checkSlice(offset, offset + length, utf8.length);
+        bytes = utf8;
+        try {
+            return parse(offset, offset + length);
+        } finally {
+            bytes = null;
+        }
+    }
+
+    /**
+     * @param text the text to parse
+     * @return the {@link EthiopianDate}
+     * @throws DateTimeParseException if the text is not a valid date
+     */
+    public EthiopianDate parse(CharSequence text) {
+        return toDate(parsePacked(text));
+    }
+
+    /**
+     * @param text the text to parse
+     * @param start the index of the first character
+     * @param end the index after the last character
+     * @return the {@link EthiopianDate}
+     * @throws DateTimeParseException if the slice is not a valid date
+     */
+    public EthiopianDate parse(CharSequence text, int start, int end) {
+        return toDate(parsePacked(text, start, end));
+    }
+
+    /**
+     * @param text the characters to parse
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return the {@link EthiopianDate}
+     * @throws DateTimeParseException if the slice is not a valid date
+     */
+    public EthiopianDate parse(char[] text, int offset, int length) {
+        return toDate(parsePacked(text, offset, length));
+    }
+
+    /**
+     * @param utf8 the UTF-8 bytes to parse
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the {@link EthiopianDate}
+     * @throws DateTimeParseException if the slice is not a valid date
+     */
+    public EthiopianDate parse(byte[] utf8, int offset, int length) {
+        return toDate(parsePacked(utf8, offset, length));
+    }
+
+    private static EthiopianDate toDate(long packed) {
+        return new EthiopianDate(EthiopianConversions.unpackEra(packed),
+                EthiopianConversions.unpackYear(packed),
+                EthiopianConversions.unpackMonth(packed),
+                EthiopianConversions.unpackDay(packed));
+    }
+
+    private static void checkSlice(int start, int end, int length) {
+        if (start < 0 || start > end || end > length) {
+            throw new IndexOutOfBoundsException("Invalid slice " + start + " to " + end
+                    + " of length " + length);
+        }
+    }
+
+    private long parse(int start, int end) {
+        this.start = start;
+        this.end = end;
+        this.pos = start;
+
+        skipSpaces();
+        int c = peek();
+        long packed = c >= '0' && c <= '9' || GeezNumerals.valueOf(c) > 0
+                ? parseNumeric() : parseNamed();
+        skipSpaces();
+        if (pos < end) {
+            throw error("Unexpected text", pos);
+        }
+        return packed;
+    }
+
+    // y-M-d or d/M/y
+    private long parseNumeric() {
+        boolean geez = GeezNumerals.valueOf(peek()) > 0;
+        int firstIndex = pos;
+        int first = number(9);
+        int firstDigits = pos - firstIndex;
+        int separator = peek();
+        if (separator != '-' && separator != '/') {
+            throw error("Expected '-' or '/'", pos);
+        }
+        pos++;
+        int month = number(2);
+        if (peek() != separator) {
+            throw error("Expected '" + (char) separator + "'", pos);
+        }
+        pos++;
+        int lastIndex = pos;
+        if (!geez && firstDigits <= 2) {
+            return checked(number(9), month, first, lastIndex, EthiopianEra.AMETE_MIHRET);
+        }
+        return checked(first, month, number(2), firstIndex, EthiopianEra.AMETE_MIHRET);
+    }
+
+    // month day [ቀን] year [ዓ.ም|ዓ.ዓ]
+    private long parseNamed() {
+        int month = monthName();
+        requireSpace();
+        int day = number(2);
+        requireSpace();
+        if (peek() == DAY_WORD) {
+            advance();
+            if (peek() != DAY_WORD_END) {
+                throw error("Expected 'ቀን'", pos);
+            }
+            advance();
+            requireSpace();
+        }
+        int yearIndex = pos;
+        int year = number(9);
+        skipSpaces();
+        EthiopianEra era = EthiopianEra.AMETE_MIHRET;
+        if (peek() == ERA_WORD) {
+            era = eraMarker();
+        }
+        return checked(year, month, day, yearIndex, era);
+    }
+
+    private long checked(int year, int month, int day, int yearIndex, EthiopianEra era) {
+        if (year < 1) {
+            throw error("Invalid year '" + year + "'", yearIndex);
+        }
+        try {
+            EthiopianDate.validate(year, month, day);
+        } catch (DateTimeException ex) {
+            throw error(ex.getMessage(), start);
+        }
+        return EthiopianConversions.pack(era, year, month, day);
+    }
+
+    private EthiopianEra eraMarker() {
+        int markerIndex = pos;
+        advance();
+        skipMarkerDot();
+        int c = peek();
+        EthiopianEra era;
+        if (c == MIHRET_MARK) {
+            era = EthiopianEra.AMETE_MIHRET;
+        } else if (c == ERA_WORD) {
+            era = EthiopianEra.AMETE_ALEM;
+        } else {
+            throw error("Invalid era", markerIndex);
+        }
+        advance();
+        skipMarkerDot();
+        return era;
+    }
+
+    private void skipMarkerDot() {
+        int c = peek();
+        if (c == '.' || c == '/') {
+            pos++;
+        }
+    }
+
+    // the longest name matching at the cursor
+    private int monthName() {
+        int bestEnd = -1;
+        int month = 0;
+        int first = peek();
+        if (first < 0x80) {
+            first = Character.toLowerCase(first);
+        }
+        for (int i = 0; i < NAMES.length; i++) {
+            if (NAME_FIRSTS[i] != first) {
+                continue;
+            }
+            int nameEnd = match(NAMES[i]);
+            if (nameEnd > bestEnd) {
+                bestEnd = nameEnd;
+                month = NAME_MONTHS[i];
+            }
+        }
+        if (bestEnd < 0) {
+            throw error("Unknown month name", pos);
+        }
+        pos = bestEnd;
+        return month;
+    }
+
+    // the index after the name when it is at the cursor, otherwise -1
+    private int match(String name) {
+        int i = pos;
+        for (int n = 0; n < name.length(); n++) {
+            if (i >= end) {
+                return -1;
+            }
+            int c = codePointAt(i);
+            char expected = name.charAt(n);
+            if (c != expected && (expected >= 0x80 || Character.toLowerCase(c) != expected
+                    && Character.toUpperCase(c) != expected)) {
+                return -1;
+            }
+            i += widthAt(i);
+        }
+        return i;
+    }
+
+    private int number(int maxDigits) {
+        int index = pos;
+        int value = 0;
+        int c = peek();
+        if (GeezNumerals.valueOf(c) > 0) {
+            return geezNumber();
+        }
+        while (c >= '0' && c <= '9' && pos - index < maxDigits) {
+            value = value * 10 + (c - '0');
+            c = peek(++pos);
+        }
+        if (pos == index) {
+            throw error("Expected a number", index);
+        }
+        if (c >= '0' && c <= '9') {
+            throw error("Too many digits", index);
+        }
+        return value;
+    }
+
+    private int geezNumber() {
+        int index = pos;
+        geez.reset();
+        int value;
+        while ((value = GeezNumerals.valueOf(peek())) > 0) {
+            try {
+                geez.add(value);
+            } catch (ArithmeticException ex) {
+                throw error("Number too large", index);
+            }
+            if (geez.value() > Integer.MAX_VALUE) {
+                throw error("Number too large", index);
+            }
+            advance();
+        }
+        return (int) geez.value();
+    }
+
+    private void requireSpace() {
+        int index = pos;
+        skipSpaces();
+        if (pos == index) {
+            throw error("Expected a space", index);
+        }
+    }
+
+    private void skipSpaces() {
+        while (pos < end) {
+            int c = codePointAt(pos);
+            if (c != ' ' && c != '\t' && c != '\u00a0' && c != ETHIOPIC_WORDSPACE) {
+                return;
+            }
+            pos += widthAt(pos);
+        }
+    }
+
+    private int peek() {
+        return peek(pos);
+    }
+
+    private int peek(int index) {
+        return index < end ? codePointAt(index) : -1;
+    }
+
+    private void advance() {
+        pos += widthAt(pos);
+    }
+
+    // a char for the char sources, a decoded code point for UTF-8, -1 for a
+    // truncated UTF-8 sequence
+    private int codePointAt(int index) {
+        if (bytes == null) {
+            return array != null ? array[index] : chars.charAt(index);
+        }
+        int b = bytes[index] & 0xff;
+        int width = widthAt(index);
+        if (width == 1) {
+            return b;
+        }
+        if (index + width > end) {
+            return -1;
+        }
+        int c = b & (0xff >>> (width + 1));
+        for (int i = 1; i < width; i++) {
+            c = (c << 6) | (bytes[index + i] & 0x3f);
+        }
+        return c;
+    }
+
+    private int widthAt(int index) {
+        if (bytes == null) {
+            return 1;
+        }
+        int b = bytes[index] & 0xff;
+        return b < 0xc0 ? 1 : b < 0xe0 ? 2 : b < 0xf0 ? 3 : 4;
+    }
+
+    private DateTimeParseException error(String message, int index) {
+        String text;
+        if (bytes != null) {
+            text = new String(bytes, start, end - start, StandardCharsets.UTF_8);
+        } else if (array != null) {
+            text = new String(array, start, end - start);
+        } else {
+            text = chars.subSequence(start, end).toString();
+        }
+        return new DateTimeParseException(message + " in '" + text + "'", text, index - start);
+    }
+
+}
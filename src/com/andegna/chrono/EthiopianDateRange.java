@@ -0,0 +1,396 @@
+package com.andegna.chrono;
+
+import java.time.chrono.ChronoLocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The dates from a start date inclusive to an end date exclusive, every
+ * day or every given number of days, weeks, Ethiopian months or years.
+ * <p>
+ * The n-th date is the start plus n steps, like
+ * {@link EthiopianDate#plus(long, TemporalUnit)}: stepping by months or
+ * years keeps the day of the start date, clamped to the length of Ṗagume.
+ * The dates are produced lazily by advancing the year, month and day of
+ * the previous one, nothing is converted from epoch days. The
+ * {@link Spliterator} knows its exact size and splits in halves, so
+ * parallel streams partition evenly.
+ * <p>
+ * Dates before 1 Amete Mihret are labeled Amete Alem, the others Amete
+ * Mihret.
+ */
+public final class EthiopianDateRange implements Iterable<EthiopianDate> {
+
+    private final EthiopianDate start;
+    private final long endEpochDay;
+    private final long step;
+    private final ChronoUnit unit;
+    private final long size;
+
+    // the start in continuous Amete Mihret years
+    private final long startYear;
+
+    private EthiopianDateRange(EthiopianDate start, long endEpochDay,
+            long step, ChronoUnit unit) {
+        this.start = start;
+        this.endEpochDay = endEpochDay;
+        this.step = step;
+        this.unit = unit;
+        this.startYear = start.ameteMihretYear();
+        this.size = computeSize();
+    }
+
+    /**
+     * The dates of every day from {@code startInclusive} to
+     * {@code endExclusive}.
+     *
+     * @param startInclusive the first date
+     * @param endExclusive the date after the last one
+     * @return the {@link EthiopianDateRange}, empty when the end is not
+     * after the start
+     */
+    public static EthiopianDateRange of(ChronoLocalDate startInclusive,
+            ChronoLocalDate endExclusive) {
+        return of(startInclusive, endExclusive, 1, ChronoUnit.DAYS);
+    }
+
+    /**
+     * The dates every {@code step} units from {@code startInclusive} to
+     * {@code endExclusive}.
+     *
+     * @param startInclusive the first date
+     * @param endExclusive the date after the last one
+     * @param step the number of units between two dates, positive
+     * @param unit one of {@link ChronoUnit#DAYS}, {@link ChronoUnit#WEEKS},
+     * {@link ChronoUnit#MONTHS} or {@link ChronoUnit#YEARS}
+     * @return the {@link EthiopianDateRange}, empty when the end is not
+     * after the start
+     */
+    public static EthiopianDateRange of(ChronoLocalDate startInclusive,
+            ChronoLocalDate endExclusive, long step, TemporalUnit unit) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("Invalid step " + step);
+        }
+        if (unit == ChronoUnit.WEEKS) {
+            return new EthiopianDateRange(EthiopianDate.from(startInclusive),
+                    endExclusive.toEpochDay(), Math.multiplyExact(step, 7), ChronoUnit.DAYS);
+        }
+        if (unit != ChronoUnit.DAYS && unit != ChronoUnit.MONTHS && unit != ChronoUnit.YEARS) {
+            throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+        }
+        return new EthiopianDateRange(EthiopianDate.from(startInclusive),
+                endExclusive.toEpochDay(), step, (ChronoUnit) unit);
+    }
+
+    /**
+     * @param step the number of units between two dates, positive
+     * @param unit one of {@link ChronoUnit#DAYS}, {@link ChronoUnit#WEEKS},
+     * {@link ChronoUnit#MONTHS} or {@link ChronoUnit#YEARS}
+     * @return the range with the same start and end and the given step
+     */
+    public EthiopianDateRange withStep(long step, TemporalUnit unit) {
+        return of(start, EthiopianDate.ofEpochDay(endEpochDay), step, unit);
+    }
+
+    /**
+     * @return the first date, the start even when the range is empty
+     */
+    public EthiopianDate getStart() {
+        return start;
+    }
+
+    /**
+     * @return the date after the last one
+     */
+    public EthiopianDate getEnd() {
+        return EthiopianDate.ofEpochDay(endEpochDay);
+    }
+
+    /**
+     * @return the number of dates
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return whether there is no date
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param date a date of any chronology
+     * @return whether the date is one of the dates of the range
+     */
+    public boolean contains(ChronoLocalDate date) {
+        long epochDay = date.toEpochDay();
+        if (epochDay < start.toEpochDay() || epochDay >= endEpochDay) {
+            return false;
+        }
+        if (unit == ChronoUnit.DAYS) {
+            return (epochDay - start.toEpochDay()) % step == 0;
+        }
+        EthiopianDate other = EthiopianDate.ofEpochDay(epochDay);
+        long units = unit == ChronoUnit.MONTHS
+                ? (other.ameteMihretYear() - startYear) * 13 + other.getMonth() - start.getMonth()
+                : other.ameteMihretYear() - startYear;
+        return units % step == 0 && epochDayAt(units / step) == epochDay;
+    }
+
+    /**
+     * @param index the index of a date, from 0 to {@link #size()} exclusive
+     * @return the date
+     */
+    public EthiopianDate get(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + ", size " + size);
+        }
+        Cursor cursor = new Cursor();
+        cursor.moveTo(index);
+        return cursor.date();
+    }
+
+    @Override
+    public Iterator<EthiopianDate> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    @Override
+    public Spliterator<EthiopianDate> spliterator() {
+        return new RangeSpliterator(0, size);
+    }
+
+    /**
+     * @return a sequential stream of the dates, {@code parallel()} splits it
+     * evenly
+     */
+    public Stream<EthiopianDate> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    // the smallest index whose date is not before the end
+    private long computeSize() {
+        long startEpochDay = start.toEpochDay();
+        if (endEpochDay <= startEpochDay) {
+            return 0;
+        }
+        if (unit == ChronoUnit.DAYS) {
+            return (endEpochDay - startEpochDay - 1) / step + 1;
+        }
+        // the dates are in the month or year of the end from about here
+        EthiopianDate end = EthiopianDate.ofEpochDay(endEpochDay);
+        long units = unit == ChronoUnit.MONTHS
+                ? (end.ameteMihretYear() - startYear) * 13 + end.getMonth() - start.getMonth()
+                : end.ameteMihretYear() - startYear;
+        long index = units / step;
+        while (index > 0 && epochDayAt(index - 1) >= endEpochDay) {
+            index--;
+        }
+        while (epochDayAt(index) < endEpochDay) {
+            index++;
+        }
+        return index;
+    }
+
+    // the epoch day of the date at an index, for the month and year steps
+    private long epochDayAt(long index) {
+        long months = (unit == ChronoUnit.MONTHS ? step : step * 13) * index;
+        long monthCount = startYear * 13 + start.getMonth() - 1 + months;
+        long year = Math.floorDiv(monthCount, 13);
+        int month = (int) Math.floorMod(monthCount, 13) + 1;
+        return EthiopianConversions.toEpochDay(EthiopianEra.AMETE_MIHRET.getEpochOffset(),
+                year, month, clampDay(year, month, start.getDay()));
+    }
+
+    private static int clampDay(long year, int month, int day) {
+        return month == 13 ? Math.min(day, Math.floorMod(year, 4) == 3 ? 6 : 5) : day;
+    }
+
+    private static int lengthOfMonth(long year, int month) {
+        return month == 13 ? Math.floorMod(year, 4) == 3 ? 6 : 5 : 30;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + start + ", " + getEnd() + ") every " + step + " " + unit;
+    }
+
+    /**
+     * The date at an index, moved to the next one with the year, month and
+     * day arithmetic of the calendar.
+     */
+    private final class Cursor {
+
+        long year;
+        int month;
+        int day;
+        long epochDay;
+
+        // the step split in years and months for the month steps
+        private final long stepYears = unit == ChronoUnit.MONTHS ? step / 13 : step;
+        private final int stepMonths = unit == ChronoUnit.MONTHS ? (int) (step % 13) : 0;
+
+        void moveTo(long index) {
+            if (unit == ChronoUnit.DAYS) {
+                epochDay = start.toEpochDay() + step * index;
+                if (index == 0) {
+                    year = startYear;
+                    month = start.getMonth();
+                    day = start.getDay();
+                } else {
+                    long packed = EthiopianConversions.epochDayToPackedEthiopic(epochDay);
+                    year = EthiopianConversions.ameteMihretYear(packed);
+                    month = EthiopianConversions.unpackMonth(packed);
+                    day = EthiopianConversions.unpackDay(packed);
+                }
+            } else {
+                long months = (unit == ChronoUnit.MONTHS ? step : step * 13) * index;
+                long monthCount = startYear * 13 + start.getMonth() - 1 + months;
+                year = Math.floorDiv(monthCount, 13);
+                month = (int) Math.floorMod(monthCount, 13) + 1;
+                updateDay();
+            }
+        }
+
+        void advance() {
+            if (unit == ChronoUnit.DAYS) {
+                epochDay += step;
+                long days = day + step;
+                // at most 13 months of a year, whole years at once first
+                if (days > 366) {
+                    long years = (days - 31) / 366;
+                    long before = EthiopianConversions.toEpochDay(0, year, month, 1);
+                    year += years;
+                    days -= EthiopianConversions.toEpochDay(0, year, month, 1) - before;
+                }
+                int length;
+                while (days > (length = lengthOfMonth(year, month))) {
+                    days -= length;
+                    if (++month > 13) {
+                        month = 1;
+                        year++;
+                    }
+                }
+                day = (int) days;
+            } else {
+                year += stepYears;
+                month += stepMonths;
+                if (month > 13) {
+                    month -= 13;
+                    year++;
+                }
+                updateDay();
+            }
+        }
+
+        private void updateDay() {
+            day = clampDay(year, month, start.getDay());
+            epochDay = EthiopianConversions.toEpochDay(
+                    EthiopianEra.AMETE_MIHRET.getEpochOffset(), year, month, day);
+        }
+
+        EthiopianDate date() {
+            return year > 0
+                    ? new EthiopianDate(EthiopianEra.AMETE_MIHRET, (int) year, month, day, epochDay)
+                    : new EthiopianDate(EthiopianEra.AMETE_ALEM,
+                            (int) (year + EthiopianDate.AMETE_ALEM_YEARS), month, day, epochDay);
+        }
+
+        void copyFrom(Cursor other) {
+            year = other.year;
+            month = other.month;
+            day = other.day;
+            epochDay = other.epochDay;
+        }
+    }
+
+    /**
+     * Walks the dates from an index to a fence, splitting off its first
+     * half.
+     */
+    private final class RangeSpliterator implements Spliterator<EthiopianDate> {
+
+        private long index;
+        private final long fence;
+        // the date at index, positioned on the first advance
+        private Cursor cursor;
+
+        RangeSpliterator(long index, long fence) {
+            this.index = index;
+            this.fence = fence;
+        }
+
+        private Cursor cursor() {
+            if (cursor == null) {
+                cursor = new Cursor();
+                cursor.moveTo(index);
+            }
+            return cursor;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super EthiopianDate> action) {
+            if (index >= fence) {
+                return false;
+            }
+            Cursor c = cursor();
+            EthiopianDate date = c.date();
+            if (++index < fence) {
+                c.advance();
+            }
+            action.accept(date);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super EthiopianDate> action) {
+            if (index >= fence) {
+                return;
+            }
+            Cursor c = cursor();
+            long remaining = fence - index;
+            index = fence;
+            action.accept(c.date());
+            for (long i = 1; i < remaining; i++) {
+                c.advance();
+                action.accept(c.date());
+            }
+        }
+
+        @Override
+        public Spliterator<EthiopianDate> trySplit() {
+            long mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            RangeSpliterator prefix = new RangeSpliterator(index, mid);
+            if (cursor != null) {
+                prefix.cursor = new Cursor();
+                prefix.cursor.copyFrom(cursor);
+                cursor.moveTo(mid);
+            }
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return SIZED | SUBSIZED | ORDERED | IMMUTABLE | NONNULL | DISTINCT;
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.andegna.chrono;
+
+import java.time.chrono.ChronoLocalDate;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * A set of dates kept as primitive epoch days in an open addressing table,
+ * 8 bytes per slot and 11 to 21 bytes per date with the table 3/8 to 3/4
+ * full, against about 80 for a {@code HashSet<EthiopianDate>}.
+ * <p>
+ * Dates of any chronology are accepted, two dates are the same when they
+ * are the same day. The set is not thread safe.
+ */
+public final class EthiopianDateSet extends EpochDayHashTable {
+
+    /**
+     * An empty set of the default capacity.
+     */
+    public EthiopianDateSet() {
+        this(16);
+    }
+
+    /**
+     * An empty set holding {@code expectedSize} dates without growing.
+     *
+     * @param expectedSize the expected number of dates
+     */
+    public EthiopianDateSet(int expectedSize) {
+        super(expectedSize);
+    }
+
+    /**
+     * @param date the date to add
+     * @return whether the date was not in the set
+     */
+    public boolean add(ChronoLocalDate date) {
+        return addEpochDay(date.toEpochDay());
+    }
+
+    /**
+     * @param epochDay the epoch day of the date to add
+     * @return whether the date was not in the set
+     */
+    public boolean addEpochDay(long epochDay) {
+        return addKey(epochDay) < 0;
+    }
+
+    /**
+     * @param date the date to look for
+     * @return whether the date is in the set
+     */
+    public boolean contains(ChronoLocalDate date) {
+        return containsEpochDay(date.toEpochDay());
+    }
+
+    /**
+     * @param epochDay the epoch day of the date to look for
+     * @return whether the date is in the set
+     */
+    public boolean containsEpochDay(long epochDay) {
+        return indexOf(epochDay) >= 0;
+    }
+
+    /**
+     * @param date the date to remove
+     * @return whether the date was in the set
+     */
+    public boolean remove(ChronoLocalDate date) {
+        return removeEpochDay(date.toEpochDay());
+    }
+
+    /**
+     * @param epochDay the epoch day of the date to remove
+     * @return whether the date was in the set
+     */
+    public boolean removeEpochDay(long epochDay) {
+        return removeKey(epochDay);
+    }
+
+    /**
+     * Hands the epoch day of every date to the consumer, in no particular
+     * order.
+     *
+     * @param consumer receives the epoch days
+     */
+    public void forEach(LongConsumer consumer) {
+        for (long key : keys) {
+            if (key != EMPTY) {
+                consumer.accept(key);
+            }
+        }
+    }
+
+    /**
+     * @return the epoch days of the dates in ascending order
+     */
+    public long[] toEpochDayArray() {
+        long[] epochDays = new long[size];
+        int i = 0;
+        for (long key : keys) {
+            if (key != EMPTY) {
+                epochDays[i++] = key;
+            }
+        }
+        Arrays.sort(epochDays);
+        return epochDays;
+    }
+
+    /**
+     * @return the dates as a sorted {@link EthiopianDateArray}
+     */
+    public EthiopianDateArray toSortedArray() {
+        return EthiopianDateArray.ofSortedUnique(toEpochDayArray());
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+    }
+
+    @Override
+    void relocateValues(int[] newSlots, int capacity) {
+    }
+
+}
@@ -0,0 +1,379 @@
+package com.andegna.chrono;
+
+import java.io.Serializable;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAmount;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.ValueRange;
+
+/**
+ * An {@link EthiopianDate} with a time of day, without a time zone.
+ * <p>
+ * The hour, minute, second and nanosecond are kept decoded next to the
+ * date, so reading a field is a field access. The time is the civil time,
+ * the date changes at midnight. The Ethiopian 12 hour clock counts the
+ * hours from 6 in the morning and 6 in the evening instead, it is read with
+ * {@link #getEthiopianClockHour()} and {@link #isEthiopianDaytime()}: 7:30
+ * in the morning is 1:30 of the day and 1:30 after midnight is 7:30 of the
+ * night.
+ */
+public final class EthiopianDateTime
+        implements ChronoLocalDateTime<EthiopianDate>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    static final int SECONDS_PER_DAY = 86400;
+    static final long NANOS_PER_SECOND = 1000_000_000L;
+    static final long NANOS_PER_DAY = NANOS_PER_SECOND * SECONDS_PER_DAY;
+
+    private final EthiopianDate date;
+    private final int hour;
+    private final int minute;
+    private final int second;
+    private final int nano;
+
+    // for already validated fields
+    EthiopianDateTime(EthiopianDate date, int hour, int minute, int second, int nano) {
+        this.date = date;
+        this.hour = hour;
+        this.minute = minute;
+        this.second = second;
+        this.nano = nano;
+    }
+
+    /**
+     * @param date the date
+     * @param time the time of day
+     * @return the {@link EthiopianDateTime}
+     */
+    public static EthiopianDateTime of(EthiopianDate date, LocalTime time) {
+        return new EthiopianDateTime(date, time.getHour(), time.getMinute(),
+                time.getSecond(), time.getNano());
+    }
+
+    /**
+     * @param prolepticYear the proleptic year
+     * @param month the month of year, 1 to 13
+     * @param dayOfMonth the day of month
+     * @param hour the hour of day, 0 to 23
+     * @param minute the minute of hour, 0 to 59
+     * @return the {@link EthiopianDateTime}
+     */
+    public static EthiopianDateTime of(int prolepticYear, int month, int dayOfMonth,
+            int hour, int minute) {
+        return of(EthiopianDate.of(prolepticYear, month, dayOfMonth), LocalTime.of(hour, minute));
+    }
+
+    /**
+     * @param epochSecond the seconds since 1970-01-01T00:00Z
+     * @param nanoOfSecond the nanosecond of the second, 0 to 999,999,999
+     * @param offset the offset of the local time
+     * @return the {@link EthiopianDateTime}
+     */
+    public static EthiopianDateTime ofEpochSecond(long epochSecond, int nanoOfSecond,
+            ZoneOffset offset) {
+        ChronoField.NANO_OF_SECOND.checkValidValue(nanoOfSecond);
+        long localSecond = epochSecond + offset.getTotalSeconds();
+        long epochDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(localSecond, SECONDS_PER_DAY);
+        return ofSecondOfDay(EthiopianDate.ofEpochDay(epochDay), secondOfDay, nanoOfSecond);
+    }
+
+    // splits a second of day, 0 to 86399
+    static EthiopianDateTime ofSecondOfDay(EthiopianDate date, int secondOfDay, int nano) {
+        return new EthiopianDateTime(date, secondOfDay / 3600, secondOfDay / 60 % 60,
+                secondOfDay % 60, nano);
+    }
+
+    private static EthiopianDateTime ofNanoOfDay(EthiopianDate date, long nanoOfDay) {
+        int secondOfDay = (int) (nanoOfDay / NANOS_PER_SECOND);
+        return ofSecondOfDay(date, secondOfDay, (int) (nanoOfDay % NANOS_PER_SECOND));
+    }
+
+    /**
+     * The date and time of an instant in a time zone, going through the
+     * rules of the zone. {@link EthiopianInstantConverter} is faster for
+     * many instants of the same zone.
+     *
+     * @param instant the instant
+     * @param zone the time zone
+     * @return the {@link EthiopianDateTime}
+     */
+    public static EthiopianDateTime ofInstant(Instant instant, ZoneId zone) {
+        return ofEpochSecond(instant.getEpochSecond(), instant.getNano(),
+                zone.getRules().getOffset(instant));
+    }
+
+    /**
+     * @param temporal a date and time of any chronology
+     * @return the {@link EthiopianDateTime}
+     */
+    public static EthiopianDateTime from(TemporalAccessor temporal) {
+        if (temporal instanceof EthiopianDateTime) {
+            return (EthiopianDateTime) temporal;
+        }
+        if (temporal instanceof EthiopianZonedDateTime) {
+            return ((EthiopianZonedDateTime) temporal).toLocalDateTime();
+        }
+        try {
+            return of(EthiopianDate.from(temporal), LocalTime.from(temporal));
+        } catch (DateTimeException ex) {
+            throw new DateTimeException("Unable to obtain EthiopianDateTime from "
+                    + temporal + " of type " + temporal.getClass().getName(), ex);
+        }
+    }
+
+    @Override
+    public EthiopianDate toLocalDate() {
+        return date;
+    }
+
+    @Override
+    public LocalTime toLocalTime() {
+        return LocalTime.of(hour, minute, second, nano);
+    }
+
+    /**
+     * @return the hour of day, 0 to 23
+     */
+    public int getHour() {
+        return hour;
+    }
+
+    /**
+     * @return the minute of hour, 0 to 59
+     */
+    public int getMinute() {
+        return minute;
+    }
+
+    /**
+     * @return the second of minute, 0 to 59
+     */
+    public int getSecond() {
+        return second;
+    }
+
+    /**
+     * @return the nanosecond of second, 0 to 999,999,999
+     */
+    public int getNano() {
+        return nano;
+    }
+
+    /**
+     * @return the hour of the Ethiopian 12 hour clock, 1 to 12, eg:- 1 at
+     * 7:00 and 19:00, 12 at 6:00 and 18:00
+     */
+    public int getEthiopianClockHour() {
+        int clockHour = (hour + 6) % 12;
+        return clockHour == 0 ? 12 : clockHour;
+    }
+
+    /**
+     * @return whether the Ethiopian clock reads an hour of the day (ቀን),
+     * from 6:00 to 17:59, or of the night (ሌሊት)
+     */
+    public boolean isEthiopianDaytime() {
+        return hour >= 6 && hour < 18;
+    }
+
+    private long nanoOfDay() {
+        return (hour * 3600L + minute * 60 + second) * NANOS_PER_SECOND + nano;
+    }
+
+    @Override
+    public boolean isSupported(TemporalField field) {
+        if (field instanceof ChronoField) {
+            return field.isDateBased() || field.isTimeBased();
+        }
+        return field != null && field.isSupportedBy(this);
+    }
+
+    @Override
+    public ValueRange range(TemporalField field) {
+        if (field instanceof ChronoField) {
+            return field.isTimeBased() ? field.range() : date.range(field);
+        }
+        return field.rangeRefinedBy(this);
+    }
+
+    @Override
+    public long getLong(TemporalField field) {
+        if (field instanceof ChronoField) {
+            if (!field.isTimeBased()) {
+                return date.getLong(field);
+            }
+            switch ((ChronoField) field) {
+                case HOUR_OF_DAY:
+                    return hour;
+                case MINUTE_OF_HOUR:
+                    return minute;
+                case SECOND_OF_MINUTE:
+                    return second;
+                case NANO_OF_SECOND:
+                    return nano;
+                case SECOND_OF_DAY:
+                    return hour * 3600 + minute * 60 + second;
+                case NANO_OF_DAY:
+                    return nanoOfDay();
+            }
+            return toLocalTime().getLong(field);
+        }
+        return field.getFrom(this);
+    }
+
+    @Override
+    public EthiopianDateTime with(TemporalAdjuster adjuster) {
+        if (adjuster instanceof ChronoLocalDate) {
+            return with(EthiopianDate.from((ChronoLocalDate) adjuster), hour, minute, second, nano);
+        }
+        if (adjuster instanceof LocalTime) {
+            LocalTime time = (LocalTime) adjuster;
+            return with(date, time.getHour(), time.getMinute(), time.getSecond(), time.getNano());
+        }
+        return (EthiopianDateTime) adjuster.adjustInto(this);
+    }
+
+    @Override
+    public EthiopianDateTime with(TemporalField field, long newValue) {
+        if (field instanceof ChronoField) {
+            if (field.isTimeBased()) {
+                return of(date, toLocalTime().with(field, newValue));
+            }
+            if (field == ChronoField.EPOCH_DAY) {
+                return with(EthiopianDate.ofEpochDay(newValue), hour, minute, second, nano);
+            }
+            return with(date.with(field, newValue), hour, minute, second, nano);
+        }
+        return field.adjustInto(this, newValue);
+    }
+
+    private EthiopianDateTime with(EthiopianDate newDate, int hour, int minute, int second,
+            int nano) {
+        if (date == newDate && this.hour == hour && this.minute == minute
+                && this.second == second && this.nano == nano) {
+            return this;
+        }
+        return new EthiopianDateTime(newDate, hour, minute, second, nano);
+    }
+
+    @Override
+    public EthiopianDateTime plus(TemporalAmount amount) {
+        return (EthiopianDateTime) amount.addTo(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The date units are added to the date like
+     * {@link EthiopianDate#plus(long, TemporalUnit)}, the time units carry
+     * over midnight.
+     *
+     * @param amountToAdd
+     * @param unit
+     * @return {@link EthiopianDateTime}
+     */
+    @Override
+    public EthiopianDateTime plus(long amountToAdd, TemporalUnit unit) {
+        if (unit instanceof ChronoUnit) {
+            if (!unit.isTimeBased()) {
+                return with(date.plus(amountToAdd, unit), hour, minute, second, nano);
+            }
+            // whole days first, so the nanoseconds cannot overflow
+            long unitNanos = unit.getDuration().toNanos();
+            long unitsPerDay = NANOS_PER_DAY / unitNanos;
+            long days = amountToAdd / unitsPerDay;
+            long nanoOfDay = nanoOfDay() + amountToAdd % unitsPerDay * unitNanos;
+            days += Math.floorDiv(nanoOfDay, NANOS_PER_DAY);
+            return ofNanoOfDay(date.plusDays(days), Math.floorMod(nanoOfDay, NANOS_PER_DAY));
+        }
+        return unit.addTo(this, amountToAdd);
+    }
+
+    @Override
+    public EthiopianDateTime minus(TemporalAmount amount) {
+        return (EthiopianDateTime) amount.subtractFrom(this);
+    }
+
+    @Override
+    public EthiopianDateTime minus(long amountToSubtract, TemporalUnit unit) {
+        return (amountToSubtract == Long.MIN_VALUE)
+                ? plus(Long.MAX_VALUE, unit).plus(1, unit)
+                : plus(-amountToSubtract, unit);
+    }
+
+    @Override
+    public long until(Temporal endExclusive, TemporalUnit unit) {
+        EthiopianDateTime end = from(endExclusive);
+        if (unit instanceof ChronoUnit) {
+            long days = end.date.toEpochDay() - date.toEpochDay();
+            long nanos = end.nanoOfDay() - nanoOfDay();
+            if (unit.isTimeBased()) {
+                if (days > 0 && nanos < 0) {
+                    days--;
+                    nanos += NANOS_PER_DAY;
+                } else if (days < 0 && nanos > 0) {
+                    days++;
+                    nanos -= NANOS_PER_DAY;
+                }
+                long unitNanos = unit.getDuration().toNanos();
+                return Math.addExact(Math.multiplyExact(days, NANOS_PER_DAY / unitNanos),
+                        nanos / unitNanos);
+            }
+            // the last day only counts when its time is reached
+            EthiopianDate endDate = end.date;
+            if (days > 0 && nanos < 0) {
+                endDate = endDate.minusDays(1);
+            } else if (days < 0 && nanos > 0) {
+                endDate = endDate.plusDays(1);
+            }
+            return date.until(endDate, unit);
+        }
+        return unit.between(this, end);
+    }
+
+    @Override
+    public EthiopianZonedDateTime atZone(ZoneId zone) {
+        return EthiopianZonedDateTime.ofLocal(this, zone, null);
+    }
+
+    @Override
+    public long toEpochSecond(ZoneOffset offset) {
+        return date.toEpochDay() * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second
+                - offset.getTotalSeconds();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof EthiopianDateTime) {
+            EthiopianDateTime other = (EthiopianDateTime) obj;
+            return date.equals(other.date) && hour == other.hour && minute == other.minute
+                    && second == other.second && nano == other.nano;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return date.hashCode() ^ Long.hashCode(nanoOfDay());
+    }
+
+    @Override
+    public String toString() {
+        return date.toString() + 'T' + toLocalTime();
+    }
+
+}
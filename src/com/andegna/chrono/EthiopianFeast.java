@@ -0,0 +1,55 @@
+package com.andegna.chrono;
+
+/**
+ * The movable feasts and fasts of the Ethiopian Orthodox church, with their
+ * Amharic (Ge'ez script) and Latin transliterated names.
+ * <p>
+ * Each is a fixed number of days after Nenewe, the fast of Nineveh, of the
+ * year computed by {@link BahireHasab}.
+ */
+public enum EthiopianFeast {
+
+    NENEWE("ነነዌ", "Nenewe", 0),
+    ABIY_TSOM("ዐቢይ ጾም", "Abiy Tsom", 14),
+    DEBRE_ZEIT("ደብረ ዘይት", "Debre Zeit", 41),
+    HOSANNA("ሆሣዕና", "Hosanna", 62),
+    SIKLET("ስቅለት", "Siklet", 67),
+    FASIKA("ፋሲካ", "Fasika", 69),
+    RIKBE_KAHINAT("ርክበ ካህናት", "Rikbe Kahinat", 93),
+    ERGET("ዕርገት", "Erget", 108),
+    PERAKLITOS("ጰራቅሊጦስ", "Peraklitos", 118),
+    TSOME_HAWARYAT("ጾመ ሐዋርያት", "Tsome Hawaryat", 119),
+    TSOME_DIHNET("ጾመ ድኅነት", "Tsome Dihnet", 121);
+
+    private final String amharicName;
+    private final String latinName;
+    private final int daysAfterNenewe;
+
+    private EthiopianFeast(String amharicName, String latinName, int daysAfterNenewe) {
+        this.amharicName = amharicName;
+        this.latinName = latinName;
+        this.daysAfterNenewe = daysAfterNenewe;
+    }
+
+    /**
+     * @return the name in Amharic, eg:- ፋሲካ
+     */
+    public String getAmharicName() {
+        return amharicName;
+    }
+
+    /**
+     * @return the transliterated name, eg:- Fasika
+     */
+    public String getLatinName() {
+        return latinName;
+    }
+
+    /**
+     * @return the days from Nenewe to the feast
+     */
+    public int getDaysAfterNenewe() {
+        return daysAfterNenewe;
+    }
+
+}
@@ -0,0 +1,156 @@
+package com.andegna.chrono;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.chrono.HijrahChronology;
+import java.time.chrono.HijrahDate;
+import java.time.temporal.ChronoField;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * The public holidays of Ethiopia, with their Amharic (Ge'ez script) and
+ * Latin transliterated names.
+ * <p>
+ * The fixed holidays are days of the Ethiopian calendar, except the
+ * labour day which is the 1st of May. Siklet and Fasika are computed by
+ * {@link BahireHasab}. The Muslim holidays are taken from
+ * {@link HijrahChronology}, the Umm al-Qura calendar: the dates
+ * declared in Ethiopia on the sighting of the moon can be a day apart, and
+ * there are none outside the range of that calendar.
+ */
+public enum EthiopianHoliday {
+
+    ENKUTATASH("እንቁጣጣሽ", "Enkutatash", 1, 1),
+    MESKEL("መስቀል", "Meskel", 1, 17),
+    MAWLID("መውሊድ", "Mawlid", 0, 0) {
+        @Override
+        void forEachEpochDay(long year, LongConsumer consumer) {
+            hijrah(year, 3, 12, consumer);
+        }
+    },
+    GENNA("ገና", "Genna", 4, 29) {
+        @Override
+        void forEachEpochDay(long year, LongConsumer consumer) {
+            // the 25th of December of the Julian calendar, a day earlier
+            // in the year after Ṗagume 6
+            consumer.accept(epochDay(year, 4, Math.floorMod(year, 4) == 0 ? 28 : 29));
+        }
+    },
+    TIMKET("ጥምቀት", "Timket", 5, 11),
+    ADWA("የአድዋ ድል በዓል", "Adwa Victory Day", 6, 23),
+    SIKLET("ስቅለት", "Siklet", 0, 0) {
+        @Override
+        void forEachEpochDay(long year, LongConsumer consumer) {
+            consumer.accept(BahireHasab.feastEpochDay(Math.toIntExact(year), EthiopianFeast.SIKLET));
+        }
+    },
+    FASIKA("ፋሲካ", "Fasika", 0, 0) {
+        @Override
+        void forEachEpochDay(long year, LongConsumer consumer) {
+            consumer.accept(BahireHasab.feastEpochDay(Math.toIntExact(year), EthiopianFeast.FASIKA));
+        }
+    },
+    EID_AL_FITR("ኢድ አልፈጥር", "Eid al-Fitr", 0, 0) {
+        @Override
+        void forEachEpochDay(long year, LongConsumer consumer) {
+            hijrah(year, 10, 1, consumer);
+        }
+    },
+    PATRIOTS_VICTORY("የአርበኞች ቀን", "Patriots' Victory Day", 8, 27),
+    LABOUR_DAY("የሠራተኞች ቀን", "International Labour Day", 0, 0) {
+        @Override
+        void forEachEpochDay(long year, LongConsumer consumer) {
+            consumer.accept(LocalDate.of(Math.toIntExact(year + GREGORIAN_YEARS), 5, 1).toEpochDay());
+        }
+    },
+    DERG_DOWNFALL("ደርግ የወደቀበት ቀን", "Derg Downfall Day", 9, 20),
+    EID_AL_ADHA("ኢድ አልአድሃ", "Eid al-Adha", 0, 0) {
+        @Override
+        void forEachEpochDay(long year, LongConsumer consumer) {
+            hijrah(year, 12, 10, consumer);
+        }
+    };
+
+    // from the Ethiopian year to the Gregorian year of its Tir to Ṗagume
+    private static final int GREGORIAN_YEARS = 8;
+
+    private final String amharicName;
+    private final String latinName;
+    private final int month;
+    private final int day;
+
+    private EthiopianHoliday(String amharicName, String latinName, int month, int day) {
+        this.amharicName = amharicName;
+        this.latinName = latinName;
+        this.month = month;
+        this.day = day;
+    }
+
+    /**
+     * @return the name in Amharic, eg:- መስቀል
+     */
+    public String getAmharicName() {
+        return amharicName;
+    }
+
+    /**
+     * @return the transliterated name, eg:- Meskel
+     */
+    public String getLatinName() {
+        return latinName;
+    }
+
+    /**
+     * @param year the year in Amete Mihret
+     * @return the days of the holiday in the Ethiopian year, none, one, or
+     * two for the Muslim holidays shifting through the solar year
+     */
+    public EthiopianDateArray datesIn(int year) {
+        long[] epochDays = new long[2];
+        int[] count = new int[1];
+        forEachEpochDay(year, epochDay -> epochDays[count[0]++] = epochDay);
+        return EthiopianDateArray.ofEpochDays(Arrays.copyOf(epochDays, count[0]));
+    }
+
+    /**
+     * Hands the epoch days of the holiday in an Ethiopian year to the
+     * consumer.
+     *
+     * @param year the year counted continuously in Amete Mihret
+     * @param consumer receives the epoch days
+     */
+    void forEachEpochDay(long year, LongConsumer consumer) {
+        consumer.accept(epochDay(year, month, day));
+    }
+
+    private static long epochDay(long year, int month, int day) {
+        return EthiopianConversions.toEpochDay(
+                EthiopianEra.AMETE_MIHRET.getEpochOffset(), year, month, day);
+    }
+
+    // the days of an Umm al-Qura date in an Ethiopian year, a Hijrah year
+    // is 11 days shorter so it can come twice
+    private static void hijrah(long year, int month, int day, LongConsumer consumer) {
+        long start = epochDay(year, 1, 1);
+        long end = epochDay(year + 1, 1, 1);
+        int hijrahYear;
+        try {
+            hijrahYear = HijrahDate.from(LocalDate.ofEpochDay(start)).get(ChronoField.YEAR);
+        } catch (DateTimeException outOfRange) {
+            return;
+        }
+        for (int y = hijrahYear; y <= hijrahYear + 1; y++) {
+            long epochDay;
+            try {
+                epochDay = HijrahChronology.INSTANCE.date(y, month, day).toEpochDay();
+            } catch (DateTimeException outOfRange) {
+                continue;
+            }
+            if (start <= epochDay && epochDay < end) {
+                consumer.accept(epochDay);
+            }
+        }
+    }
+
+}
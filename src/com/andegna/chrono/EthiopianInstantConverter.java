@@ -0,0 +1,133 @@
+package com.andegna.chrono;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+/**
+ * Converts instants to Ethiopian dates and times of a time zone, for
+ * streams of close timestamps.
+ * <p>
+ * The converter remembers the last local day it met: its date, its offset
+ * and the epoch seconds it covers, cut at the transitions of the zone. An
+ * instant in that day is converted with a subtraction and three divisions,
+ * the zone rules and the calendar conversion only run when the day
+ * changes.
+ * <p>
+ * The remembered day is immutable, so a converter can be shared between
+ * threads, they just replace each other's day.
+ */
+public final class EthiopianInstantConverter {
+
+    private final ZoneId zone;
+    private final ZoneRules rules;
+    private Day day;
+
+    private EthiopianInstantConverter(ZoneId zone) {
+        this.zone = zone;
+        this.rules = zone.getRules();
+    }
+
+    /**
+     * @param zone the time zone of the dates and times
+     * @return the {@link EthiopianInstantConverter}
+     */
+    public static EthiopianInstantConverter of(ZoneId zone) {
+        return new EthiopianInstantConverter(zone);
+    }
+
+    /**
+     * @return the time zone of the dates and times
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * @param instant the instant
+     * @return the local date and time of the instant
+     */
+    public EthiopianDateTime toDateTime(Instant instant) {
+        return toDateTime(instant.getEpochSecond(), instant.getNano());
+    }
+
+    /**
+     * @param epochMilli the milliseconds since 1970-01-01T00:00Z
+     * @return the local date and time of the instant
+     */
+    public EthiopianDateTime epochMilliToDateTime(long epochMilli) {
+        return toDateTime(Math.floorDiv(epochMilli, 1000),
+                (int) Math.floorMod(epochMilli, 1000) * 1000_000);
+    }
+
+    /**
+     * @param epochSecond the seconds since 1970-01-01T00:00Z
+     * @param nanoOfSecond the nanosecond of the second, 0 to 999,999,999
+     * @return the local date and time of the instant
+     */
+    public EthiopianDateTime toDateTime(long epochSecond, int nanoOfSecond) {
+        Day d = dayOf(epochSecond);
+        return EthiopianDateTime.ofSecondOfDay(d.date, (int) (epochSecond - d.midnight),
+                nanoOfSecond);
+    }
+
+    /**
+     * @param instant the instant
+     * @return the zoned date and time of the instant
+     */
+    public EthiopianZonedDateTime toZonedDateTime(Instant instant) {
+        long epochSecond = instant.getEpochSecond();
+        Day d = dayOf(epochSecond);
+        return new EthiopianZonedDateTime(EthiopianDateTime.ofSecondOfDay(d.date,
+                (int) (epochSecond - d.midnight), instant.getNano()), d.offset, zone, epochSecond);
+    }
+
+    private Day dayOf(long epochSecond) {
+        Day d = day;
+        if (d == null || epochSecond < d.from || epochSecond >= d.until) {
+            d = new Day(epochSecond);
+            day = d;
+        }
+        return d;
+    }
+
+    /**
+     * The epoch seconds of a local day with a single offset.
+     */
+    private final class Day {
+
+        final EthiopianDate date;
+        final ZoneOffset offset;
+        // the epoch second of the local midnight under the offset
+        final long midnight;
+        final long from;
+        final long until;
+
+        Day(long epochSecond) {
+            Instant instant = Instant.ofEpochSecond(epochSecond);
+            offset = rules.getOffset(instant);
+            long epochDay = Math.floorDiv(epochSecond + offset.getTotalSeconds(),
+                    EthiopianDateTime.SECONDS_PER_DAY);
+            date = EthiopianDate.ofEpochDay(epochDay);
+            midnight = epochDay * EthiopianDateTime.SECONDS_PER_DAY - offset.getTotalSeconds();
+            long start = midnight;
+            long end = midnight + EthiopianDateTime.SECONDS_PER_DAY;
+            if (!rules.isFixedOffset()) {
+                // the transition at the instant itself already applies
+                ZoneOffsetTransition previous = rules.previousTransition(instant.plusSeconds(1));
+                if (previous != null && previous.toEpochSecond() > start) {
+                    start = previous.toEpochSecond();
+                }
+                ZoneOffsetTransition next = rules.nextTransition(instant);
+                if (next != null && next.toEpochSecond() < end) {
+                    end = next.toEpochSecond();
+                }
+            }
+            from = start;
+            until = end;
+        }
+    }
+
+}
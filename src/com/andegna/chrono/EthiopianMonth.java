@@ -0,0 +1,78 @@
+package com.andegna.chrono;
+
+import java.time.DateTimeException;
+
+/**
+ * The 13 months of the Ethiopian year, with their Amharic (Ge'ez script) and
+ * Latin transliterated names.
+ */
+public enum EthiopianMonth {
+
+    MESKEREM("መስከረም", "Meskerem"),
+    TIKIMT("ጥቅምት", "Tikimt"),
+    HIDAR("ኅዳር", "Hidar"),
+    TAHSAS("ታኅሣሥ", "Tahsas"),
+    TIR("ጥር", "Tir"),
+    YEKATIT("የካቲት", "Yekatit"),
+    MEGABIT("መጋቢት", "Megabit"),
+    MIAZIA("ሚያዝያ", "Miazia"),
+    GINBOT("ግንቦት", "Ginbot"),
+    SENE("ሰኔ", "Sene"),
+    HAMLE("ሐምሌ", "Hamle"),
+    NEHASE("ነሐሴ", "Nehase"),
+    PAGUME("ጳጉሜን", "Pagume");
+
+    private static final EthiopianMonth[] MONTHS = values();
+
+    private final String amharicName;
+    private final String latinName;
+
+    private EthiopianMonth(String amharicName, String latinName) {
+        this.amharicName = amharicName;
+        this.latinName = latinName;
+    }
+
+    /**
+     * @param month the month of year, 1 to 13
+     * @return the {@link EthiopianMonth}
+     */
+    public static EthiopianMonth of(int month) {
+        if (month < 1 || month > 13) {
+            throw new DateTimeException("Invalid month '" + month + "'. Month must be between 1-13");
+        }
+        return MONTHS[month - 1];
+    }
+
+    /**
+     * @return the month of year, 1 to 13
+     */
+    public int getValue() {
+        return ordinal() + 1;
+    }
+
+    /**
+     * @return the name in Amharic, eg:- መስከረም
+     */
+    public String getAmharicName() {
+        return amharicName;
+    }
+
+    /**
+     * @return the transliterated name, eg:- Meskerem
+     */
+    public String getLatinName() {
+        return latinName;
+    }
+
+    /**
+     * @param leapYear whether the year is a leap year
+     * @return the number of days of the month
+     */
+    public int length(boolean leapYear) {
+        if (this == PAGUME) {
+            return leapYear ? 6 : 5;
+        }
+        return 30;
+    }
+
+}
@@ -0,0 +1,158 @@
+package com.andegna.chrono;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A table of the epoch day of every Meskerem 1 (Ethiopian New Year) in a
+ * range of Amete Mihret years.
+ * <p>
+ * Converting an epoch day inside the range is an index estimate, one
+ * correction and a subtraction. Outside the range the conversion falls back
+ * to the arithmetic of {@link EthiopianConversions}.
+ * <p>
+ * {@link EthiopianConversions} uses a default table of the years 1800 to
+ * 2200, it measured about 60% faster than the arithmetic on random days
+ * between 1900 and 2100 (see {@code EthiopianYearTableBenchmark}). The range
+ * is configured, or the table turned off, with the system properties
+ * <pre>
+ *   -Dcom.andegna.chrono.yeartable.start=1800
+ *   -Dcom.andegna.chrono.yeartable.end=2200
+ *   -Dcom.andegna.chrono.yeartable.enabled=false
+ * </pre>
+ * The table costs 4 bytes per year.
+ */
+public final class EthiopianYearTable {
+
+    /**
+     * The system property holding the first year of the default table
+     */
+    public static final String START_PROPERTY = "com.andegna.chrono.yeartable.start";
+
+    /**
+     * The system property holding the last year of the default table,
+     * inclusive
+     */
+    public static final String END_PROPERTY = "com.andegna.chrono.yeartable.end";
+
+    /**
+     * The system property that turns the default table off when false
+     */
+    public static final String ENABLED_PROPERTY = "com.andegna.chrono.yeartable.enabled";
+
+    private static final int MIHRET_OFFSET = EthiopianEra.AMETE_MIHRET.getEpochOffset();
+
+    private final int firstYear;
+    // starts[i] is the epoch day of Meskerem 1 of the year firstYear + i,
+    // the extra last entry marks the end of the range
+    private final int[] starts;
+
+    private EthiopianYearTable(int firstYear, int[] starts) {
+        this.firstYear = firstYear;
+        this.starts = starts;
+    }
+
+    /**
+     * Builds the table of the Amete Mihret years {@code firstYear} to
+     * {@code lastYear} inclusive.
+     *
+     * @param firstYear the first year, at least 1
+     * @param lastYear the last year
+     * @return the {@link EthiopianYearTable}
+     */
+    public static EthiopianYearTable of(int firstYear, int lastYear) {
+        if (firstYear < 1 || lastYear < firstYear) {
+            throw new IllegalArgumentException("Invalid year range "
+                    + firstYear + " to " + lastYear);
+        }
+        int[] starts = new int[lastYear - firstYear + 2];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = Math.toIntExact(EthiopianConversions.toEpochDay(
+                    MIHRET_OFFSET, (long) firstYear + i, 1, 1));
+        }
+        return new EthiopianYearTable(firstYear, starts);
+    }
+
+    /**
+     * The table configured through {@link #START_PROPERTY},
+     * {@link #END_PROPERTY} and {@link #ENABLED_PROPERTY}.
+     *
+     * A malformed range is logged and the years 1800 to 2200 are used, the
+     * table is built while {@link EthiopianConversions} is initialized and
+     * must not fail it.
+     *
+     * @return the default {@link EthiopianYearTable}, or null when it is
+     * turned off
+     */
+    static EthiopianYearTable fromSystemProperties() {
+        if (!Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"))) {
+            return null;
+        }
+        String start = System.getProperty(START_PROPERTY, "1800");
+        String end = System.getProperty(END_PROPERTY, "2200");
+        try {
+            return of(Integer.parseInt(start.trim()), Integer.parseInt(end.trim()));
+        } catch (IllegalArgumentException ex) {
+            // NumberFormatException too
+            Logger.getLogger(EthiopianYearTable.class.getName()).log(Level.WARNING,
+                    "Invalid year table range " + start + " to " + end + ", using 1800 to 2200", ex);
+            return of(1800, 2200);
+        }
+    }
+
+    /**
+     * Converts an epoch day to a packed Ethiopian date, see
+     * {@link EthiopianConversions#epochDayToPackedEthiopic(long)}.
+     *
+     * @param epochDay the epoch day
+     * @return the packed date
+     */
+    public long epochDayToPackedEthiopic(long epochDay) {
+        long offset = epochDay - starts[0];
+        if (offset < 0 || epochDay >= starts[starts.length - 1]) {
+            return EthiopianConversions.computePackedEthiopic(epochDay);
+        }
+        // a year is 365 or 366 days, the estimate is off by at most one
+        int i = (int) ((offset * 4) / 1461);
+        if (epochDay < starts[i]) {
+            i--;
+        } else if (epochDay >= starts[i + 1]) {
+            i++;
+        }
+        int dayOfYear = (int) (epochDay - starts[i]);
+        return EthiopianConversions.pack(EthiopianEra.AMETE_MIHRET, firstYear + i,
+                dayOfYear / 30 + 1, dayOfYear % 30 + 1);
+    }
+
+    /**
+     * Converts an Amete Mihret date to the number of days since 1970-01-01
+     * (ISO).
+     *
+     * @param year the year of Amete Mihret
+     * @param month the month of year
+     * @param day the day of month
+     * @return the epoch day
+     */
+    public long toEpochDay(int year, int month, int day) {
+        int i = year - firstYear;
+        if (i < 0 || i >= starts.length - 1) {
+            return EthiopianConversions.toEpochDay(MIHRET_OFFSET, year, month, day);
+        }
+        return starts[i] + 30 * (month - 1) + day - 1;
+    }
+
+    /**
+     * @return the first year of the table
+     */
+    public int getFirstYear() {
+        return firstYear;
+    }
+
+    /**
+     * @return the last year of the table, inclusive
+     */
+    public int getLastYear() {
+        return firstYear + starts.length - 2;
+    }
+
+}
@@ -0,0 +1,293 @@
+package com.andegna.chrono;
+
+import java.io.Serializable;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.chrono.ChronoZonedDateTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAmount;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalUnit;
+
+/**
+ * An {@link EthiopianDateTime} in a time zone.
+ * <p>
+ * The epoch second is kept next to the decoded date and time, so both the
+ * instant and the fields are read without a conversion. Gaps and overlaps
+ * of the zone are resolved like {@link ZonedDateTime}.
+ */
+public final class EthiopianZonedDateTime
+        implements ChronoZonedDateTime<EthiopianDate>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final EthiopianDateTime dateTime;
+    private final ZoneOffset offset;
+    private final ZoneId zone;
+    private final long epochSecond;
+
+    // for a date and time already resolved in the zone
+    EthiopianZonedDateTime(EthiopianDateTime dateTime, ZoneOffset offset, ZoneId zone,
+            long epochSecond) {
+        this.dateTime = dateTime;
+        this.offset = offset;
+        this.zone = zone;
+        this.epochSecond = epochSecond;
+    }
+
+    /**
+     * @param instant the instant
+     * @param zone the time zone
+     * @return the {@link EthiopianZonedDateTime}
+     */
+    public static EthiopianZonedDateTime ofInstant(Instant instant, ZoneId zone) {
+        return ofEpochSecond(instant.getEpochSecond(), instant.getNano(), zone);
+    }
+
+    private static EthiopianZonedDateTime ofEpochSecond(long epochSecond, int nano, ZoneId zone) {
+        ZoneOffset offset = zone.getRules().getOffset(Instant.ofEpochSecond(epochSecond, nano));
+        return new EthiopianZonedDateTime(EthiopianDateTime.ofEpochSecond(epochSecond, nano, offset),
+                offset, zone, epochSecond);
+    }
+
+    /**
+     * Resolves a local date and time in a zone, moving it forward by the
+     * length of a gap and taking the preferred offset in an overlap when it
+     * is valid, the earlier offset otherwise.
+     *
+     * @param dateTime the local date and time
+     * @param zone the time zone
+     * @param preferredOffset the preferred offset, may be null
+     * @return the {@link EthiopianZonedDateTime}
+     */
+    public static EthiopianZonedDateTime ofLocal(EthiopianDateTime dateTime, ZoneId zone,
+            ZoneOffset preferredOffset) {
+        LocalDateTime iso = LocalDateTime.of(LocalDate.ofEpochDay(dateTime.toLocalDate().toEpochDay()),
+                dateTime.toLocalTime());
+        ZonedDateTime resolved = ZonedDateTime.ofLocal(iso, zone, preferredOffset);
+        EthiopianDateTime local = resolved.toLocalDateTime().equals(iso) ? dateTime
+                : EthiopianDateTime.of(EthiopianDate.ofEpochDay(resolved.toLocalDate().toEpochDay()),
+                        resolved.toLocalTime());
+        return new EthiopianZonedDateTime(local, resolved.getOffset(), zone,
+                resolved.toEpochSecond());
+    }
+
+    /**
+     * @param temporal a zoned date and time of any chronology
+     * @return the {@link EthiopianZonedDateTime}
+     */
+    public static EthiopianZonedDateTime from(TemporalAccessor temporal) {
+        if (temporal instanceof EthiopianZonedDateTime) {
+            return (EthiopianZonedDateTime) temporal;
+        }
+        try {
+            ZoneId zone = ZoneId.from(temporal);
+            if (temporal.isSupported(ChronoField.INSTANT_SECONDS)) {
+                return ofEpochSecond(temporal.getLong(ChronoField.INSTANT_SECONDS),
+                        temporal.get(ChronoField.NANO_OF_SECOND), zone);
+            }
+            return ofLocal(EthiopianDateTime.from(temporal), zone, null);
+        } catch (DateTimeException ex) {
+            throw new DateTimeException("Unable to obtain EthiopianZonedDateTime from "
+                    + temporal + " of type " + temporal.getClass().getName(), ex);
+        }
+    }
+
+    @Override
+    public EthiopianDateTime toLocalDateTime() {
+        return dateTime;
+    }
+
+    @Override
+    public EthiopianDate toLocalDate() {
+        return dateTime.toLocalDate();
+    }
+
+    @Override
+    public ZoneOffset getOffset() {
+        return offset;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public long toEpochSecond() {
+        return epochSecond;
+    }
+
+    @Override
+    public Instant toInstant() {
+        return Instant.ofEpochSecond(epochSecond, dateTime.getNano());
+    }
+
+    @Override
+    public EthiopianZonedDateTime withEarlierOffsetAtOverlap() {
+        return resolveLocal(dateTime, true);
+    }
+
+    @Override
+    public EthiopianZonedDateTime withLaterOffsetAtOverlap() {
+        return resolveLocal(dateTime, false);
+    }
+
+    // the same local date and time with the earlier or later offset of an
+    // overlap, unchanged elsewhere
+    private EthiopianZonedDateTime resolveLocal(EthiopianDateTime local, boolean earlier) {
+        LocalDateTime iso = LocalDateTime.of(LocalDate.ofEpochDay(local.toLocalDate().toEpochDay()),
+                local.toLocalTime());
+        ZonedDateTime zoned = ZonedDateTime.ofLocal(iso, zone, offset);
+        zoned = earlier ? zoned.withEarlierOffsetAtOverlap() : zoned.withLaterOffsetAtOverlap();
+        return zoned.getOffset().equals(offset) ? this
+                : new EthiopianZonedDateTime(local, zoned.getOffset(), zone, zoned.toEpochSecond());
+    }
+
+    @Override
+    public EthiopianZonedDateTime withZoneSameLocal(ZoneId zone) {
+        return this.zone.equals(zone) ? this : ofLocal(dateTime, zone, offset);
+    }
+
+    @Override
+    public EthiopianZonedDateTime withZoneSameInstant(ZoneId zone) {
+        return this.zone.equals(zone) ? this : ofEpochSecond(epochSecond, dateTime.getNano(), zone);
+    }
+
+    @Override
+    public boolean isSupported(TemporalField field) {
+        return field instanceof ChronoField || (field != null && field.isSupportedBy(this));
+    }
+
+    @Override
+    public long getLong(TemporalField field) {
+        if (field instanceof ChronoField) {
+            switch ((ChronoField) field) {
+                case INSTANT_SECONDS:
+                    return epochSecond;
+                case OFFSET_SECONDS:
+                    return offset.getTotalSeconds();
+            }
+            return dateTime.getLong(field);
+        }
+        return field.getFrom(this);
+    }
+
+    @Override
+    public EthiopianZonedDateTime with(TemporalAdjuster adjuster) {
+        if (adjuster instanceof Instant) {
+            return ofInstant((Instant) adjuster, zone);
+        }
+        if (adjuster instanceof ZoneOffset) {
+            return resolveOffset((ZoneOffset) adjuster);
+        }
+        return ofLocal(dateTime.with(adjuster), zone, offset);
+    }
+
+    @Override
+    public EthiopianZonedDateTime with(TemporalField field, long newValue) {
+        if (field instanceof ChronoField) {
+            switch ((ChronoField) field) {
+                case INSTANT_SECONDS:
+                    return ofEpochSecond(newValue, dateTime.getNano(), zone);
+                case OFFSET_SECONDS:
+                    return resolveOffset(ZoneOffset.ofTotalSeconds(
+                            ChronoField.OFFSET_SECONDS.checkValidIntValue(newValue)));
+            }
+            return ofLocal(dateTime.with(field, newValue), zone, offset);
+        }
+        return field.adjustInto(this, newValue);
+    }
+
+    // the offset if it is valid for the local date and time, unchanged
+    // otherwise
+    private EthiopianZonedDateTime resolveOffset(ZoneOffset newOffset) {
+        if (newOffset.equals(offset)) {
+            return this;
+        }
+        EthiopianZonedDateTime resolved = ofLocal(dateTime, zone, newOffset);
+        return resolved.offset.equals(newOffset) ? resolved : this;
+    }
+
+    @Override
+    public EthiopianZonedDateTime plus(TemporalAmount amount) {
+        return (EthiopianZonedDateTime) amount.addTo(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Like {@link ZonedDateTime}, the date units are added to the local date
+     * and time and the time units to the instant.
+     *
+     * @param amountToAdd
+     * @param unit
+     * @return {@link EthiopianZonedDateTime}
+     */
+    @Override
+    public EthiopianZonedDateTime plus(long amountToAdd, TemporalUnit unit) {
+        if (unit instanceof ChronoUnit) {
+            if (unit.isDateBased()) {
+                return ofLocal(dateTime.plus(amountToAdd, unit), zone, offset);
+            }
+            EthiopianDateTime local = dateTime.plus(amountToAdd, unit);
+            return ofEpochSecond(local.toEpochSecond(offset), local.getNano(), zone);
+        }
+        return unit.addTo(this, amountToAdd);
+    }
+
+    @Override
+    public EthiopianZonedDateTime minus(TemporalAmount amount) {
+        return (EthiopianZonedDateTime) amount.subtractFrom(this);
+    }
+
+    @Override
+    public EthiopianZonedDateTime minus(long amountToSubtract, TemporalUnit unit) {
+        return (amountToSubtract == Long.MIN_VALUE)
+                ? plus(Long.MAX_VALUE, unit).plus(1, unit)
+                : plus(-amountToSubtract, unit);
+    }
+
+    @Override
+    public long until(Temporal endExclusive, TemporalUnit unit) {
+        EthiopianZonedDateTime end = from(endExclusive);
+        if (unit instanceof ChronoUnit) {
+            if (unit.isDateBased()) {
+                return dateTime.until(end.withZoneSameInstant(zone).dateTime, unit);
+            }
+            return toInstant().until(end.toInstant(), unit);
+        }
+        return unit.between(this, end);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof EthiopianZonedDateTime) {
+            EthiopianZonedDateTime other = (EthiopianZonedDateTime) obj;
+            return dateTime.equals(other.dateTime) && offset.equals(other.offset)
+                    && zone.equals(other.zone);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return dateTime.hashCode() ^ offset.hashCode() ^ Integer.rotateLeft(zone.hashCode(), 3);
+    }
+
+    @Override
+    public String toString() {
+        String text = dateTime.toString() + offset.toString();
+        return offset != zone ? text + '[' + zone.toString() + ']' : text;
+    }
+
+}
@@ -0,0 +1,354 @@
+package com.andegna.chrono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Writes and reads numbers in Ge'ez numerals, eg:- 2016 is ፳፻፲፮.
+ * <p>
+ * Ge'ez numerals have no zero and no place value. A number is written in
+ * groups of two decimal digits with the tens ፲ to ፺ and the units ፩ to ፱,
+ * every odd group is followed by ፻ (hundred) and every even group above
+ * the first by ፼ (ten thousand). A ፩ alone in front of ፻ or ፼ is left out,
+ * so 100 is ፻, 10000 is ፼ and 10100 is ፼፻.
+ * <p>
+ * Every number from 1 to 100, which covers the days and the months, and
+ * the years of a range are kept in tables, writing them is an array
+ * lookup. The year range is configured with the system properties
+ * <pre>
+ *   -Dcom.andegna.chrono.geez.start=1800
+ *   -Dcom.andegna.chrono.geez.end=2200
+ * </pre>
+ * Other numbers go through the arithmetic, which allocates nothing when
+ * writing into a {@code char[]}.
+ */
+public final class GeezNumerals {
+
+    /**
+     * The system property holding the first year of the table
+     */
+    public static final String START_PROPERTY = "com.andegna.chrono.geez.start";
+
+    /**
+     * The system property holding the last year of the table, inclusive
+     */
+    public static final String END_PROPERTY = "com.andegna.chrono.geez.end";
+
+    /**
+     * The longest text of a {@code long}, in chars
+     */
+    public static final int MAX_LENGTH = 30;
+
+    private static final char ONE = '፩';
+    private static final char TEN = '፲';
+    private static final char HUNDRED = '፻';
+    private static final char TEN_THOUSAND = '፼';
+
+    private static final int SMALL_LIMIT = 100;
+
+    // POWERS[k] = 100^k
+    private static final long[] POWERS = new long[10];
+
+    static {
+        POWERS[0] = 1;
+        for (int k = 1; k < POWERS.length; k++) {
+            POWERS[k] = POWERS[k - 1] * 100;
+        }
+    }
+
+    // SMALL[n] is n for 1 to 100
+    private static final String[] SMALL = new String[SMALL_LIMIT + 1];
+    private static final byte[][] SMALL_UTF8 = new byte[SMALL_LIMIT + 1][];
+
+    static {
+        for (int n = 1; n <= SMALL_LIMIT; n++) {
+            SMALL[n] = encode(n);
+            SMALL_UTF8[n] = utf8(SMALL[n]);
+        }
+    }
+
+    // prevent instantiation
+    private GeezNumerals() {
+    }
+
+    /**
+     * @param value the number, at least 1
+     * @return the number in Ge'ez numerals
+     */
+    public static String toGeez(long value) {
+        String text = lookup(value);
+        return text != null ? text : encode(value);
+    }
+
+    /**
+     * Appends a number in Ge'ez numerals.
+     *
+     * @param value the number, at least 1
+     * @param builder the builder receiving the text
+     * @return the builder
+     */
+    public static StringBuilder appendTo(long value, StringBuilder builder) {
+        String text = lookup(value);
+        if (text != null) {
+            return builder.append(text);
+        }
+        char[] chars = new char[MAX_LENGTH];
+        return builder.append(chars, 0, writeTo(value, chars, 0));
+    }
+
+    /**
+     * Writes a number in Ge'ez numerals into a char array.
+     *
+     * @param value the number, at least 1
+     * @param chars the array receiving the text, {@link #MAX_LENGTH} chars
+     * always fit
+     * @param offset the index of the first char written
+     * @return the index after the last char written
+     */
+    public static int writeTo(long value, char[] chars, int offset) {
+        String text = lookup(value);
+        if (text != null) {
+            text.getChars(0, text.length(), chars, offset);
+            return offset + text.length();
+        }
+        return compute(value, chars, offset);
+    }
+
+    // the arithmetic, never reads the tables
+    private static int compute(long value, char[] chars, int offset) {
+        checkPositive(value);
+        int top = 0;
+        while (top + 1 < POWERS.length && value >= POWERS[top + 1]) {
+            top++;
+        }
+        int pos = offset;
+        for (int k = top; k >= 0; k--) {
+            int group = (int) (value / POWERS[k] % 100);
+            if (group != 0) {
+                // ፩ alone is implied in front of ፻ and at the head of ፼
+                boolean implied = group == 1 && k > 0 && (k == top || (k & 1) == 1);
+                if (group >= 10) {
+                    chars[pos++] = (char) (TEN + group / 10 - 1);
+                }
+                if (group % 10 != 0 && !implied) {
+                    chars[pos++] = (char) (ONE + group % 10 - 1);
+                }
+                if ((k & 1) == 1) {
+                    chars[pos++] = HUNDRED;
+                } else if (k > 0) {
+                    chars[pos++] = TEN_THOUSAND;
+                }
+            } else if (k > 0 && (k & 1) == 0) {
+                // the top group is never zero, a zero ten thousands group
+                // still needs its ፼
+                chars[pos++] = TEN_THOUSAND;
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * Writes a number in Ge'ez numerals as UTF-8 at the position of a
+     * buffer, the position is moved after the text.
+     *
+     * @param value the number, at least 1
+     * @param buffer the buffer receiving the text
+     * @return the buffer
+     */
+    public static ByteBuffer writeTo(long value, ByteBuffer buffer) {
+        if (value >= 1 && value <= SMALL_LIMIT) {
+            return buffer.put(SMALL_UTF8[(int) value]);
+        }
+        YearTable years = YearTable.INSTANCE;
+        if (years.contains(value)) {
+            return buffer.put(years.utf8[(int) (value - years.first)]);
+        }
+        char[] chars = new char[MAX_LENGTH];
+        int end = writeTo(value, chars, 0);
+        for (int i = 0; i < end; i++) {
+            putUtf8(buffer, chars[i]);
+        }
+        return buffer;
+    }
+
+    /**
+     * Reads a number written in Ge'ez numerals.
+     *
+     * @param text the text to read
+     * @return the number
+     * @throws NumberFormatException if the text is not a Ge'ez number
+     */
+    public static long parse(CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Reads the number between {@code start} inclusive and {@code end}
+     * exclusive.
+     *
+     * @param text the text to read
+     * @param start the index of the first char
+     * @param end the index after the last char
+     * @return the number
+     * @throws NumberFormatException if the slice is not a Ge'ez number
+     */
+    public static long parse(CharSequence text, int start, int end) {
+        if (start >= end) {
+            throw new NumberFormatException("Empty Ge'ez number");
+        }
+        Reader reader = new Reader();
+        for (int i = start; i < end; i++) {
+            int value = valueOf(text.charAt(i));
+            if (value < 0) {
+                throw new NumberFormatException("Invalid Ge'ez number '"
+                        + text.subSequence(start, end) + "'");
+            }
+            try {
+                reader.add(value);
+            } catch (ArithmeticException ex) {
+                throw new NumberFormatException("Ge'ez number too large '"
+                        + text.subSequence(start, end) + "'");
+            }
+        }
+        return reader.value();
+    }
+
+    /**
+     * Reads a number one numeral at a time, the step of
+     * {@link #parse(CharSequence, int, int)} and of {@link EthiopianDateParser},
+     * which reuses one reader.
+     */
+    static final class Reader {
+
+        // the groups followed by ፼, and the group being read
+        private long total;
+        private long current;
+
+        void reset() {
+            total = 0;
+            current = 0;
+        }
+
+        /**
+         * @param value the value of the next numeral, see {@link #valueOf(int)}
+         * @throws ArithmeticException if the number overflows a long
+         */
+        void add(int value) {
+            if (value == 100) {
+                current = Math.multiplyExact(current == 0 ? 1 : current, 100);
+            } else if (value == 10000) {
+                total = Math.multiplyExact(Math.addExact(total,
+                        current == 0 && total == 0 ? 1 : current), 10000);
+                current = 0;
+            } else {
+                current = Math.addExact(current, value);
+            }
+            // the number read so far must fit too
+            Math.addExact(total, current);
+        }
+
+        /**
+         * @return the number read since the last reset
+         */
+        long value() {
+            return total + current;
+        }
+    }
+
+    /**
+     * @param c a character
+     * @return the value of a Ge'ez numeral: 1 to 9, 10 to 90, 100 or 10000,
+     * or -1 if it is not one
+     */
+    static int valueOf(int c) {
+        if (c >= ONE && c < TEN) {
+            return c - ONE + 1;
+        } else if (c >= TEN && c < HUNDRED) {
+            return (c - TEN + 1) * 10;
+        } else if (c == HUNDRED) {
+            return 100;
+        } else if (c == TEN_THOUSAND) {
+            return 10000;
+        }
+        return -1;
+    }
+
+    // the text from the tables, or null
+    private static String lookup(long value) {
+        if (value >= 1 && value <= SMALL_LIMIT) {
+            return SMALL[(int) value];
+        }
+        YearTable years = YearTable.INSTANCE;
+        if (years.contains(value)) {
+            return years.texts[(int) (value - years.first)];
+        }
+        return null;
+    }
+
+    private static String encode(long value) {
+        char[] chars = new char[MAX_LENGTH];
+        return new String(chars, 0, compute(value, chars, 0));
+    }
+
+    private static void checkPositive(long value) {
+        if (value < 1) {
+            throw new IllegalArgumentException("Ge'ez numerals have no '" + value + "'");
+        }
+    }
+
+    // every Ge'ez numeral takes 3 bytes
+    private static void putUtf8(ByteBuffer buffer, char c) {
+        buffer.put((byte) (0xe0 | c >> 12));
+        buffer.put((byte) (0x80 | (c >> 6) & 0x3f));
+        buffer.put((byte) (0x80 | c & 0x3f));
+    }
+
+    private static byte[] utf8(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // built on first use, after SMALL
+    static final class YearTable {
+
+        static final YearTable INSTANCE = fromSystemProperties();
+
+        final long first;
+        final String[] texts;
+        final byte[][] utf8;
+
+        YearTable(int first, int last) {
+            if (first < 1 || last < first) {
+                throw new IllegalArgumentException("Invalid year range " + first + " to " + last);
+            }
+            this.first = first;
+            this.texts = new String[last - first + 1];
+            this.utf8 = new byte[texts.length][];
+            for (int i = 0; i < texts.length; i++) {
+                texts[i] = encode(first + i);
+                utf8[i] = utf8(texts[i]);
+            }
+        }
+
+        // a malformed range is logged and the default one used, the table
+        // is built in a class initializer that must not fail
+        static YearTable fromSystemProperties() {
+            String start = System.getProperty(START_PROPERTY, "1800");
+            String end = System.getProperty(END_PROPERTY, "2200");
+            try {
+                return new YearTable(Integer.parseInt(start.trim()), Integer.parseInt(end.trim()));
+            } catch (IllegalArgumentException ex) {
+                // NumberFormatException too
+                Logger.getLogger(GeezNumerals.class.getName()).log(Level.WARNING,
+                        "Invalid Ge'ez year range " + start + " to " + end + ", using 1800 to 2200", ex);
+                return new YearTable(1800, 2200);
+            }
+        }
+
+        boolean contains(long value) {
+            return value >= first && value - first < texts.length;
+        }
+    }
+
+}
@@ -81,10 +81,11 @@ public class EthiopicCalendar {
 
     public void setEra(int era) throws java.lang.ArithmeticException {
         if ((JD_EPOCH_OFFSET_AMETE_ALEM == era)
-                || (JD_EPOCH_OFFSET_AMETE_MIHRET == era)) {
+                || (JD_EPOCH_OFFSET_AMETE_MIHRET == era)
+                || (JD_EPOCH_OFFSET_COPTIC == era)) {
             jdOffset = era;
         } else {
-            throw (new java.lang.ArithmeticException("Unknown era: " + era + " must be either ዓ/ዓ or ዓ/�?."));
+            throw (new java.lang.ArithmeticException("Unknown era: " + era + " must be ዓ/ዓ, the Coptic era or ዓ/�?."));
         }
     }
 
@@ -167,20 +168,23 @@ public class EthiopicCalendar {
      **  Conversion Methods To/From the Julian Day Number
      ** ********************************************************************************
      */
-    private static int nMonths = 12;
+    private static final int nMonths = 12;
 
-    private static int monthDays[] = {
+    // never written to, february is adjusted for leap years in jdnToGregorian
+    private static final int monthDays[] = {
         0,
         31, 28, 31, 30, 31, 30,
         31, 31, 30, 31, 30, 31
     };
 
-    private int quotient(long i, long j) {
-        return (int) Math.floor((double) i / j);
+    // floor division and modulus in integer arithmetic, the results are
+    // identical to flooring the double quotient for every int operand
+    private static int quotient(long i, long j) {
+        return (int) Math.floorDiv(i, j);
     }
 
-    private int mod(long i, long j) {
-        return (int) (i - (j * quotient(i, j)));
+    private static int mod(long i, long j) {
+        return (int) Math.floorMod(i, j);
     }
 
     private int guessEraFromJDN(int jdn) {
@@ -225,13 +229,14 @@ public class EthiopicCalendar {
             month = 12;
             day = 31;
         } else {
-            monthDays[2] = (isGregorianLeap(year)) ? 29 : 28;
+            int february = (isGregorianLeap(year)) ? 29 : 28;
             for (int i = 1; i <= nMonths; ++i) {
-                if (n <= monthDays[i]) {
+                int days = (i == 2) ? february : monthDays[i];
+                if (n <= days) {
                     day = n;
                     break;
                 }
-                n -= monthDays[i];
+                n -= days;
             }
         }
 
@@ -340,9 +345,7 @@ public class EthiopicCalendar {
     }
 
     public int[] copticToGregorian(int year, int month, int day) {
-        setEra(JD_EPOCH_OFFSET_COPTIC);
-        int jdn = ethiopicToJDN(year, month, day);
-        return jdnToGregorian(jdn);
+        return jdnToGregorian(copticToJDN(year, month, day));
     }
 
     public int[] gregorianToCoptic() throws java.lang.ArithmeticException {
@@ -353,9 +356,8 @@ public class EthiopicCalendar {
     }
 
     public int[] gregorianToCoptic(int year, int month, int day) {
-        setEra(JD_EPOCH_OFFSET_COPTIC);
         int jdn = gregorianToJDN(year, month, day);
-        return jdnToEthiopic(jdn);
+        return jdnToEthiopic(jdn, JD_EPOCH_OFFSET_COPTIC);
     }
 
     public int copticToJDN(int year, int month, int day) {
@@ -0,0 +1,90 @@
+package com.andegna.chrono;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests of {@link BahireHasab}.
+ */
+public class BahireHasabTest {
+
+    // Meeus' Julian computus, the epoch day of the Easter of a Julian year
+    private static long julianEaster(long julianYear) {
+        long d = (19 * Math.floorMod(julianYear, 19) + 15) % 30;
+        long e = (2 * Math.floorMod(julianYear, 4) + 4 * Math.floorMod(julianYear, 7) - d + 34) % 7;
+        int month = (int) ((d + e + 114) / 31);
+        int day = (int) ((d + e + 114) % 31) + 1;
+        // the Julian day number of the Julian date
+        int a = (14 - month) / 12;
+        long y = julianYear + 4800 - a;
+        int m = month + 12 * a - 3;
+        long jdn = day + (153 * m + 2) / 5 + 365 * y + Math.floorDiv(y, 4) - 32083;
+        return jdn - EthiopianConversions.JDN_OF_EPOCH_DAY_ZERO;
+    }
+
+    /**
+     * Test of the values of 2016 Amete Mihret.
+     */
+    @Test
+    public void test2016() {
+        assertEquals(10, BahireHasab.wenber(2016));
+        assertEquals(20, BahireHasab.abekte(2016));
+        assertEquals(10, BahireHasab.metqi(2016));
+        assertEquals(EthiopianDate.of(2016, 2, 10), BahireHasab.bealeMetqi(2016));
+        assertEquals(8, BahireHasab.tewsak(2016));
+        assertEquals(LocalDate.of(2024, 2, 26), LocalDate.from(BahireHasab.nenewe(2016)));
+        assertEquals(EthiopianDate.of(2016, 6, 18), BahireHasab.nenewe(2016));
+        assertEquals(LocalDate.of(2024, 3, 11),
+                LocalDate.from(BahireHasab.feast(2016, EthiopianFeast.ABIY_TSOM)));
+        assertEquals(LocalDate.of(2024, 4, 28),
+                LocalDate.from(BahireHasab.feast(2016, EthiopianFeast.HOSANNA)));
+        assertEquals(LocalDate.of(2024, 5, 3),
+                LocalDate.from(BahireHasab.feast(2016, EthiopianFeast.SIKLET)));
+        assertEquals(LocalDate.of(2024, 5, 5),
+                LocalDate.from(BahireHasab.feast(2016, EthiopianFeast.FASIKA)));
+        assertEquals(LocalDate.of(2024, 6, 13),
+                LocalDate.from(BahireHasab.feast(2016, EthiopianFeast.ERGET)));
+    }
+
+    @Test
+    public void testMetqiZero() {
+        // 2006: Wenber 0, Metqi 0, so Beale Metqi is Meskerem 30
+        assertEquals(0, BahireHasab.metqi(2006));
+        assertEquals(EthiopianDate.of(2006, 1, 30), BahireHasab.bealeMetqi(2006));
+    }
+
+    @Test
+    public void testFasikaIsJulianEaster() {
+        // in and out of the memoized years
+        for (int year = -3000; year < 12000; year++) {
+            long fasika = BahireHasab.feastEpochDay(year, EthiopianFeast.FASIKA);
+            assertEquals(String.valueOf(year), julianEaster(year + 8), fasika);
+            int nenewe = BahireHasab.neneweDayOfYear(year);
+            assertTrue(137 <= nenewe && nenewe <= 172);
+        }
+        for (int year = 1900; year < 2100; year++) {
+            assertEquals(DayOfWeek.MONDAY, LocalDate.from(BahireHasab.nenewe(year)).getDayOfWeek());
+        }
+    }
+
+    @Test
+    public void testFeastEpochDays() {
+        long[] epochDays = new long[500];
+        BahireHasab.feastEpochDays(EthiopianFeast.PERAKLITOS, -200, epochDays);
+        for (int i = 0; i < epochDays.length; i++) {
+            assertEquals(BahireHasab.feastEpochDay(-200 + i, EthiopianFeast.PERAKLITOS),
+                    epochDays[i]);
+        }
+    }
+
+    @Test
+    public void testOfFeast() {
+        EthiopianDate fasika = BahireHasab.feast(2016, EthiopianFeast.FASIKA);
+        assertEquals(fasika, EthiopianDate.ofFeast(2016, EthiopianFeast.FASIKA));
+        assertEquals(fasika, EthiopianChronology.INSTANCE.dateFeast(-7516, EthiopianFeast.FASIKA));
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.andegna.chrono;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class CopticChronologyTest {
+
+    @Test
+    public void testGetId() {
+        assertEquals("Coptic", CopticChronology.INSTANCE.getId());
+        assertEquals("coptic", CopticChronology.INSTANCE.getCalendarType());
+    }
+
+    @Test
+    public void testDate() {
+        CopticChronology instance = CopticChronology.INSTANCE;
+        assertEquals(CopticDate.of(1740, 1, 1), instance.date(LocalDate.of(2023, 9, 12)));
+        assertEquals(CopticDate.of(-4, 3, 2), instance.date(CopticEra.BEFORE_AM, 5, 3, 2));
+        assertEquals(CopticDate.of(1740, 4, 29), instance.dateYearDay(1740, 3 * 30 + 29));
+        assertEquals(CopticDate.of(1686, 4, 23), instance.dateEpochDay(0));
+    }
+
+    @Test
+    public void testDateFromEthiopianDate() {
+        // Meskerem 1, 2016 is Thout 1, 1740
+        EthiopianDate meskerem = EthiopianDate.of(2016, 1, 1);
+        CopticDate thout = CopticChronology.INSTANCE.date(meskerem);
+        assertEquals(CopticDate.of(1740, 1, 1), thout);
+        assertEquals(meskerem.toEpochDay(), thout.toEpochDay());
+        assertEquals(meskerem, EthiopianDate.from(thout));
+    }
+
+    @Test
+    public void testIsLeapYear() {
+        assertTrue(CopticChronology.INSTANCE.isLeapYear(1739));
+        assertFalse(CopticChronology.INSTANCE.isLeapYear(1740));
+        assertTrue(CopticChronology.INSTANCE.isLeapYear(-1));
+    }
+
+    @Test
+    public void testProlepticYear() {
+        assertEquals(1740, CopticChronology.INSTANCE.prolepticYear(CopticEra.AM, 1740));
+        assertEquals(0, CopticChronology.INSTANCE.prolepticYear(CopticEra.BEFORE_AM, 1));
+        assertSame(CopticEra.AM, CopticChronology.INSTANCE.eraOf(1));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testEraOfInvalid() {
+        CopticChronology.INSTANCE.eraOf(2);
+    }
+
+}
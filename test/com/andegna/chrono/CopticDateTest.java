@@ -0,0 +1,158 @@
+package com.andegna.chrono;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.chrono.ChronoPeriod;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import org.ethiopic.EthiopicCalendar;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class CopticDateTest {
+
+    @Test
+    public void testNow() {
+        assertEquals(LocalDate.now(), LocalDate.from(CopticDate.now()));
+    }
+
+    @Test
+    public void testOf() {
+        // Nayrouz of 1740
+        CopticDate nayrouz = CopticDate.of(1740, 1, 1);
+        assertEquals(LocalDate.of(2023, 9, 12), LocalDate.from(nayrouz));
+        assertEquals(CopticChronology.INSTANCE, nayrouz.getChronology());
+        assertEquals(CopticEra.AM, nayrouz.getEra());
+        assertEquals("Coptic AM 1740-01-01", nayrouz.toString());
+        // the first day of the Era of the Martyrs, Julian 284-08-29
+        assertEquals(1825030 - EthiopianConversions.JDN_OF_EPOCH_DAY_ZERO,
+                CopticDate.of(1, 1, 1).toEpochDay());
+    }
+
+    @Test
+    public void testAgainstEthiopicCalendar() {
+        EthiopicCalendar calendar = new EthiopicCalendar();
+        for (long epochDay = -800000; epochDay < 800000; epochDay += 997) {
+            CopticDate date = CopticDate.ofEpochDay(epochDay);
+            LocalDate iso = LocalDate.ofEpochDay(epochDay);
+            int[] coptic = calendar.gregorianToCoptic(iso.getYear(), iso.getMonthValue(), iso.getDayOfMonth());
+            assertEquals(coptic[0], date.get(ChronoField.YEAR));
+            assertEquals(coptic[1], date.get(ChronoField.MONTH_OF_YEAR));
+            assertEquals(coptic[2], date.get(ChronoField.DAY_OF_MONTH));
+            assertEquals(date, CopticDate.of(coptic[0], coptic[1], coptic[2]));
+            assertEquals(date, CopticDate.from(EthiopianDate.ofEpochDay(epochDay)));
+        }
+    }
+
+    @Test
+    public void testGet() {
+        CopticDate date = CopticDate.of(1740, 5, 13);
+        assertEquals(1740, date.get(ChronoField.YEAR));
+        assertEquals(1740, date.get(ChronoField.YEAR_OF_ERA));
+        assertEquals(1, date.get(ChronoField.ERA));
+        assertEquals(4 * 30 + 13, date.get(ChronoField.DAY_OF_YEAR));
+        // the same day as Tir 13, 2016, a Monday
+        assertEquals(1, date.get(ChronoField.DAY_OF_WEEK));
+        assertEquals(1740 * 13 + 4, date.getLong(ChronoField.PROLEPTIC_MONTH));
+
+        CopticDate before = CopticDate.of(-1, 13, 6);
+        assertEquals(2, before.get(ChronoField.YEAR_OF_ERA));
+        assertEquals(CopticEra.BEFORE_AM, before.getEra());
+        assertEquals("Coptic BEFORE_AM 2-13-06", before.toString());
+    }
+
+    @Test
+    public void testRange() {
+        assertEquals(6, CopticDate.of(1739, 13, 1).range(ChronoField.DAY_OF_MONTH).getMaximum());
+        assertEquals(5, CopticDate.of(1740, 13, 1).range(ChronoField.DAY_OF_MONTH).getMaximum());
+        assertEquals(366, CopticDate.of(1739, 1, 1).lengthOfYear());
+        assertEquals(30, CopticDate.of(1740, 12, 1).lengthOfMonth());
+    }
+
+    @Test
+    public void testWith() {
+        CopticDate date = CopticDate.of(1739, 13, 6);
+        assertEquals(CopticDate.of(1740, 13, 5), date.with(ChronoField.YEAR, 1740));
+        assertEquals(CopticDate.of(1739, 2, 6), date.with(ChronoField.MONTH_OF_YEAR, 2));
+        assertEquals(CopticDate.of(0, 13, 5), date.with(ChronoField.ERA, 0).with(ChronoField.YEAR, 0));
+        assertEquals(CopticDate.of(1739, 1, 1), date.with(ChronoField.DAY_OF_YEAR, 1));
+    }
+
+    @Test
+    public void testPlus() {
+        CopticDate date = CopticDate.of(1739, 13, 6);
+        assertEquals(CopticDate.of(1740, 1, 1), date.plusDays(1));
+        assertEquals(CopticDate.of(1740, 13, 5), date.plusYears(1));
+        assertEquals(CopticDate.of(1740, 1, 6), date.plusMonths(1));
+        assertEquals(CopticDate.of(1739, 12, 6), date.minusMonths(1));
+        assertEquals(CopticDate.of(1741, 2, 6), date.plus(Period.of(1, 2, 1)));
+        assertEquals(CopticDate.of(1639, 13, 6), date.minus(1, ChronoUnit.CENTURIES));
+        assertEquals(date, date.plus(3, ChronoUnit.WEEKS).minus(21, ChronoUnit.DAYS));
+    }
+
+    @Test
+    public void testUntil() {
+        Random random = new Random(42);
+        long start = CopticDate.of(1, 1, 1).toEpochDay() - 3000;
+        for (int i = 0; i < 20000; i++) {
+            CopticDate from = CopticDate.ofEpochDay(start + random.nextInt(6000));
+            CopticDate to = from.plusDays(random.nextInt(i % 2 == 0 ? 100 : 20000) - (i % 4 < 2 ? 0 : 10000));
+            ChronoPeriod period = from.until(to);
+            long months = period.get(ChronoUnit.YEARS) * 13 + period.get(ChronoUnit.MONTHS);
+            if (!to.isBefore(from)) {
+                assertEquals(to, from.plus(period));
+            }
+            assertEquals(months, from.until(to, ChronoUnit.MONTHS));
+            assertEquals(months / 13, from.until(to, ChronoUnit.YEARS));
+            assertEquals(to.toEpochDay() - from.toEpochDay(), from.until(to, ChronoUnit.DAYS));
+            // the same months and days as the Ethiopian dates
+            ChronoPeriod ethiopian = EthiopianDate.from(from).until(EthiopianDate.from(to));
+            assertEquals(ethiopian.get(ChronoUnit.YEARS), period.get(ChronoUnit.YEARS));
+            assertEquals(ethiopian.get(ChronoUnit.MONTHS), period.get(ChronoUnit.MONTHS));
+            assertEquals(ethiopian.get(ChronoUnit.DAYS), period.get(ChronoUnit.DAYS));
+        }
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        CopticDate[] dates = new CopticDate[1000];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = CopticDate.ofEpochDay(-2000000 + 4001L * i);
+        }
+        assertArrayEquals(dates, (CopticDate[]) deserialize(serialize(dates)));
+    }
+
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testInvalidMonth() {
+        CopticDate.of(1740, 14, 1);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testInvalidNasie() {
+        CopticDate.of(1740, 13, 6);
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.andegna.chrono;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Tests of {@link EpochDayHashMap}, the probing, growth and removal shared
+ * by {@link EthiopianDateIntMap} and {@link EthiopianDateLongMap}.
+ */
+public class EpochDayHashMapTest {
+
+    @Test
+    public void testAgainstHashMap() {
+        Random random = new Random(13);
+        EthiopianDateIntMap ints = new EthiopianDateIntMap(2);
+        EthiopianDateLongMap longs = new EthiopianDateLongMap(2);
+        Map<Long, Long> expected = new HashMap<>();
+        for (int i = 0; i < 200000; i++) {
+            long epochDay = random.nextInt(5000) - 2500;
+            int value = random.nextInt(100);
+            switch (random.nextInt(4)) {
+                case 0:
+                    ints.put(epochDay, value);
+                    longs.put(epochDay, (long) value << 32);
+                    expected.put(epochDay, (long) value);
+                    break;
+                case 1:
+                    long sum = expected.merge(epochDay, (long) value, Long::sum);
+                    assertEquals(sum, ints.addTo(epochDay, value));
+                    assertEquals(sum << 32, longs.addTo(epochDay, (long) value << 32));
+                    break;
+                case 2:
+                    boolean removed = expected.remove(epochDay) != null;
+                    assertEquals(removed, ints.remove(epochDay));
+                    assertEquals(removed, longs.remove(epochDay));
+                    break;
+                default:
+                    assertEquals(expected.containsKey(epochDay), ints.containsKey(epochDay));
+                    assertEquals((long) expected.getOrDefault(epochDay, -1L),
+                            ints.getOrDefault(epochDay, -1));
+                    assertEquals((long) expected.getOrDefault(epochDay, -1L) << 32,
+                            longs.getOrDefault(epochDay, -1L << 32));
+            }
+            assertEquals(expected.size(), ints.size());
+            assertEquals(expected.size(), longs.size());
+        }
+
+        Map<Long, Long> iterated = new HashMap<>();
+        ints.forEach((epochDay, value) -> iterated.put(epochDay, (long) value));
+        assertEquals(expected, iterated);
+        iterated.clear();
+        longs.forEach((epochDay, value) -> iterated.put(epochDay, value >> 32));
+        assertEquals(expected, iterated);
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.andegna.chrono;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Tests of {@link EthiopianBulkConverter}.
+ */
+public class EthiopianBulkConverterTest {
+
+    private static final long EPOCH_DAY_MIN = LocalDate.MIN.toEpochDay();
+    private static final long EPOCH_DAY_MAX = LocalDate.MAX.toEpochDay();
+
+    /**
+     * Test of epochDaysToEthiopic method, of class EthiopianBulkConverter.
+     */
+    @Test
+    public void testEpochDaysToEthiopic() {
+        int size = 200_000;
+        long[] epochDays = new long[size];
+        for (int i = 0; i < size; i++) {
+            // from before Amete Mihret to far in the future
+            epochDays[i] = -800_000 + 9L * i;
+        }
+        int[] years = new int[size];
+        byte[] months = new byte[size];
+        byte[] days = new byte[size];
+        EthiopianBulkConverter.epochDaysToEthiopic(epochDays, years, months, days);
+
+        for (int i = 0; i < size; i++) {
+            EthiopianDate date = EthiopianDate.ofEpochDay(epochDays[i]);
+            assertEquals(date.ameteMihretYear(), years[i]);
+            assertEquals(date.getMonth(), months[i]);
+            assertEquals(date.getDay(), days[i]);
+        }
+
+        long[] back = new long[size];
+        EthiopianBulkConverter.ethiopicToEpochDays(years, months, days, back);
+        assertArrayEquals(epochDays, back);
+    }
+
+    @Test
+    public void testRange() {
+        long[] epochDays = {0, 1, 2, 3};
+        int[] years = new int[4];
+        byte[] months = new byte[4];
+        byte[] days = new byte[4];
+        EthiopianBulkConverter.epochDaysToEthiopic(epochDays, 1, 3, years, months, days);
+
+        assertArrayEquals(new int[]{0, 1962, 1962, 0}, years);
+        assertArrayEquals(new byte[]{0, 4, 4, 0}, months);
+        assertArrayEquals(new byte[]{0, 24, 25, 0}, days);
+
+        long[] back = new long[4];
+        EthiopianBulkConverter.ethiopicToEpochDays(years, months, days, back, 1, 3);
+        assertArrayEquals(new long[]{0, 1, 2, 0}, back);
+    }
+
+    /**
+     * The kernel in use, vectorized or not, against the scalar one over the
+     * whole range of LocalDate, at every offset of the vectors.
+     */
+    @Test
+    public void testKernel() {
+        Random random = new Random(42);
+        BulkKernel scalar = new BulkKernel();
+        int size = 100_003;
+        long[] epochDays = new long[size];
+        for (int i = 0; i < size; i++) {
+            epochDays[i] = i % 3 == 0 ? random.nextInt(2_000_000) - 1_000_000
+                    : EPOCH_DAY_MIN + (long) (random.nextDouble() * (EPOCH_DAY_MAX - EPOCH_DAY_MIN));
+        }
+        epochDays[0] = EPOCH_DAY_MIN;
+        epochDays[1] = EPOCH_DAY_MAX;
+        int[] years = new int[size];
+        byte[] months = new byte[size];
+        byte[] days = new byte[size];
+        int[] expectedYears = new int[size];
+        byte[] expectedMonths = new byte[size];
+        byte[] expectedDays = new byte[size];
+        long[] back = new long[size];
+        for (int from = 0; from < 20; from++) {
+            int to = size - from % 7;
+            BulkKernel.INSTANCE.epochDaysToEthiopic(epochDays, from, to, years, months, days);
+            scalar.epochDaysToEthiopic(epochDays, from, to, expectedYears, expectedMonths, expectedDays);
+            assertArrayEquals(expectedYears, years);
+            assertArrayEquals(expectedMonths, months);
+            assertArrayEquals(expectedDays, days);
+
+            BulkKernel.INSTANCE.ethiopicToEpochDays(years, months, days, back, from, to);
+            assertArrayEquals(Arrays.copyOfRange(epochDays, from, to), Arrays.copyOfRange(back, from, to));
+        }
+        assertEquals(BulkKernel.INSTANCE.isVectorized(), EthiopianBulkConverter.isVectorized());
+    }
+
+    /**
+     * Test of the parallel methods, of class EthiopianBulkConverter.
+     */
+    @Test
+    public void testParallel() {
+        int size = 100_003;
+        long[] epochDays = new long[size];
+        for (int i = 0; i < size; i++) {
+            epochDays[i] = -3_000_000 + 61L * i;
+        }
+        int[] years = new int[size];
+        byte[] months = new byte[size];
+        byte[] days = new byte[size];
+        EthiopianBulkConverter.epochDaysToEthiopic(epochDays, years, months, days);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int chunkSize : new int[]{1, 1000, size, Integer.MAX_VALUE}) {
+                int[] parallelYears = new int[size];
+                byte[] parallelMonths = new byte[size];
+                byte[] parallelDays = new byte[size];
+                EthiopianBulkConverter.parallelEpochDaysToEthiopic(pool, chunkSize,
+                        epochDays, parallelYears, parallelMonths, parallelDays);
+                assertArrayEquals(years, parallelYears);
+                assertArrayEquals(months, parallelMonths);
+                assertArrayEquals(days, parallelDays);
+
+                long[] back = new long[size];
+                EthiopianBulkConverter.parallelEthiopicToEpochDays(pool, chunkSize,
+                        years, months, days, back);
+                assertArrayEquals(epochDays, back);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        long[] back = new long[size];
+        EthiopianBulkConverter.parallelEthiopicToEpochDays(years, months, days, back);
+        assertArrayEquals(epochDays, back);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidChunkSize() {
+        EthiopianBulkConverter.parallelEthiopicToEpochDays(ForkJoinPool.commonPool(), 0,
+                new int[4], new byte[4], new byte[4], new long[4]);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testShortOutput() {
+        EthiopianBulkConverter.epochDaysToEthiopic(new long[4],
+                new int[4], new byte[3], new byte[4]);
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.andegna.chrono;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests of {@link EthiopianBusinessCalendar}.
+ */
+public class EthiopianBusinessCalendarTest {
+
+    private static final EthiopianBusinessCalendar STANDARD = EthiopianBusinessCalendar.standard();
+
+    // the public holidays from 1990 to 2040, the reference of the bitmaps
+    private static Set<Long> publicHolidays() {
+        Set<Long> holidays = new HashSet<>();
+        for (int year = 1990; year <= 2040; year++) {
+            for (EthiopianHoliday holiday : EthiopianHoliday.values()) {
+                for (long epochDay : holiday.datesIn(year).toEpochDayArray()) {
+                    holidays.add(epochDay);
+                }
+            }
+        }
+        return holidays;
+    }
+
+    private static boolean isBusinessDay(Set<Long> holidays, long epochDay) {
+        DayOfWeek weekday = LocalDate.ofEpochDay(epochDay).getDayOfWeek();
+        return weekday != DayOfWeek.SATURDAY && weekday != DayOfWeek.SUNDAY
+                && !holidays.contains(epochDay);
+    }
+
+    private static long addBusinessDays(Set<Long> holidays, long epochDay, long businessDays) {
+        long step = Long.signum(businessDays);
+        for (long remaining = Math.abs(businessDays); remaining > 0; ) {
+            epochDay += step;
+            if (isBusinessDay(holidays, epochDay)) {
+                remaining--;
+            }
+        }
+        return epochDay;
+    }
+
+    /**
+     * Test of isBusinessDay method, of class EthiopianBusinessCalendar.
+     */
+    @Test
+    public void testIsBusinessDay() {
+        Set<Long> holidays = publicHolidays();
+        long start = EthiopianDate.of(1991, 1, 1).toEpochDay();
+        long end = EthiopianDate.of(2030, 1, 1).toEpochDay();
+        for (long epochDay = start; epochDay < end; epochDay++) {
+            EthiopianDate date = EthiopianDate.ofEpochDay(epochDay);
+            assertEquals(date.toString(), isBusinessDay(holidays, epochDay),
+                    STANDARD.isBusinessDay(date));
+            assertEquals(holidays.contains(epochDay), STANDARD.isHoliday(date));
+        }
+    }
+
+    @Test
+    public void testBusinessDaysBetween() {
+        Set<Long> holidays = publicHolidays();
+        Random random = new Random(42);
+        long start = EthiopianDate.of(1991, 1, 1).toEpochDay();
+        for (int i = 0; i < 2000; i++) {
+            long from = start + random.nextInt(365 * 19);
+            long to = from + random.nextInt(i % 2 == 0 ? 40 : 365 * 19);
+            long expected = 0;
+            for (long epochDay = from; epochDay < to; epochDay++) {
+                expected += isBusinessDay(holidays, epochDay) ? 1 : 0;
+            }
+            assertEquals(expected, STANDARD.businessDaysBetween(
+                    EthiopianDate.ofEpochDay(from), LocalDate.ofEpochDay(to)));
+            assertEquals(-expected, STANDARD.businessDaysBetween(
+                    LocalDate.ofEpochDay(to), EthiopianDate.ofEpochDay(from)));
+        }
+    }
+
+    @Test
+    public void testAddBusinessDays() {
+        Set<Long> holidays = publicHolidays();
+        Random random = new Random(42);
+        long start = EthiopianDate.of(1995, 1, 1).toEpochDay();
+        for (int i = 0; i < 2000; i++) {
+            long from = start + random.nextInt(365 * 30);
+            long businessDays = random.nextInt(i % 2 == 0 ? 30 : 2000) - (i % 4 < 2 ? 0 : 1000);
+            EthiopianDate date = EthiopianDate.ofEpochDay(from);
+            assertEquals(date + " + " + businessDays,
+                    addBusinessDays(holidays, from, businessDays),
+                    STANDARD.addBusinessDays(date, businessDays).toEpochDay());
+        }
+    }
+
+    @Test
+    public void testNextBusinessDay() {
+        // Genna 2016 was a Sunday, Fasika and the Patriots' Victory Day a
+        // Sunday after the Labour Day and Siklet
+        assertEquals(EthiopianDate.from(LocalDate.of(2024, 1, 8)),
+                STANDARD.nextBusinessDay(LocalDate.of(2024, 1, 5)));
+        assertEquals(EthiopianDate.from(LocalDate.of(2024, 5, 2)),
+                STANDARD.nextBusinessDay(LocalDate.of(2024, 4, 30)));
+        assertEquals(EthiopianDate.from(LocalDate.of(2024, 5, 6)),
+                STANDARD.nextBusinessDay(LocalDate.of(2024, 5, 2)));
+        assertEquals(EthiopianDate.from(LocalDate.of(2024, 5, 2)),
+                STANDARD.previousBusinessDay(LocalDate.of(2024, 5, 6)));
+        LocalDate date = LocalDate.of(2024, 5, 4);
+        assertEquals(EthiopianDate.from(date), STANDARD.addBusinessDays(date, 0));
+    }
+
+    @Test
+    public void testGetHolidays() {
+        EthiopianDateArray holidays = STANDARD.getHolidays(2016);
+        // Fasika and the Patriots' Victory Day are the same day
+        assertEquals(12, holidays.size());
+        assertTrue(holidays.contains(LocalDate.of(2024, 5, 5)));
+    }
+
+    @Test
+    public void testCustomHolidays() {
+        EthiopianDate shopDay = EthiopianDate.of(2016, 3, 6);
+        EthiopianDate timket = EthiopianDate.of(2016, 5, 11);
+        EthiopianBusinessCalendar calendar = STANDARD
+                .withHolidays(Arrays.asList(shopDay, LocalDate.of(2030, 1, 2)))
+                .withAnnualHoliday(13, 6)
+                .withAnnualHoliday(5, 12)
+                .withoutHoliday(EthiopianHoliday.TIMKET);
+
+        assertTrue(STANDARD.isBusinessDay(shopDay));
+        assertFalse(calendar.isBusinessDay(shopDay));
+        assertTrue(calendar.isHoliday(shopDay));
+        assertTrue(calendar.isBusinessDay(timket.minusYears(1)));
+        assertFalse(calendar.isBusinessDay(timket.plusDays(1)));
+        assertFalse(calendar.isBusinessDay(timket.plusDays(1).plusYears(1)));
+        // 13 public holidays, no Timket, Tir 12 and Ṗagume 6
+        assertEquals(14, calendar.getHolidays(2015).size());
+        // 12 public holidays, no Timket, Tir 12 and the shop day
+        assertEquals(13, calendar.getHolidays(2016).size());
+
+        // Ṗagume 6 only in leap years
+        assertTrue(calendar.isHoliday(EthiopianDate.of(2015, 13, 6)));
+        assertEquals(3, calendar.businessDaysBetween(
+                EthiopianDate.of(2015, 13, 1), EthiopianDate.of(2016, 1, 1)));
+    }
+
+    @Test
+    public void testWeekend() {
+        EthiopianBusinessCalendar calendar = STANDARD.withWeekend(DayOfWeek.SUNDAY);
+        LocalDate saturday = LocalDate.of(2024, 6, 1);
+        assertFalse(STANDARD.isBusinessDay(saturday));
+        assertTrue(calendar.isBusinessDay(saturday));
+        assertEquals(EthiopianDate.from(saturday), calendar.nextBusinessDay(saturday.minusDays(1)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoBusinessDay() {
+        STANDARD.withWeekend(DayOfWeek.values());
+    }
+
+}
@@ -95,4 +95,22 @@ public class EthiopianChronologyTest {
         }
     }
 
+    /**
+     * Test of isLeapYear method for the negated proleptic years of Amete Alem.
+     */
+    @Test
+    public void testIsLeapYearAmeteAlem() {
+        EthiopianChronology instance = EthiopianChronology.INSTANCE;
+        assertTrue(instance.isLeapYear(-5499));
+        assertFalse(instance.isLeapYear(-5497));
+        for (int yearOfEra = 1; yearOfEra < 6000; yearOfEra++) {
+            EthiopianDate date = new EthiopianDate(EthiopianEra.AMETE_ALEM, yearOfEra, 1, 1);
+            assertEquals(date.toString(), date.isLeapYear(),
+                    instance.isLeapYear(date.getLong(ChronoField.YEAR)));
+            // a leap year has 366 days
+            assertEquals(date.toString(), date.isLeapYear(),
+                    date.plusYears(1).toEpochDay() - date.toEpochDay() == 366);
+        }
+    }
+
 }
@@ -0,0 +1,104 @@
+package com.andegna.chrono;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests of {@link EthiopianClock}.
+ */
+public class EthiopianClockTest {
+
+    // a clock moved by hand
+    private static final class SettableClock extends Clock {
+
+        private final ZoneId zone;
+        private Instant instant;
+
+        SettableClock(Instant instant, ZoneId zone) {
+            this.instant = instant;
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new SettableClock(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    private static void assertToday(SettableClock clock, EthiopianClock ethiopianClock) {
+        LocalDate expected = LocalDate.now(clock);
+        assertEquals(clock.instant.toString(), EthiopianDate.from(expected), ethiopianClock.today());
+        assertEquals(expected.toEpochDay(), ethiopianClock.todayEpochDay());
+    }
+
+    @Test
+    public void testToday() {
+        Random random = new Random(42);
+        for (String zone : new String[]{"Africa/Addis_Ababa", "America/New_York", "Asia/Gaza", "UTC"}) {
+            SettableClock clock = new SettableClock(Instant.parse("2023-12-31T00:00:00Z"), ZoneId.of(zone));
+            EthiopianClock ethiopianClock = EthiopianClock.of(clock);
+            for (int i = 0; i < 20000; i++) {
+                // mostly forward by minutes, now and then back by hours
+                long seconds = i % 50 == 0 ? -random.nextInt(100_000) : random.nextInt(3600);
+                clock.instant = clock.instant.plusSeconds(seconds);
+                assertToday(clock, ethiopianClock);
+            }
+        }
+    }
+
+    @Test
+    public void testMidnight() {
+        ZoneId zone = ZoneId.of("Africa/Addis_Ababa");
+        Instant midnight = LocalDateTime.of(2023, 9, 12, 0, 0).atZone(zone).toInstant();
+        SettableClock clock = new SettableClock(midnight.minusMillis(1), zone);
+        EthiopianClock ethiopianClock = EthiopianClock.of(clock);
+        assertEquals(EthiopianDate.of(2015, 13, 6), ethiopianClock.today());
+        clock.instant = midnight;
+        assertEquals(EthiopianDate.of(2016, 1, 1), ethiopianClock.today());
+        clock.instant = midnight.minusMillis(1);
+        assertEquals(EthiopianDate.of(2015, 13, 6), ethiopianClock.today());
+    }
+
+    @Test
+    public void testNow() {
+        ZoneId zone = ZoneId.of("Africa/Addis_Ababa");
+        SettableClock clock = new SettableClock(Instant.parse("2024-01-22T04:30:00Z"), zone);
+        EthiopianClock ethiopianClock = EthiopianClock.of(clock);
+        assertEquals(EthiopianDateTime.of(2016, 5, 13, 7, 30), ethiopianClock.now());
+        assertEquals(EthiopianDate.of(2016, 5, 13), EthiopianDate.now(clock));
+        assertEquals(EthiopianDate.of(2016, 5, 13), EthiopianChronology.INSTANCE.dateNow(clock));
+        assertSame(zone, ethiopianClock.getZone());
+    }
+
+    @Test
+    public void testSystem() {
+        ZoneId zone = ZoneOffset.ofHours(3);
+        assertSame(EthiopianClock.system(zone), EthiopianClock.system(zone));
+        assertSame(EthiopianClock.system(ZoneId.systemDefault()), EthiopianClock.systemDefaultZone());
+        LocalDate before = LocalDate.now(zone);
+        EthiopianDate today = EthiopianDate.now(zone);
+        LocalDate after = LocalDate.now(zone);
+        long epochDay = today.toEpochDay();
+        assertTrue(before.toEpochDay() <= epochDay && epochDay <= after.toEpochDay());
+    }
+
+}
@@ -0,0 +1,167 @@
+package com.andegna.chrono;
+
+import static com.andegna.chrono.EthiopianEra.AMETE_ALEM;
+import static com.andegna.chrono.EthiopianEra.AMETE_MIHRET;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.ethiopic.EthiopicCalendar;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests of the stateless {@link EthiopianConversions} engine.
+ */
+public class EthiopianConversionsTest {
+
+    // epoch day 0 (1970-01-01) is the JDN 2440588
+    private static final int JDN_OFFSET = 2440588;
+
+    /**
+     * Test of toEpochDay method, of class EthiopianConversions.
+     */
+    @Test
+    public void testToEpochDay() {
+        assertEquals(LocalDate.of(1862, 10, 29).toEpochDay(),
+                EthiopianConversions.toEpochDay(AMETE_MIHRET, 1855, 2, 20));
+        assertEquals(LocalDate.of(2008, 9, 10).toEpochDay(),
+                EthiopianConversions.toEpochDay(AMETE_MIHRET, 2000, 13, 5));
+        assertEquals(LocalDate.of(7, 8, 28).toEpochDay(),
+                EthiopianConversions.toEpochDay(AMETE_ALEM, 5500, 1, 1));
+        assertEquals(0L,
+                EthiopianConversions.toEpochDay(AMETE_MIHRET, 1962, 4, 23));
+    }
+
+    /**
+     * Test of toEthiopianDate method, of class EthiopianConversions.
+     */
+    @Test
+    public void testToEthiopianDate() {
+        EthiopianDate date = EthiopianConversions.toEthiopianDate(
+                LocalDate.of(1862, 10, 29).toEpochDay());
+        assertEquals(AMETE_MIHRET, date.getEra());
+        assertEquals(1855, date.getYear());
+        assertEquals(2, date.getMonth());
+        assertEquals(20, date.getDay());
+
+        date = EthiopianConversions.toEthiopianDate(
+                LocalDate.of(7, 8, 27).toEpochDay());
+        assertEquals(AMETE_ALEM, date.getEra());
+        assertEquals(5499, date.getYear());
+        assertEquals(13, date.getMonth());
+        assertEquals(6, date.getDay());
+    }
+
+    /**
+     * Test of eraOfEpochDay method, of class EthiopianConversions.
+     */
+    @Test
+    public void testEraOfEpochDay() {
+        long firstDay = EthiopianConversions.toEpochDay(AMETE_MIHRET, 1, 1, 1);
+        assertEquals(AMETE_MIHRET, EthiopianConversions.eraOfEpochDay(firstDay));
+        assertEquals(AMETE_ALEM, EthiopianConversions.eraOfEpochDay(firstDay - 1));
+    }
+
+    /**
+     * Test of pack and unpack methods, of class EthiopianConversions.
+     */
+    @Test
+    public void testPack() {
+        long packed = EthiopianConversions.pack(AMETE_MIHRET, 2007, 13, 6);
+        assertEquals(AMETE_MIHRET, EthiopianConversions.unpackEra(packed));
+        assertEquals(2007, EthiopianConversions.unpackYear(packed));
+        assertEquals(13, EthiopianConversions.unpackMonth(packed));
+        assertEquals(6, EthiopianConversions.unpackDay(packed));
+
+        packed = EthiopianConversions.pack(AMETE_ALEM, -12, 1, 30);
+        assertEquals(AMETE_ALEM, EthiopianConversions.unpackEra(packed));
+        assertEquals(-12, EthiopianConversions.unpackYear(packed));
+        assertEquals(1, EthiopianConversions.unpackMonth(packed));
+        assertEquals(30, EthiopianConversions.unpackDay(packed));
+
+        // chronological within an era
+        assertTrue(EthiopianConversions.pack(AMETE_MIHRET, 2007, 13, 5)
+                < EthiopianConversions.pack(AMETE_MIHRET, 2008, 1, 1));
+    }
+
+    /**
+     * Test of epochDayToPackedEthiopic and packedEthiopicToEpochDay methods,
+     * of class EthiopianConversions.
+     */
+    @Test
+    public void testPackedEpochDay() {
+        for (long epochDay = -3_000_000; epochDay < 3_000_000; epochDay += 11) {
+            long packed = EthiopianConversions.epochDayToPackedEthiopic(epochDay);
+            EthiopianDate date = EthiopianConversions.toEthiopianDate(epochDay);
+            assertEquals(EthiopianConversions.pack(date.getEra(),
+                    date.getYear(), date.getMonth(), date.getDay()), packed);
+            assertEquals(epochDay,
+                    EthiopianConversions.packedEthiopicToEpochDay(packed));
+        }
+    }
+
+    @Test
+    public void testAgainstEthiopicCalendar() {
+        EthiopicCalendar calendar = new EthiopicCalendar();
+        for (int jdn = 1_000_000; jdn < 3_000_000; jdn += 7) {
+            assertConversion(calendar, jdn);
+        }
+    }
+
+    @Test
+    public void testConcurrentConversions() throws Exception {
+        final int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int first = 2_000_000 + t;
+                results.add(executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() throws Exception {
+                        // every thread owns its reference calendar
+                        EthiopicCalendar calendar = new EthiopicCalendar();
+                        start.await();
+                        int count = 0;
+                        for (int jdn = first; jdn < 2_600_000; jdn += threads) {
+                            assertConversion(calendar, jdn);
+                            count++;
+                        }
+                        return count;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get(60, TimeUnit.SECONDS);
+            }
+            assertEquals(600_000, total);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void assertConversion(EthiopicCalendar calendar, int jdn) {
+        long epochDay = jdn - JDN_OFFSET;
+        int[] expected = calendar.jdnToEthiopic(jdn);
+        EthiopianDate date = EthiopianConversions.toEthiopianDate(epochDay);
+
+        assertEquals("year of " + jdn, expected[0], date.getYear());
+        assertEquals("month of " + jdn, expected[1], date.getMonth());
+        assertEquals("day of " + jdn, expected[2], date.getDay());
+        assertEquals("epoch day of " + jdn, epochDay, date.toEpochDay());
+        assertEquals("gregorian of " + jdn, LocalDate.ofEpochDay(epochDay),
+                EthiopianChronology.INSTANCE.toGregorian(date));
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.andegna.chrono;
+
+import java.time.LocalDate;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests of {@link EthiopianDateArray}.
+ */
+public class EthiopianDateArrayTest {
+
+    /**
+     * Test of of method, of class EthiopianDateArray.
+     */
+    @Test
+    public void testOf() {
+        EthiopianDate meskel = new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2016, 1, 17);
+        EthiopianDate genna = new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2016, 4, 28);
+        EthiopianDateArray array = EthiopianDateArray.of(genna, meskel, genna,
+                LocalDate.from(meskel));
+
+        assertEquals(2, array.size());
+        assertEquals(meskel, array.get(0));
+        assertEquals(genna, array.get(1));
+        assertTrue(array.contains(LocalDate.from(genna)));
+        assertFalse(array.contains(genna.plusDays(1)));
+    }
+
+    @Test
+    public void testSearch() {
+        EthiopianDateArray array = EthiopianDateArray.ofEpochDays(new long[]{30, 10, 20, 20});
+        assertArrayEquals(new long[]{10, 20, 30}, array.toEpochDayArray());
+        assertEquals(1, array.indexOf(20));
+        assertEquals(-2, array.indexOf(15));
+        assertEquals(0, array.ceilingIndex(5));
+        assertEquals(1, array.ceilingIndex(11));
+        assertEquals(3, array.ceilingIndex(31));
+        assertEquals(EthiopianDate.ofEpochDay(20), array.ceiling(EthiopianDate.ofEpochDay(11)));
+        assertNull(array.ceiling(EthiopianDate.ofEpochDay(31)));
+        assertEquals(2, array.countBetween(10, 30));
+        assertEquals(3, array.countBetween(0, 100));
+        assertEquals(0, array.countBetween(30, 10));
+    }
+
+}
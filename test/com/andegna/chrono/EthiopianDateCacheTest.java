@@ -0,0 +1,66 @@
+package com.andegna.chrono;
+
+import java.time.LocalDate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+/**
+ * Tests of {@link EthiopianDateCache}.
+ */
+public class EthiopianDateCacheTest {
+
+    /**
+     * Test of get method, of class EthiopianDateCache.
+     */
+    @Test
+    public void testGet() {
+        LocalDate start = LocalDate.of(2000, 1, 1);
+        LocalDate end = LocalDate.of(2001, 1, 1);
+        EthiopianDateCache cache = EthiopianDateCache.of(start, end);
+
+        assertEquals(366, cache.size());
+        for (LocalDate date = start; date.isBefore(end); date = date.plusDays(1)) {
+            EthiopianDate cached = cache.get(date.toEpochDay());
+            assertEquals(EthiopianConversions.toEthiopianDate(date.toEpochDay()), cached);
+            assertEquals(date, LocalDate.from(cached));
+            assertSame(cached, cache.get(date.toEpochDay()));
+        }
+
+        assertNull(cache.get(start.toEpochDay() - 1));
+        assertNull(cache.get(end.toEpochDay()));
+    }
+
+    @Test
+    public void testEmpty() {
+        EthiopianDateCache cache = EthiopianDateCache.of(10, 10);
+        assertEquals(0, cache.size());
+        assertNull(cache.get(10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRange() {
+        EthiopianDateCache.of(10, 9);
+    }
+
+    @Test
+    public void testFromSystemProperties() {
+        assertEquals(31, fromSystemProperties("2000-01-01", "2000-02-01").size());
+        // a malformed range leaves the cache empty
+        assertEquals(0, fromSystemProperties("2000-1-1", "2000-02-01").size());
+        assertEquals(0, fromSystemProperties("2000-02-01", "2000-01-01").size());
+    }
+
+    private static EthiopianDateCache fromSystemProperties(String start, String end) {
+        System.setProperty(EthiopianDateCache.START_PROPERTY, start);
+        System.setProperty(EthiopianDateCache.END_PROPERTY, end);
+        try {
+            return EthiopianDateCache.fromSystemProperties();
+        } finally {
+            System.clearProperty(EthiopianDateCache.START_PROPERTY);
+            System.clearProperty(EthiopianDateCache.END_PROPERTY);
+        }
+    }
+
+}
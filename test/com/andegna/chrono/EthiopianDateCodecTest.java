@@ -0,0 +1,76 @@
+package com.andegna.chrono;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.Random;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Tests of {@link EthiopianDateCodec}.
+ */
+public class EthiopianDateCodecTest {
+
+    /**
+     * Test of writeDate method, of class EthiopianDateCodec.
+     */
+    @Test
+    public void testWriteDate() {
+        ByteBuffer buffer = ByteBuffer.allocate(EthiopianDateCodec.MAX_DATE_LENGTH);
+        for (long epochDay : new long[]{0, -1, 1, 20000, -20000,
+            LocalDate.MIN.toEpochDay(), LocalDate.MAX.toEpochDay()}) {
+            EthiopianDate date = EthiopianConversions.toEthiopianDate(epochDay);
+            buffer.clear();
+            EthiopianDateCodec.writeDate(buffer, date);
+            buffer.flip();
+            assertEquals(date, EthiopianDateCodec.readDate(buffer));
+            assertEquals(0, buffer.remaining());
+        }
+
+        buffer.clear();
+        EthiopianDateCodec.writeDate(buffer, EthiopianDate.now());
+        assertEquals(3, buffer.position());
+    }
+
+    @Test
+    public void testWriteDates() {
+        Random random = new Random(3);
+        EthiopianDate[] dates = new EthiopianDate[1000];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = EthiopianConversions.toEthiopianDate(random.nextInt(200000) - 100000);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(EthiopianDateCodec.maxLength(dates.length));
+        EthiopianDateCodec.writeDates(buffer, dates, 0, dates.length);
+        buffer.flip();
+        assertArrayEquals(dates, EthiopianDateCodec.readDates(buffer));
+        assertEquals(0, buffer.remaining());
+    }
+
+    @Test
+    public void testWriteSortedEpochDays() {
+        long[] epochDays = new long[1000];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = 19000 + i * 3;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(EthiopianDateCodec.maxLength(epochDays.length));
+        EthiopianDateCodec.writeEpochDays(buffer, epochDays, 0, epochDays.length);
+        // the count, the first day and one byte per difference
+        assertEquals(2 + 3 + 999, buffer.position());
+
+        buffer.flip();
+        assertArrayEquals(epochDays, EthiopianDateCodec.readEpochDays(buffer.duplicate()));
+        EthiopianDate[] dates = EthiopianDateCodec.readDates(buffer);
+        assertEquals(EthiopianConversions.toEthiopianDate(epochDays[999]), dates[999]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCount() {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        EthiopianDateCodec.writeEpochDays(buffer, new long[]{1, 2, 3}, 0, 3);
+        buffer.flip();
+        buffer.limit(buffer.limit() - 1);
+        EthiopianDateCodec.readEpochDays(buffer);
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.andegna.chrono;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests of {@link EthiopianDateColumn}.
+ */
+public class EthiopianDateColumnTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Test of get method, of class EthiopianDateColumn.
+     */
+    @Test
+    public void testGet() throws IOException {
+        long[] epochDays = {-5000, 0, 19000, 19001, 50000};
+        Path path = folder.newFile().toPath();
+        EthiopianDateColumn.write(path, epochDays, 0, epochDays.length);
+        assertEquals(16 + 4 * epochDays.length, Files.size(path));
+
+        EthiopianDateColumn column = EthiopianDateColumn.open(path);
+        assertEquals(epochDays.length, column.size());
+        assertTrue(column.isSorted());
+        for (int i = 0; i < epochDays.length; i++) {
+            EthiopianDate date = EthiopianConversions.toEthiopianDate(epochDays[i]);
+            assertEquals(epochDays[i], column.getEpochDay(i));
+            assertEquals(date, column.get(i));
+            assertEquals(EthiopianConversions.epochDayToPackedEthiopic(epochDays[i]),
+                    column.getPacked(i));
+        }
+    }
+
+    @Test
+    public void testScan() throws IOException {
+        Random random = new Random(5);
+        long[] epochDays = new long[5000];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = 18000 + random.nextInt(3000);
+        }
+        Path unsortedPath = folder.newFile().toPath();
+        EthiopianDateColumn.write(unsortedPath, epochDays, 0, epochDays.length);
+        EthiopianDateColumn unsorted = EthiopianDateColumn.open(unsortedPath);
+        assertFalse(unsorted.isSorted());
+
+        Arrays.sort(epochDays);
+        Path sortedPath = folder.newFile().toPath();
+        EthiopianDateColumn.write(sortedPath, epochDays, 0, epochDays.length);
+        EthiopianDateColumn sorted = EthiopianDateColumn.open(sortedPath);
+        assertTrue(sorted.isSorted());
+
+        for (EthiopianDateColumn column : new EthiopianDateColumn[]{unsorted, sorted}) {
+            for (int year = 2010; year <= 2020; year++) {
+                for (int month = 1; month <= 13; month++) {
+                    List<Integer> found = new ArrayList<>();
+                    int count = column.scanMonth(year, month, found::add);
+                    assertEquals(found.size(), count);
+                    for (int index : found) {
+                        EthiopianDate date = column.get(index);
+                        assertEquals(year, date.getYear());
+                        assertEquals(month, date.getMonth());
+                    }
+                    assertEquals(expectedCount(column, year, month), count);
+                }
+                int[] yearCount = new int[1];
+                column.scanYear(year, index -> yearCount[0]++);
+                assertEquals(expectedCount(column, year, 0), yearCount[0]);
+            }
+        }
+    }
+
+    @Test
+    public void testLowerBound() throws IOException {
+        long[] epochDays = {1, 3, 3, 5};
+        Path path = folder.newFile().toPath();
+        EthiopianDateColumn.write(path, epochDays, 0, epochDays.length);
+        EthiopianDateColumn column = EthiopianDateColumn.open(path);
+        assertEquals(0, column.lowerBound(0));
+        assertEquals(1, column.lowerBound(2));
+        assertEquals(1, column.lowerBound(3));
+        assertEquals(3, column.lowerBound(4));
+        assertEquals(4, column.lowerBound(6));
+    }
+
+    @Test(expected = IOException.class)
+    public void testOpenInvalid() throws IOException {
+        Path path = folder.newFile().toPath();
+        Files.write(path, new byte[32]);
+        EthiopianDateColumn.open(path);
+    }
+
+    @Test(expected = IOException.class)
+    public void testOpenTooLarge() throws IOException {
+        Path path = folder.newFile().toPath();
+        EthiopianDateColumn.write(path, new long[]{0}, 0, 1);
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            // a sparse file long enough for the size in the header
+            file.seek(8);
+            file.writeInt(EthiopianDateColumn.MAX_SIZE + 1);
+            file.setLength(16 + 4L * (EthiopianDateColumn.MAX_SIZE + 1));
+        }
+        EthiopianDateColumn.open(path);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWriteOutOfRange() throws IOException {
+        EthiopianDateColumn.write(folder.newFile().toPath(), new long[]{1L << 40}, 0, 1);
+    }
+
+    private static int expectedCount(EthiopianDateColumn column, int year, int month) {
+        int count = 0;
+        for (int i = 0; i < column.size(); i++) {
+            EthiopianDate date = column.get(i);
+            if (date.getYear() == year && (month == 0 || date.getMonth() == month)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.andegna.chrono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Tests of {@link EthiopianDateFormatter}.
+ */
+public class EthiopianDateFormatterTest {
+
+    // Monday 2024-01-22 ISO
+    private final EthiopianDate date = new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2016, 5, 13);
+
+    /**
+     * Test of format method, of class EthiopianDateFormatter.
+     */
+    @Test
+    public void testFormat() {
+        assertEquals(LocalDate.of(2024, 1, 22), LocalDate.from(date));
+
+        assertEquals("2016-05-13", format("yyyy-MM-dd"));
+        assertEquals("13/5/16", format("d/M/yy"));
+        assertEquals("0100-01-01", EthiopianDateFormatter.ofPattern("yyyy-MM-dd")
+                .format(new EthiopianDate(EthiopianEra.AMETE_MIHRET, 100, 1, 1)));
+        assertEquals("Segno, Tir 13, 2016 AM", format("EEE, MMM d, y G"));
+        assertEquals("ሰኞ፣ ጥር 13 ቀን 2016 ዓ.ም", format("EEEE፣ MMMM d ቀን y GGGG"));
+        assertEquals("Pagume 6 5511 AA", EthiopianDateFormatter.ofPattern("MMM d y G")
+                .format(new EthiopianDate(EthiopianEra.AMETE_ALEM, 5511, 13, 6)));
+    }
+
+    @Test
+    public void testQuotes() {
+        assertEquals("day 13 of Tir", format("'day' d 'of' MMM"));
+        assertEquals("13 o'clock", format("d 'o''clock'"));
+        assertEquals("'13'", format("''d''"));
+    }
+
+    @Test
+    public void testWeekdays() {
+        EthiopianDateFormatter formatter = EthiopianDateFormatter.ofPattern("EEE");
+        String[] names = {"Segno", "Maksegno", "Rob", "Hamus", "Arb", "Kidame", "Ehud"};
+        for (long epochDay = -800; epochDay < 800; epochDay++) {
+            LocalDate iso = LocalDate.ofEpochDay(epochDay);
+            String expected = names[iso.getDayOfWeek().getValue() - 1];
+            assertEquals(expected, formatter.format(EthiopianConversions.toEthiopianDate(epochDay)));
+        }
+    }
+
+    @Test
+    public void testFormatToBuffers() {
+        EthiopianDateFormatter formatter = EthiopianDateFormatter.ofPattern("EEEE፣ MMMM dd ቀን yyyy");
+        String expected = formatter.format(date);
+
+        char[] chars = new char[64];
+        int end = formatter.formatTo(date, chars, 3);
+        assertEquals(expected, new String(chars, 3, end - 3));
+
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.put((byte) 'x');
+        formatter.formatTo(date, buffer);
+        buffer.flip();
+        buffer.get();
+        assertEquals(expected, StandardCharsets.UTF_8.decode(buffer).toString());
+
+        StringBuilder builder = new StringBuilder("x");
+        formatter.formatTo(date, builder);
+        assertEquals("x" + expected, builder.toString());
+    }
+
+    @Test
+    public void testAgainstDateTimeFormatter() {
+        EthiopianDateFormatter formatter = EthiopianDateFormatter.ofPattern("yyyy-MM-dd d/M");
+        DateTimeFormatter expected = DateTimeFormatter.ofPattern("yyyy-MM-dd d/M")
+                .withChronology(EthiopianChronology.INSTANCE);
+        for (long epochDay = -1000; epochDay < 30000; epochDay += 11) {
+            EthiopianDate ethiopian = EthiopianConversions.toEthiopianDate(epochDay);
+            assertEquals(expected.format(ethiopian), formatter.format(ethiopian));
+        }
+    }
+
+    @Test
+    public void testGeezNumerals() {
+        EthiopianDateFormatter formatter = EthiopianDateFormatter.ofPattern("EEEE፣ MMMM dd ቀን yyyy GGGG")
+                .withGeezNumerals();
+        String expected = "ሰኞ፣ ጥር ፲፫ ቀን ፳፻፲፮ ዓ.ም";
+        assertEquals(expected, formatter.format(date));
+
+        char[] chars = new char[64];
+        assertEquals(expected, new String(chars, 0, formatter.formatTo(date, chars, 0)));
+        ByteBuffer buffer = ByteBuffer.allocate(128);
+        formatter.formatTo(date, buffer).flip();
+        assertEquals(expected, StandardCharsets.UTF_8.decode(buffer).toString());
+
+        assertEquals("፳፻-፩-፩", EthiopianDateFormatter.ofPattern("y-M-d").withGeezNumerals()
+                .format(new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2000, 1, 1)));
+    }
+
+    @Test
+    public void testNegativeYear() {
+        // before 1 Amete Alem
+        EthiopianDate date = new EthiopianDate(EthiopianEra.AMETE_ALEM, -5, 3, 4);
+        EthiopianDateFormatter formatter = EthiopianDateFormatter.ofPattern("yyyy-MM-dd y/yy");
+        String expected = "-0005-03-04 -5/-05";
+        assertEquals(expected, formatter.format(date));
+
+        char[] chars = new char[32];
+        assertEquals(expected, new String(chars, 0, formatter.formatTo(date, chars, 0)));
+
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        formatter.formatTo(date, buffer);
+        buffer.flip();
+        assertEquals(expected, StandardCharsets.UTF_8.decode(buffer).toString());
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testGeezNumeralsNegative() {
+        EthiopianDateFormatter.ofPattern("y").withGeezNumerals()
+                .format(new EthiopianDate(EthiopianEra.AMETE_ALEM, -5, 3, 4));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testGeezNumeralsZero() {
+        EthiopianDateFormatter.ofPattern("yy").withGeezNumerals()
+                .format(new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2000, 1, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownLetter() {
+        EthiopianDateFormatter.ofPattern("yyyy-MM-dd HH");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooManyLetters() {
+        EthiopianDateFormatter.ofPattern("MMMMM");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnterminatedQuote() {
+        EthiopianDateFormatter.ofPattern("d 'of");
+    }
+
+    private String format(String pattern) {
+        return EthiopianDateFormatter.ofPattern(pattern).format(date);
+    }
+
+}
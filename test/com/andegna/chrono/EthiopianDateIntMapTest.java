@@ -0,0 +1,35 @@
+package com.andegna.chrono;
+
+import java.time.LocalDate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests of {@link EthiopianDateIntMap}.
+ */
+public class EthiopianDateIntMapTest {
+
+    /**
+     * Test of put method, of class EthiopianDateIntMap.
+     */
+    @Test
+    public void testPut() {
+        EthiopianDateIntMap map = new EthiopianDateIntMap();
+        EthiopianDate date = new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2008, 1, 1);
+
+        map.put(date, 7);
+        assertEquals(7, map.getOrDefault(LocalDate.of(2015, 9, 12), -1));
+        assertEquals(-1, map.getOrDefault(date.plusDays(1), -1));
+        map.put(date, 8);
+        assertEquals(1, map.size());
+        assertEquals(10, map.addTo(date, 2));
+        assertEquals(3, map.addTo(date.plusDays(1), 3));
+        assertTrue(map.containsKey(date.plusDays(1)));
+        assertTrue(map.remove(date));
+        assertFalse(map.remove(date));
+        assertEquals(1, map.size());
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.andegna.chrono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * Tests of {@link EthiopianDateParser}.
+ */
+public class EthiopianDateParserTest {
+
+    private final EthiopianDateParser parser = new EthiopianDateParser();
+
+    /**
+     * Test of parse method, of class EthiopianDateParser.
+     */
+    @Test
+    public void testParseNumeric() {
+        assertEquals(date(2015, 13, 5), parser.parse("2015-13-05"));
+        assertEquals(date(2015, 13, 5), parser.parse("2015/13/5"));
+        assertEquals(date(2015, 13, 5), parser.parse("05/13/2015"));
+        assertEquals(date(2011, 13, 6), parser.parse(" 2011-13-06 "));
+        assertEquals(date(1, 1, 1), parser.parse("1-1-1"));
+    }
+
+    @Test
+    public void testParseNamed() {
+        assertEquals(date(2016, 5, 12), parser.parse("ጥር 12 ቀን 2016 ዓ.ም"));
+        assertEquals(date(2016, 5, 12), parser.parse("ጥር 12 2016"));
+        assertEquals(date(2016, 5, 12), parser.parse("ጥር፡12፡ቀን፡2016፡ዓ/ም"));
+        assertEquals(date(2016, 3, 1), parser.parse("ህዳር 1 2016 ዓም"));
+        assertEquals(date(2016, 4, 1), parser.parse("ታህሳስ 1 2016"));
+        assertEquals(date(2015, 13, 5), parser.parse("ጳጉሜ 5 2015"));
+        assertEquals(date(2015, 13, 5), parser.parse("ጳጉሜን 5 2015"));
+        assertEquals(date(2016, 5, 12), parser.parse("Tir 12 2016"));
+        assertEquals(date(2016, 13, 3), parser.parse("PAGUME 3 2016"));
+        assertEquals(new EthiopianDate(EthiopianEra.AMETE_ALEM, 5400, 1, 1),
+                parser.parse("መስከረም 1 ቀን 5400 ዓ.ዓ."));
+    }
+
+    @Test
+    public void testParseGeezNumerals() {
+        assertEquals(date(2016, 5, 12), parser.parse("ጥር ፲፪ ቀን ፳፻፲፮ ዓ.ም"));
+        assertEquals(date(2015, 13, 5), parser.parse("፳፻፲፭-፲፫-፭"));
+        assertEquals(date(2015, 13, 5), parser.parse("፳፻፲፭-፲፫-፭".getBytes(StandardCharsets.UTF_8), 0,
+                "፳፻፲፭-፲፫-፭".getBytes(StandardCharsets.UTF_8).length));
+
+        EthiopianDateFormatter formatter = EthiopianDateFormatter.ofPattern("MMMM d ቀን y GGGG")
+                .withGeezNumerals();
+        for (long epochDay = -1000; epochDay < 30000; epochDay += 13) {
+            EthiopianDate date = EthiopianConversions.toEthiopianDate(epochDay);
+            assertEquals(date, parser.parse(formatter.format(date)));
+        }
+    }
+
+    @Test
+    public void testParseSlices() {
+        String text = "[ጥር 12 ቀን 2016 ዓ.ም]";
+        EthiopianDate expected = date(2016, 5, 12);
+        assertEquals(expected, parser.parse(text, 1, text.length() - 1));
+        assertEquals(expected, parser.parse(text.toCharArray(), 1, text.length() - 2));
+
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        assertEquals(expected, parser.parse(utf8, 1, utf8.length - 2));
+        assertEquals(EthiopianConversions.pack(EthiopianEra.AMETE_MIHRET, 2016, 5, 12),
+                parser.parsePacked(utf8, 1, utf8.length - 2));
+    }
+
+    @Test
+    public void testParseInvalid() {
+        assertInvalid("2016-13-06", 0);
+        assertInvalid("2015-14-01", 0);
+        assertInvalid("2015-01-31", 0);
+        assertInvalid("2015-01", 7);
+        assertInvalid("2015-01-01x", 10);
+        assertInvalid("2015-01/01", 7);
+        assertInvalid("0-01-01", 0);
+        assertInvalid("ጥርር 12 2016", 2);
+        assertInvalid("Tirr 12 2016", 3);
+        assertInvalid("ሰኞ 12 2016", 0);
+        assertInvalid("ጥር 12 ቀ 2016", 7);
+        assertInvalid("", 0);
+        // past Integer.MAX_VALUE, GeezNumerals reads 10^12
+        assertInvalid("፼፼፼-፩-፩", 0);
+    }
+
+    @Test
+    public void testGeezNumbersAgainstGeezNumerals() {
+        // unusual spellings read the same as GeezNumerals.parse
+        for (String year : new String[]{"፻፻", "፼፻", "፲፻፲፼", "፪፻፼"}) {
+            EthiopianDate date = parser.parse(year + "-፩-፩");
+            assertEquals(year, GeezNumerals.parse(year), date.getYear());
+        }
+    }
+
+    @Test
+    public void testAgainstFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd")
+                .withChronology(EthiopianChronology.INSTANCE);
+        for (long epochDay = -1000; epochDay < 30000; epochDay += 7) {
+            EthiopianDate date = EthiopianConversions.toEthiopianDate(epochDay);
+            String text = formatter.format(date);
+            assertEquals(text, date, parser.parse(text));
+            assertEquals(text, date, EthiopianDate.from(formatter.parse(text)));
+        }
+    }
+
+    private void assertInvalid(String text, int errorIndex) {
+        try {
+            parser.parsePacked(text);
+            fail("Parsed '" + text + "'");
+        } catch (DateTimeParseException ex) {
+            assertEquals(text, ex.getParsedString());
+            assertEquals(text, errorIndex, ex.getErrorIndex());
+        }
+    }
+
+    private static EthiopianDate date(int year, int month, int day) {
+        return new EthiopianDate(EthiopianEra.AMETE_MIHRET, year, month, day);
+    }
+
+}
@@ -0,0 +1,175 @@
+package com.andegna.chrono;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests of {@link EthiopianDateRange}.
+ */
+public class EthiopianDateRangeTest {
+
+    private static final EthiopianDate START
+            = new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2014, 12, 25);
+
+    // the dates of the range through plus, the reference of the iteration
+    private static List<EthiopianDate> expected(EthiopianDate start, long endEpochDay,
+            long step, ChronoUnit unit) {
+        List<EthiopianDate> dates = new ArrayList<>();
+        for (long i = 0; ; i++) {
+            EthiopianDate date = start.plus(step * i, unit);
+            if (date.toEpochDay() >= endEpochDay) {
+                return dates;
+            }
+            dates.add(date);
+        }
+    }
+
+    private static void assertRange(EthiopianDate start, EthiopianDate end,
+            long step, ChronoUnit unit) {
+        EthiopianDateRange range = EthiopianDateRange.of(start, end, step, unit);
+        List<EthiopianDate> expected = expected(start, end.toEpochDay(), step, unit);
+
+        List<EthiopianDate> iterated = new ArrayList<>();
+        for (EthiopianDate date : range) {
+            iterated.add(date);
+        }
+        assertEquals(expected, iterated);
+        assertEquals(expected.size(), range.size());
+        for (int i = 0; i < expected.size(); i++) {
+            EthiopianDate date = iterated.get(i);
+            // equal days, and the fields of the day too
+            assertEquals(expected.get(i).toString(), date.toString());
+            assertEquals(EthiopianDate.ofEpochDay(date.toEpochDay()).toString(), date.toString());
+            assertTrue(range.contains(date));
+            assertEquals(date, range.get(i));
+        }
+    }
+
+    /**
+     * Test of iterator method, of class EthiopianDateRange.
+     */
+    @Test
+    public void testDays() {
+        EthiopianDate end = START.plusYears(2);
+        assertRange(START, end, 1, ChronoUnit.DAYS);
+        assertRange(START, end, 3, ChronoUnit.DAYS);
+        assertRange(START, end, 40, ChronoUnit.DAYS);
+        assertRange(START, START.plusYears(30), 1000, ChronoUnit.DAYS);
+        assertRange(START, end, 1, ChronoUnit.WEEKS);
+    }
+
+    @Test
+    public void testMonths() {
+        // the 6th of Ṗagume of a leap year is clamped to the 5th
+        EthiopianDate pagume = new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2015, 13, 6);
+        EthiopianDate day30 = new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2015, 5, 30);
+        for (int step = 1; step <= 27; step++) {
+            assertRange(START, START.plusYears(5), step, ChronoUnit.MONTHS);
+            assertRange(pagume, pagume.plusYears(9), step, ChronoUnit.MONTHS);
+            assertRange(day30, day30.plusYears(5).plusDays(1), step, ChronoUnit.MONTHS);
+        }
+    }
+
+    @Test
+    public void testYears() {
+        EthiopianDate pagume = new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2015, 13, 6);
+        assertRange(pagume, pagume.plusYears(20), 1, ChronoUnit.YEARS);
+        assertRange(pagume, pagume.plusYears(20).plusDays(1), 4, ChronoUnit.YEARS);
+        assertRange(START, START.plusYears(100), 7, ChronoUnit.YEARS);
+    }
+
+    @Test
+    public void testAcrossEras() {
+        EthiopianDate start = new EthiopianDate(EthiopianEra.AMETE_ALEM, 5497, 11, 1);
+        EthiopianDate end = new EthiopianDate(EthiopianEra.AMETE_MIHRET, 3, 2, 1);
+        assertRange(start, end, 1, ChronoUnit.DAYS);
+        assertRange(start, end, 1, ChronoUnit.MONTHS);
+        EthiopianDateRange range = EthiopianDateRange.of(start, end);
+        assertEquals(EthiopianEra.AMETE_ALEM, range.get(0).getEra());
+        assertEquals(EthiopianEra.AMETE_MIHRET, range.get(range.size() - 1).getEra());
+    }
+
+    @Test
+    public void testContains() {
+        EthiopianDateRange range = EthiopianDateRange.of(START, START.plusYears(1), 2, ChronoUnit.MONTHS);
+        assertTrue(range.contains(START));
+        assertTrue(range.contains(LocalDate.from(START.plusMonths(2))));
+        assertFalse(range.contains(START.plusMonths(1)));
+        assertFalse(range.contains(START.plusMonths(2).plusDays(1)));
+        assertFalse(range.contains(START.minusMonths(2)));
+        assertFalse(range.contains(START.plusYears(1)));
+    }
+
+    @Test
+    public void testEmpty() {
+        EthiopianDateRange range = EthiopianDateRange.of(START, START);
+        assertTrue(range.isEmpty());
+        assertFalse(range.iterator().hasNext());
+        assertEquals(0, EthiopianDateRange.of(START, START.minusDays(1)).stream().count());
+        assertFalse(range.contains(START));
+    }
+
+    @Test
+    public void testStream() {
+        EthiopianDateRange range = EthiopianDateRange.of(START, START.plusYears(40));
+        List<EthiopianDate> sequential = range.stream().collect(Collectors.toList());
+        assertEquals(range.size(), sequential.size());
+        assertEquals(sequential, range.stream().parallel().collect(Collectors.toList()));
+        assertEquals(sequential.get(5000), range.get(5000));
+    }
+
+    @Test
+    public void testSpliterator() {
+        EthiopianDateRange range = EthiopianDateRange.of(START, START.plusDays(101));
+        Spliterator<EthiopianDate> second = range.spliterator();
+        assertTrue(second.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED
+                | Spliterator.ORDERED | Spliterator.IMMUTABLE));
+
+        // advanced spliterators split at the remaining half
+        assertTrue(second.tryAdvance(date -> assertEquals(START, date)));
+        Spliterator<EthiopianDate> first = second.trySplit();
+        assertEquals(50, first.estimateSize());
+        assertEquals(50, second.estimateSize());
+        assertTrue(first.tryAdvance(date -> assertEquals(START.plusDays(1), date)));
+        assertTrue(second.tryAdvance(date -> assertEquals(START.plusDays(51), date)));
+
+        Spliterator<EthiopianDate> last = EthiopianDateRange.of(START, START.plusDays(1)).spliterator();
+        assertNull(last.trySplit());
+    }
+
+    @Test
+    public void testIterator() {
+        Iterator<EthiopianDate> iterator = EthiopianDateRange
+                .of(START, START.plusDays(2)).withStep(1, ChronoUnit.DAYS).iterator();
+        assertEquals(START, iterator.next());
+        assertEquals(START.plusDays(1), iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidStep() {
+        EthiopianDateRange.of(START, START.plusDays(2), 0, ChronoUnit.DAYS);
+    }
+
+    @Test(expected = UnsupportedTemporalTypeException.class)
+    public void testUnsupportedUnit() {
+        EthiopianDateRange.of(START, START.plusDays(2), 1, ChronoUnit.HOURS);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfRange() {
+        EthiopianDateRange.of(START, START.plusDays(2)).get(2);
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.andegna.chrono;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests of {@link EthiopianDateSet}.
+ */
+public class EthiopianDateSetTest {
+
+    /**
+     * Test of add method, of class EthiopianDateSet.
+     */
+    @Test
+    public void testAdd() {
+        EthiopianDateSet set = new EthiopianDateSet();
+        EthiopianDate mihret = new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2008, 1, 1);
+        EthiopianDate sameFields = new EthiopianDate(EthiopianEra.AMETE_ALEM, 2008, 1, 1);
+
+        assertTrue(set.add(mihret));
+        assertFalse(set.add(new EthiopianDate(EthiopianEra.AMETE_ALEM, 7508, 1, 1)));
+        assertFalse(set.add(LocalDate.of(2015, 9, 12)));
+        assertTrue(set.add(sameFields));
+        assertEquals(2, set.size());
+        assertTrue(set.contains(LocalDate.of(2015, 9, 12)));
+        assertTrue(set.contains(sameFields));
+        assertFalse(set.contains(mihret.plusDays(1)));
+    }
+
+    @Test
+    public void testAgainstHashSet() {
+        Random random = new Random(11);
+        EthiopianDateSet set = new EthiopianDateSet(4);
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < 200000; i++) {
+            long epochDay = random.nextInt(5000) - 2500;
+            switch (random.nextInt(3)) {
+                case 0:
+                case 1:
+                    assertEquals(expected.add(epochDay), set.addEpochDay(epochDay));
+                    break;
+                default:
+                    assertEquals(expected.remove(epochDay), set.removeEpochDay(epochDay));
+            }
+            assertEquals(expected.size(), set.size());
+        }
+        for (long epochDay = -2600; epochDay < 2600; epochDay++) {
+            assertEquals(expected.contains(epochDay), set.containsEpochDay(epochDay));
+        }
+
+        long[] sorted = expected.stream().mapToLong(Long::longValue).sorted().toArray();
+        assertArrayEquals(sorted, set.toEpochDayArray());
+        assertArrayEquals(sorted, set.toSortedArray().toEpochDayArray());
+
+        Set<Long> iterated = new HashSet<>();
+        set.forEach(iterated::add);
+        assertEquals(expected, iterated);
+
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.containsEpochDay(sorted[0]));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidEpochDay() {
+        new EthiopianDateSet().addEpochDay(Long.MIN_VALUE);
+    }
+
+}
@@ -1,9 +1,26 @@
 package com.andegna.chrono;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.time.DateTimeException;
 import java.time.LocalDate;
+import java.time.Period;
+import java.time.chrono.ChronoPeriod;
 import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.time.temporal.ValueRange;
+import java.util.Random;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
 /**
@@ -58,6 +75,288 @@ public class EthiopianDateTest {
         assertEquals(date.get(ChronoField.DAY_OF_YEAR), 2 * 30 + 21);
     }
 
+    @Test
+    public void testGetWeekFields() {
+        // Tir 13, 2016 was a Monday
+        EthiopianDate tir13 = new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2016, 5, 13);
+        assertEquals(1, tir13.get(ChronoField.DAY_OF_WEEK));
+        assertEquals(6, tir13.get(ChronoField.ALIGNED_DAY_OF_WEEK_IN_MONTH));
+        assertEquals(2, tir13.get(ChronoField.ALIGNED_WEEK_OF_MONTH));
+        // the 133rd day of the year
+        assertEquals(7, tir13.get(ChronoField.ALIGNED_DAY_OF_WEEK_IN_YEAR));
+        assertEquals(19, tir13.get(ChronoField.ALIGNED_WEEK_OF_YEAR));
+
+        EthiopianDate pagume = new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2015, 13, 6);
+        assertEquals(1, pagume.get(ChronoField.ALIGNED_WEEK_OF_MONTH));
+        assertEquals(6, pagume.get(ChronoField.ALIGNED_DAY_OF_WEEK_IN_MONTH));
+        assertEquals(53, pagume.get(ChronoField.ALIGNED_WEEK_OF_YEAR));
+        assertEquals(2, pagume.get(ChronoField.ALIGNED_DAY_OF_WEEK_IN_YEAR));
+
+        // the day of week agrees with the ISO calendar
+        for (long epochDay = -1000; epochDay < 1000; epochDay++) {
+            assertEquals(LocalDate.ofEpochDay(epochDay).getDayOfWeek().getValue(),
+                    EthiopianDate.ofEpochDay(epochDay).get(ChronoField.DAY_OF_WEEK));
+        }
+    }
+
+    @Test(expected = UnsupportedTemporalTypeException.class)
+    public void testGetTimeField() {
+        EthiopianDate.of(2016, 5, 13).getLong(ChronoField.HOUR_OF_DAY);
+    }
+
+    @Test
+    public void testRange() {
+        EthiopianDate pagume = new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2016, 13, 1);
+        assertEquals(ValueRange.of(1, 5), pagume.range(ChronoField.DAY_OF_MONTH));
+        assertEquals(ValueRange.of(1, 365), pagume.range(ChronoField.DAY_OF_YEAR));
+        assertEquals(ValueRange.of(1, 1), pagume.range(ChronoField.ALIGNED_WEEK_OF_MONTH));
+        assertEquals(ValueRange.of(1, 53), pagume.range(ChronoField.ALIGNED_WEEK_OF_YEAR));
+        EthiopianDate tir = new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2015, 5, 1);
+        assertEquals(ValueRange.of(1, 30), tir.range(ChronoField.DAY_OF_MONTH));
+        assertEquals(ValueRange.of(1, 366), tir.range(ChronoField.DAY_OF_YEAR));
+        assertEquals(ValueRange.of(1, 5), tir.range(ChronoField.ALIGNED_WEEK_OF_MONTH));
+        // 7515 Amete Alem is 2015 Amete Mihret, a leap year
+        EthiopianDate alem = new EthiopianDate(EthiopianEra.AMETE_ALEM, 7515, 13, 1);
+        assertTrue(alem.isLeapYear());
+        assertEquals(ValueRange.of(1, 6), alem.range(ChronoField.DAY_OF_MONTH));
+    }
+
+    @Test
+    public void testToEpochDay() {
+        EthiopianDate date = new EthiopianDate(EthiopianEra.AMETE_MIHRET,
+                1855, 2, 20);
+        assertEquals(LocalDate.of(1862, 10, 29).toEpochDay(), date.toEpochDay());
+        assertEquals(date.toEpochDay(), date.getLong(ChronoField.EPOCH_DAY));
+        assertEquals(date.toEpochDay(), EthiopianDate.ofEpochDay(
+                date.toEpochDay()).toEpochDay());
+    }
+
+    @Test
+    public void testCompareTo() {
+        EthiopianDate pagume = new EthiopianDate(EthiopianEra.AMETE_MIHRET,
+                2007, 13, 5);
+        EthiopianDate meskerem = new EthiopianDate(EthiopianEra.AMETE_MIHRET,
+                2008, 1, 1);
+        // the same day counted from the creation of the world
+        EthiopianDate alem = new EthiopianDate(EthiopianEra.AMETE_ALEM,
+                7508, 1, 1);
+
+        assertTrue(pagume.compareTo(meskerem) < 0);
+        assertTrue(meskerem.compareTo(pagume) > 0);
+        assertTrue(pagume.isBefore(meskerem));
+        assertTrue(meskerem.isAfter(pagume));
+        assertTrue(meskerem.isEqual(alem));
+        assertEquals(meskerem, alem);
+        assertEquals(meskerem.hashCode(), alem.hashCode());
+        assertFalse(meskerem.equals((EthiopianDate) null));
+        assertTrue(meskerem.isEqual(LocalDate.of(2015, 9, 12)));
+        assertTrue(pagume.isBefore(LocalDate.of(2015, 9, 12)));
+    }
+
+    @Test
+    public void testHashCode() {
+        EthiopianDate mihret = new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2008, 1, 1);
+        EthiopianDate alem = new EthiopianDate(EthiopianEra.AMETE_ALEM, 7508, 1, 1);
+        EthiopianDate sameFields = new EthiopianDate(EthiopianEra.AMETE_ALEM, 2008, 1, 1);
+
+        assertEquals(mihret.hashCode(), alem.hashCode());
+        assertFalse(mihret.equals(sameFields));
+        assertTrue(mihret.hashCode() != sameFields.hashCode());
+    }
+
+    @Test
+    public void testWith() {
+        EthiopianDate date = EthiopianDate.of(2015, 13, 6);
+        assertEquals(EthiopianDate.of(2015, 13, 3), date.with(ChronoField.DAY_OF_MONTH, 3));
+        assertEquals(EthiopianDate.of(2015, 3, 6), date.with(ChronoField.MONTH_OF_YEAR, 3));
+        // Ṗagume 6 is clamped in a year that is not leap
+        assertEquals(EthiopianDate.of(2016, 13, 5), date.with(ChronoField.YEAR, 2016));
+        EthiopianDate ameteAlem = date.with(ChronoField.YEAR, -5499);
+        assertEquals(new EthiopianDate(EthiopianEra.AMETE_ALEM, 5499, 13, 6), ameteAlem);
+        assertEquals(-5499, ameteAlem.get(ChronoField.YEAR));
+        assertEquals(EthiopianDate.of(2015, 1, 1), date.with(ChronoField.DAY_OF_YEAR, 1));
+        assertEquals(new EthiopianDate(EthiopianEra.AMETE_ALEM, 2015, 13, 6), date.with(ChronoField.ERA, 0));
+        assertEquals(date.plusDays(7 - date.get(ChronoField.DAY_OF_WEEK)), date.with(ChronoField.DAY_OF_WEEK, 7));
+        assertSame(date, date.with(ChronoField.MONTH_OF_YEAR, 13));
+        assertEquals(EthiopianDate.of(2015, 13, 1), date.with(TemporalAdjusters.firstDayOfMonth()));
+        assertEquals(EthiopianDate.of(2015, 1, 1), date.with(TemporalAdjusters.firstDayOfYear()));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testWithInvalid() {
+        EthiopianDate.of(2015, 5, 1).with(ChronoField.DAY_OF_MONTH, 31);
+    }
+
+    @Test
+    public void testPlusDays() {
+        EthiopianDate date = new EthiopianDate(EthiopianEra.AMETE_MIHRET,
+                2007, 13, 6);
+        assertEquals(new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2008, 1, 1),
+                date.plus(1, ChronoUnit.DAYS));
+        assertEquals(new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2007, 12, 30),
+                date.minus(6, ChronoUnit.DAYS));
+        assertEquals(new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2008, 1, 8),
+                date.plus(1, ChronoUnit.WEEKS).plus(Period.ofDays(1)));
+
+        for (long epochDay = -1000; epochDay < 1000; epochDay += 17) {
+            EthiopianDate start = EthiopianDate.ofEpochDay(epochDay);
+            for (int days = -800; days < 800; days += 13) {
+                assertEquals(LocalDate.ofEpochDay(epochDay + days),
+                        LocalDate.from(start.plus(days, ChronoUnit.DAYS)));
+            }
+        }
+    }
+
+    @Test
+    public void testPlusMonths() {
+        EthiopianDate nehase = new EthiopianDate(EthiopianEra.AMETE_MIHRET,
+                2006, 12, 30);
+        // into a 5 day and a 6 day Pagume
+        assertEquals(new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2006, 13, 5),
+                nehase.plus(1, ChronoUnit.MONTHS));
+        assertEquals(new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2007, 13, 6),
+                nehase.plus(14, ChronoUnit.MONTHS));
+        // a year has 13 months
+        assertEquals(new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2007, 12, 30),
+                nehase.plus(Period.ofMonths(13)));
+        assertEquals(new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2006, 1, 30),
+                nehase.minus(11, ChronoUnit.MONTHS));
+        assertEquals(new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2005, 13, 5),
+                nehase.minus(12, ChronoUnit.MONTHS));
+    }
+
+    @Test
+    public void testPlusYears() {
+        EthiopianDate pagume6 = new EthiopianDate(EthiopianEra.AMETE_MIHRET,
+                2007, 13, 6);
+        assertEquals(new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2008, 13, 5),
+                pagume6.plus(1, ChronoUnit.YEARS));
+        assertEquals(new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2011, 13, 6),
+                pagume6.plus(Period.ofYears(4)));
+        assertEquals(new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2017, 13, 5),
+                pagume6.plus(1, ChronoUnit.DECADES));
+        assertEquals(new EthiopianDate(EthiopianEra.AMETE_MIHRET, 1907, 13, 6),
+                pagume6.minus(1, ChronoUnit.CENTURIES));
+        assertEquals(new EthiopianDate(EthiopianEra.AMETE_MIHRET, 1007, 13, 6),
+                pagume6.minus(1, ChronoUnit.MILLENNIA));
+
+        // crossing into Amete Alem
+        EthiopianDate first = new EthiopianDate(EthiopianEra.AMETE_MIHRET, 1, 1, 1);
+        EthiopianDate before = first.minus(1, ChronoUnit.YEARS);
+        assertEquals(EthiopianEra.AMETE_ALEM, before.getEra());
+        assertEquals(5500, before.getYear());
+        assertEquals(first, before.plus(1, ChronoUnit.YEARS));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testPlusYearsOutOfRange() {
+        EthiopianDate.of(2016, 1, 1).plusYears(Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testPlusEras() {
+        EthiopianDate date = EthiopianDate.of(2016, 5, 13);
+        EthiopianDate ameteAlem = date.minus(1, ChronoUnit.ERAS);
+        assertEquals(new EthiopianDate(EthiopianEra.AMETE_ALEM, 2016, 5, 13), ameteAlem);
+        assertEquals(-1, date.until(ameteAlem, ChronoUnit.ERAS));
+        assertEquals(date, ameteAlem.plus(1, ChronoUnit.ERAS));
+        assertSame(date, date.plus(0, ChronoUnit.ERAS));
+    }
+
+    @Test
+    public void testUntilPeriod() {
+        EthiopianDate tir13 = EthiopianDate.of(2016, 5, 13);
+        // 2015 is a leap year, Ṗagume has 6 days
+        assertEquals(EthiopianChronology.INSTANCE.period(0, 0, 2),
+                EthiopianDate.of(2015, 13, 5).until(EthiopianDate.of(2016, 1, 1)));
+        assertEquals(EthiopianChronology.INSTANCE.period(1, 0, 0),
+                EthiopianDate.of(2015, 1, 1).until(EthiopianDate.of(2016, 1, 1)));
+        assertEquals(EthiopianChronology.INSTANCE.period(0, 7, 22),
+                tir13.until(EthiopianDate.of(2016, 13, 5)));
+        assertEquals(EthiopianChronology.INSTANCE.period(0, 0, -5),
+                EthiopianDate.of(2016, 1, 3).until(EthiopianDate.of(2015, 13, 4)));
+        assertEquals(EthiopianChronology.INSTANCE.period(-1, -4, -11),
+                tir13.until(LocalDate.of(2022, 9, 12)));
+        assertEquals(EthiopianChronology.INSTANCE.period(0, 0, 0), tir13.until(tir13));
+    }
+
+    @Test
+    public void testUntil() {
+        Random random = new Random(42);
+        long start = EthiopianDate.of(1, 1, 1).toEpochDay() - 3000;
+        for (int i = 0; i < 20000; i++) {
+            EthiopianDate from = EthiopianDate.ofEpochDay(start + random.nextInt(6000));
+            EthiopianDate to = from.plusDays(random.nextInt(i % 2 == 0 ? 100 : 20000) - (i % 4 < 2 ? 0 : 10000));
+            ChronoPeriod period = from.until(to);
+            long months = period.get(ChronoUnit.YEARS) * 13 + period.get(ChronoUnit.MONTHS);
+            long days = period.get(ChronoUnit.DAYS);
+            assertTrue(period.toString(), Math.abs(days) < 30 && period.getUnits().size() == 3);
+            assertTrue(period.toString(), months * days >= 0 && Math.abs(period.get(ChronoUnit.MONTHS)) < 13);
+            if (!to.isBefore(from)) {
+                assertEquals(to, from.plus(period));
+            }
+            assertEquals(months, from.until(to, ChronoUnit.MONTHS));
+            assertEquals(-months, to.until(from, ChronoUnit.MONTHS));
+            assertEquals(months / 13, from.until(to, ChronoUnit.YEARS));
+            assertEquals(months / 130, from.until(to, ChronoUnit.DECADES));
+            assertEquals(to.toEpochDay() - from.toEpochDay(), from.until(to, ChronoUnit.DAYS));
+            assertEquals((to.toEpochDay() - from.toEpochDay()) / 7, from.until(to, ChronoUnit.WEEKS));
+            assertEquals(to.getLong(ChronoField.ERA) - from.getLong(ChronoField.ERA),
+                    from.until(LocalDate.ofEpochDay(to.toEpochDay()), ChronoUnit.ERAS));
+            // a month is complete when the day of month is reached
+            EthiopianDate monthsLater = from.plusMonths(months);
+            assertTrue(from + " " + to, months == 0 || monthsLater.get(ChronoField.DAY_OF_MONTH) != from.get(ChronoField.DAY_OF_MONTH)
+                    || (months > 0 ? !monthsLater.isAfter(to) : !monthsLater.isBefore(to)));
+        }
+    }
+
+    @Test(expected = UnsupportedTemporalTypeException.class)
+    public void testUntilTimeUnit() {
+        EthiopianDate.of(2016, 5, 13).until(EthiopianDate.of(2016, 5, 14), ChronoUnit.HOURS);
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        EthiopianDate[] dates = new EthiopianDate[1000];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = EthiopianDate.ofEpochDay(-2000000 + 4001L * i);
+        }
+        byte[] bytes = serialize(dates);
+        // the proxy class descriptor once, then 6 bytes of data and 6 of
+        // object header per date
+        assertTrue(bytes.length < 200 + 12 * dates.length);
+        assertArrayEquals(dates, (EthiopianDate[]) deserialize(bytes));
+
+        EthiopianDate leap = new EthiopianDate(EthiopianEra.AMETE_ALEM, 5511, 13, 6);
+        EthiopianDate read = (EthiopianDate) deserialize(serialize(leap));
+        assertEquals(leap, read);
+        assertEquals(EthiopianEra.AMETE_ALEM, read.getEra());
+        assertEquals(5511, read.getYear());
+    }
+
+    @Test(expected = InvalidObjectException.class)
+    public void testSerializationInvalid() throws Exception {
+        byte[] bytes = serialize(new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2012, 13, 5));
+        // the short fields come before the year, the day is the low 5 bits:
+        // Pagume 6 of a year that is not leap
+        bytes[bytes.length - 5] = (byte) 0xa6;
+        deserialize(bytes);
+    }
+
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+
     @Test(expected = DateTimeException.class)
     public void testInvalidDay1() {
         new EthiopianDate(EthiopianEra.AMETE_MIHRET, 2007, 4, 31);
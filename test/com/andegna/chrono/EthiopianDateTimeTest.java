@@ -0,0 +1,147 @@
+package com.andegna.chrono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests of {@link EthiopianDateTime}.
+ */
+public class EthiopianDateTimeTest {
+
+    private static final ChronoUnit[] TIME_UNITS = {ChronoUnit.NANOS, ChronoUnit.MICROS,
+        ChronoUnit.MILLIS, ChronoUnit.SECONDS, ChronoUnit.MINUTES, ChronoUnit.HOURS,
+        ChronoUnit.HALF_DAYS, ChronoUnit.DAYS};
+
+    private static LocalDateTime iso(EthiopianDateTime dateTime) {
+        return LocalDateTime.of(LocalDate.from(dateTime.toLocalDate()), dateTime.toLocalTime());
+    }
+
+    /**
+     * Test of of method, of class EthiopianDateTime.
+     */
+    @Test
+    public void testOf() {
+        EthiopianDateTime dateTime = EthiopianDateTime.of(2016, 5, 13, 7, 30);
+        assertEquals(EthiopianDate.of(2016, 5, 13), dateTime.toLocalDate());
+        assertEquals(LocalTime.of(7, 30), dateTime.toLocalTime());
+        assertEquals(7, dateTime.getHour());
+        assertEquals(30, dateTime.getMinute());
+        assertEquals(7, dateTime.get(ChronoField.HOUR_OF_DAY));
+        assertEquals(1, dateTime.get(ChronoField.DAY_OF_WEEK));
+        assertEquals(13, dateTime.get(ChronoField.DAY_OF_MONTH));
+        assertEquals(7 * 3600 + 30 * 60, dateTime.get(ChronoField.SECOND_OF_DAY));
+        assertEquals(7, dateTime.get(ChronoField.CLOCK_HOUR_OF_AMPM));
+        assertEquals(LocalDateTime.of(2024, 1, 22, 7, 30), iso(dateTime));
+        assertEquals(dateTime, EthiopianDate.of(2016, 5, 13).atTime(LocalTime.of(7, 30)));
+        assertEquals(dateTime, EthiopianChronology.INSTANCE.localDateTime(
+                LocalDateTime.of(2024, 1, 22, 7, 30)));
+    }
+
+    @Test
+    public void testEthiopianClock() {
+        int[] clockHours = {6, 7, 8, 9, 10, 11, 12, 1, 2, 3, 4, 5,
+            6, 7, 8, 9, 10, 11, 12, 1, 2, 3, 4, 5};
+        for (int hour = 0; hour < 24; hour++) {
+            EthiopianDateTime dateTime = EthiopianDateTime.of(2016, 5, 13, hour, 0);
+            assertEquals(clockHours[hour], dateTime.getEthiopianClockHour());
+            assertEquals(hour >= 6 && hour < 18, dateTime.isEthiopianDaytime());
+        }
+    }
+
+    @Test
+    public void testOfEpochSecond() {
+        Random random = new Random(42);
+        ZoneOffset offset = ZoneOffset.ofHours(3);
+        for (int i = 0; i < 10000; i++) {
+            long epochSecond = random.nextLong() % (4000L * 365 * 86400);
+            int nano = random.nextInt(1000_000_000);
+            EthiopianDateTime dateTime = EthiopianDateTime.ofEpochSecond(epochSecond, nano, offset);
+            assertEquals(LocalDateTime.ofEpochSecond(epochSecond, nano, offset), iso(dateTime));
+            assertEquals(epochSecond, dateTime.toEpochSecond(offset));
+        }
+        Instant instant = Instant.parse("2024-01-22T04:30:00Z");
+        assertEquals(EthiopianDateTime.of(2016, 5, 13, 7, 30),
+                EthiopianDateTime.ofInstant(instant, ZoneId.of("Africa/Addis_Ababa")));
+    }
+
+    @Test
+    public void testPlusAndUntil() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            LocalDateTime start = LocalDateTime.ofEpochSecond(random.nextInt(), random.nextInt(1000_000_000),
+                    ZoneOffset.UTC);
+            EthiopianDateTime dateTime = EthiopianChronology.INSTANCE.localDateTime(start);
+            ChronoUnit unit = TIME_UNITS[random.nextInt(TIME_UNITS.length)];
+            long amount = random.nextInt() % 100000;
+            // LocalDateTime adds whole half days as days
+            LocalDateTime expected = start.plus(Duration.of(amount, unit));
+            assertEquals(expected, iso(dateTime.plus(amount, unit)));
+            assertEquals(expected, iso(dateTime.plus(amount, unit).minus(0, unit)));
+            assertEquals(start, iso(dateTime.plus(amount, unit).minus(amount, unit)));
+            for (ChronoUnit between : TIME_UNITS) {
+                assertEquals(start.until(expected, between),
+                        dateTime.until(dateTime.plus(amount, unit), between));
+            }
+        }
+    }
+
+    @Test
+    public void testPlusDateUnits() {
+        EthiopianDateTime dateTime = EthiopianDateTime.of(2015, 13, 6, 23, 59);
+        assertEquals(EthiopianDateTime.of(2016, 1, 6, 23, 59), dateTime.plus(1, ChronoUnit.MONTHS));
+        assertEquals(EthiopianDateTime.of(2016, 13, 5, 23, 59), dateTime.plus(1, ChronoUnit.YEARS));
+        assertEquals(EthiopianDateTime.of(2016, 1, 1, 0, 0), dateTime.plus(1, ChronoUnit.MINUTES));
+        // the last day counts when its time is reached
+        assertEquals(0, dateTime.until(EthiopianDateTime.of(2016, 1, 1, 23, 58), ChronoUnit.DAYS));
+        assertEquals(1, dateTime.until(EthiopianDateTime.of(2016, 1, 1, 23, 59), ChronoUnit.DAYS));
+        assertEquals(-1, EthiopianDateTime.of(2016, 1, 1, 23, 59).until(dateTime, ChronoUnit.DAYS));
+    }
+
+    @Test
+    public void testWith() {
+        EthiopianDateTime dateTime = EthiopianDateTime.of(2016, 5, 13, 7, 30);
+        assertEquals(EthiopianDateTime.of(2016, 5, 13, 9, 30), dateTime.with(ChronoField.HOUR_OF_DAY, 9));
+        assertEquals(EthiopianDateTime.of(2015, 1, 1, 7, 30),
+                dateTime.with(EthiopianDate.of(2015, 1, 1)));
+        assertEquals(EthiopianDateTime.of(2015, 1, 1, 7, 30),
+                dateTime.with(LocalDate.from(EthiopianDate.of(2015, 1, 1))));
+        assertEquals(EthiopianDateTime.of(2016, 5, 13, 12, 0), dateTime.with(LocalTime.NOON));
+        assertSame(dateTime, dateTime.with(LocalTime.of(7, 30)));
+    }
+
+    @Test
+    public void testWithDateFields() {
+        EthiopianDateTime dateTime = EthiopianDateTime.of(2016, 5, 13, 7, 30);
+        assertEquals(EthiopianDateTime.of(2016, 5, 3, 7, 30), dateTime.with(ChronoField.DAY_OF_MONTH, 3));
+        assertEquals(EthiopianDateTime.of(2016, 3, 13, 7, 30), dateTime.with(ChronoField.MONTH_OF_YEAR, 3));
+        assertEquals(EthiopianDateTime.of(2010, 5, 13, 7, 30), dateTime.with(ChronoField.YEAR, 2010));
+        assertEquals(EthiopianDateTime.of(2016, 5, 1, 7, 30), dateTime.with(TemporalAdjusters.firstDayOfMonth()));
+    }
+
+    @Test
+    public void testCompareAndEquals() {
+        EthiopianDateTime morning = EthiopianDateTime.of(2016, 5, 13, 7, 30);
+        EthiopianDateTime evening = EthiopianDateTime.of(2016, 5, 13, 19, 30);
+        assertTrue(morning.isBefore(evening));
+        assertFalse(morning.isAfter(evening));
+        assertEquals(morning, EthiopianDateTime.of(2016, 5, 13, 7, 30));
+        assertEquals(morning.hashCode(), EthiopianDateTime.of(2016, 5, 13, 7, 30).hashCode());
+        assertFalse(morning.equals(evening));
+        assertTrue(morning.toString().endsWith("T07:30"));
+    }
+
+}
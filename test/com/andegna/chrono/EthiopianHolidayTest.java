@@ -0,0 +1,78 @@
+package com.andegna.chrono;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Tests of {@link EthiopianHoliday}.
+ */
+public class EthiopianHolidayTest {
+
+    private static void assertDates(EthiopianHoliday holiday, int year, LocalDate... expected) {
+        EthiopianDateArray dates = holiday.datesIn(year);
+        assertEquals(holiday.name(), expected.length, dates.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(holiday.name(), expected[i], LocalDate.from(dates.get(i)));
+        }
+    }
+
+    /**
+     * Test of datesIn method, of class EthiopianHoliday.
+     */
+    @Test
+    public void testDatesIn2016() {
+        assertDates(EthiopianHoliday.ENKUTATASH, 2016, LocalDate.of(2023, 9, 12));
+        assertDates(EthiopianHoliday.MESKEL, 2016, LocalDate.of(2023, 9, 28));
+        assertDates(EthiopianHoliday.MAWLID, 2016, LocalDate.of(2023, 9, 27));
+        assertDates(EthiopianHoliday.GENNA, 2016, LocalDate.of(2024, 1, 7));
+        assertDates(EthiopianHoliday.TIMKET, 2016, LocalDate.of(2024, 1, 20));
+        assertDates(EthiopianHoliday.ADWA, 2016, LocalDate.of(2024, 3, 2));
+        assertDates(EthiopianHoliday.EID_AL_FITR, 2016, LocalDate.of(2024, 4, 10));
+        assertDates(EthiopianHoliday.PATRIOTS_VICTORY, 2016, LocalDate.of(2024, 5, 5));
+        assertDates(EthiopianHoliday.LABOUR_DAY, 2016, LocalDate.of(2024, 5, 1));
+        assertDates(EthiopianHoliday.SIKLET, 2016, LocalDate.of(2024, 5, 3));
+        assertDates(EthiopianHoliday.FASIKA, 2016, LocalDate.of(2024, 5, 5));
+        assertDates(EthiopianHoliday.DERG_DOWNFALL, 2016, LocalDate.of(2024, 5, 28));
+        assertDates(EthiopianHoliday.EID_AL_ADHA, 2016, LocalDate.of(2024, 6, 16));
+    }
+
+    @Test
+    public void testGenna() {
+        // Tahsas 29, or 28 after a leap year, is the 7th of January from
+        // 1901 to 2100
+        for (int year = 1893; year <= 2092; year++) {
+            LocalDate genna = LocalDate.from(EthiopianHoliday.GENNA.datesIn(year).get(0));
+            assertEquals(7, genna.getDayOfMonth());
+            assertEquals(1, genna.getMonthValue());
+        }
+    }
+
+    @Test
+    public void testFasika() {
+        assertDates(EthiopianHoliday.FASIKA, 2015, LocalDate.of(2023, 4, 16));
+        assertDates(EthiopianHoliday.FASIKA, 2017, LocalDate.of(2025, 4, 20));
+        assertDates(EthiopianHoliday.FASIKA, 2003, LocalDate.of(2011, 4, 24));
+        for (int year = 1900; year < 2100; year++) {
+            LocalDate fasika = LocalDate.from(EthiopianHoliday.FASIKA.datesIn(year).get(0));
+            assertEquals(DayOfWeek.SUNDAY, fasika.getDayOfWeek());
+        }
+    }
+
+    @Test
+    public void testHijrah() {
+        // the Muslim year drifts, Mawlid comes twice in 2017
+        assertDates(EthiopianHoliday.MAWLID, 2017,
+                LocalDate.of(2024, 9, 15), LocalDate.of(2025, 9, 4));
+        // and not at all outside the Umm al-Qura calendar
+        assertEquals(0, EthiopianHoliday.MAWLID.datesIn(1000).size());
+    }
+
+    @Test
+    public void testNames() {
+        assertEquals("መስቀል", EthiopianHoliday.MESKEL.getAmharicName());
+        assertEquals("Meskel", EthiopianHoliday.MESKEL.getLatinName());
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.andegna.chrono;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Tests of {@link EthiopianInstantConverter}.
+ */
+public class EthiopianInstantConverterTest {
+
+    private static void assertConverts(ZoneId zone, long startSecond, int maxStep, int count) {
+        EthiopianInstantConverter converter = EthiopianInstantConverter.of(zone);
+        Random random = new Random(42);
+        long epochSecond = startSecond;
+        for (int i = 0; i < count; i++) {
+            Instant instant = Instant.ofEpochSecond(epochSecond, random.nextInt(1000_000_000));
+            ZonedDateTime expected = ZonedDateTime.ofInstant(instant, zone);
+            EthiopianDateTime dateTime = converter.toDateTime(instant);
+            assertEquals(instant.toString(), expected.toLocalDateTime(), LocalDateTime.of(
+                    LocalDate.from(dateTime.toLocalDate()), dateTime.toLocalTime()));
+            assertEquals(EthiopianZonedDateTime.ofInstant(instant, zone),
+                    converter.toZonedDateTime(instant));
+            // mostly forward, sometimes back
+            epochSecond += random.nextInt(maxStep) - maxStep / 10;
+        }
+    }
+
+    /**
+     * Test of toDateTime method, of class EthiopianInstantConverter.
+     */
+    @Test
+    public void testFixedOffset() {
+        assertConverts(ZoneId.of("Africa/Addis_Ababa"), 1700000000L, 600, 100000);
+        assertConverts(ZoneId.of("Africa/Addis_Ababa"), -1000000000L, 86400 * 3, 10000);
+    }
+
+    @Test
+    public void testTransitions() {
+        // through the transitions of 2023 and 2024
+        assertConverts(ZoneId.of("America/New_York"), 1672531200L, 1200, 60000);
+        assertConverts(ZoneId.of("Europe/London"), 1672531200L, 1200, 60000);
+        assertConverts(ZoneId.of("Australia/Lord_Howe"), 1672531200L, 1200, 60000);
+    }
+
+    @Test
+    public void testEpochMilli() {
+        EthiopianInstantConverter converter = EthiopianInstantConverter.of(ZoneId.of("Africa/Addis_Ababa"));
+        assertEquals(EthiopianDateTime.of(2016, 5, 13, 7, 30),
+                converter.epochMilliToDateTime(Instant.parse("2024-01-22T04:30:00Z").toEpochMilli()));
+        assertEquals(converter.toDateTime(Instant.ofEpochMilli(-1)), converter.epochMilliToDateTime(-1));
+    }
+
+}
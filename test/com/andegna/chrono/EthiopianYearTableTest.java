@@ -0,0 +1,80 @@
+package com.andegna.chrono;
+
+import static com.andegna.chrono.EthiopianEra.AMETE_MIHRET;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Tests of {@link EthiopianYearTable}.
+ */
+public class EthiopianYearTableTest {
+
+    /**
+     * Test of epochDayToPackedEthiopic method, of class EthiopianYearTable.
+     */
+    @Test
+    public void testEpochDayToPackedEthiopic() {
+        EthiopianYearTable table = EthiopianYearTable.of(1900, 2100);
+        long first = EthiopianConversions.toEpochDay(AMETE_MIHRET, 1900, 1, 1);
+        long end = EthiopianConversions.toEpochDay(AMETE_MIHRET, 2101, 1, 1);
+
+        // inside, around and outside the range
+        for (long epochDay = first - 3000; epochDay < end + 3000; epochDay++) {
+            assertEquals("epoch day " + epochDay,
+                    EthiopianConversions.computePackedEthiopic(epochDay),
+                    table.epochDayToPackedEthiopic(epochDay));
+        }
+    }
+
+    /**
+     * Test of toEpochDay method, of class EthiopianYearTable.
+     */
+    @Test
+    public void testToEpochDay() {
+        EthiopianYearTable table = EthiopianYearTable.of(1990, 2010);
+        for (int year = 1980; year < 2020; year++) {
+            for (int month = 1; month <= 13; month++) {
+                int days = month < 13 ? 30
+                        : EthiopianChronology.INSTANCE.isLeapYear(year) ? 6 : 5;
+                for (int day = 1; day <= days; day++) {
+                    assertEquals(EthiopianConversions.toEpochDay(AMETE_MIHRET, year, month, day),
+                            table.toEpochDay(year, month, day));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRange() {
+        EthiopianYearTable table = EthiopianYearTable.of(1990, 2010);
+        assertEquals(1990, table.getFirstYear());
+        assertEquals(2010, table.getLastYear());
+    }
+
+    @Test
+    public void testFromSystemProperties() {
+        assertRange(1900, 2000, "1900", "2000");
+        // a malformed range falls back to the default
+        assertRange(1800, 2200, "abc", "2000");
+        assertRange(1800, 2200, "2000", "1900");
+    }
+
+    private static void assertRange(int first, int last, String start, String end) {
+        System.setProperty(EthiopianYearTable.START_PROPERTY, start);
+        System.setProperty(EthiopianYearTable.END_PROPERTY, end);
+        try {
+            EthiopianYearTable table = EthiopianYearTable.fromSystemProperties();
+            assertEquals(first, table.getFirstYear());
+            assertEquals(last, table.getLastYear());
+        } finally {
+            System.clearProperty(EthiopianYearTable.START_PROPERTY);
+            System.clearProperty(EthiopianYearTable.END_PROPERTY);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRange() {
+        EthiopianYearTable.of(2010, 1990);
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.andegna.chrono;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Tests of {@link EthiopianZonedDateTime}.
+ */
+public class EthiopianZonedDateTimeTest {
+
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+    private static final ZoneId ADDIS_ABABA = ZoneId.of("Africa/Addis_Ababa");
+
+    private static void assertSame(ZonedDateTime expected, EthiopianZonedDateTime actual) {
+        assertEquals(expected.toInstant(), actual.toInstant());
+        assertEquals(expected.getOffset(), actual.getOffset());
+        assertEquals(expected.getZone(), actual.getZone());
+        assertEquals(expected.toLocalDateTime(), LocalDateTime.of(
+                LocalDate.from(actual.toLocalDate()), actual.toLocalTime()));
+    }
+
+    /**
+     * Test of ofInstant method, of class EthiopianZonedDateTime.
+     */
+    @Test
+    public void testOfInstant() {
+        Instant instant = Instant.parse("2024-01-22T04:30:00.5Z");
+        EthiopianZonedDateTime zoned = EthiopianZonedDateTime.ofInstant(instant, ADDIS_ABABA);
+        assertEquals(EthiopianDate.of(2016, 5, 13), zoned.toLocalDate());
+        assertEquals(7, zoned.get(ChronoField.HOUR_OF_DAY));
+        assertEquals(1, zoned.toLocalDateTime().getEthiopianClockHour());
+        assertEquals(instant.getEpochSecond(), zoned.getLong(ChronoField.INSTANT_SECONDS));
+        assertEquals(3 * 3600, zoned.get(ChronoField.OFFSET_SECONDS));
+        assertEquals(instant, zoned.toInstant());
+        assertEquals(zoned, EthiopianChronology.INSTANCE.zonedDateTime(instant, ADDIS_ABABA));
+        assertEquals(zoned, EthiopianChronology.INSTANCE.zonedDateTime(
+                ZonedDateTime.ofInstant(instant, ADDIS_ABABA)));
+        assertEquals(zoned.toString().replace("Ethiopian AMETE_MIHRET 2016-05-13", "2024-01-22"),
+                ZonedDateTime.ofInstant(instant, ADDIS_ABABA).toString());
+    }
+
+    @Test
+    public void testOfLocal() {
+        // 2:30 does not exist on the 10th of March 2024 in New York
+        LocalDateTime gap = LocalDateTime.of(2024, 3, 10, 2, 30);
+        assertSame(ZonedDateTime.of(gap, NEW_YORK),
+                EthiopianChronology.INSTANCE.localDateTime(gap).atZone(NEW_YORK));
+        // 1:30 comes twice on the 3rd of November 2024
+        LocalDateTime overlap = LocalDateTime.of(2024, 11, 3, 1, 30);
+        EthiopianZonedDateTime zoned = EthiopianChronology.INSTANCE.localDateTime(overlap).atZone(NEW_YORK);
+        assertSame(ZonedDateTime.of(overlap, NEW_YORK), zoned);
+        assertSame(ZonedDateTime.of(overlap, NEW_YORK).withLaterOffsetAtOverlap(),
+                zoned.withLaterOffsetAtOverlap());
+        assertSame(ZonedDateTime.of(overlap, NEW_YORK).withEarlierOffsetAtOverlap(),
+                zoned.withLaterOffsetAtOverlap().withEarlierOffsetAtOverlap());
+    }
+
+    @Test
+    public void testPlusAndUntil() {
+        ZonedDateTime iso = ZonedDateTime.of(2024, 3, 9, 12, 0, 0, 0, NEW_YORK);
+        EthiopianZonedDateTime zoned = EthiopianChronology.INSTANCE.zonedDateTime(iso);
+        // the hours go by the instant, the days by the local time
+        assertSame(iso.plusHours(24), zoned.plus(24, ChronoUnit.HOURS));
+        assertSame(iso.plusDays(1), zoned.plus(1, ChronoUnit.DAYS));
+        assertSame(iso.minusMinutes(90).plusWeeks(3), zoned.minus(90, ChronoUnit.MINUTES)
+                .plus(3, ChronoUnit.WEEKS));
+        assertEquals(23, zoned.until(zoned.plus(1, ChronoUnit.DAYS), ChronoUnit.HOURS));
+        assertEquals(1, zoned.until(zoned.plus(1, ChronoUnit.DAYS), ChronoUnit.DAYS));
+        assertEquals(1, zoned.until(zoned.plus(23, ChronoUnit.HOURS), ChronoUnit.DAYS));
+        assertEquals(0, zoned.until(zoned.plus(22, ChronoUnit.HOURS), ChronoUnit.DAYS));
+    }
+
+    @Test
+    public void testWithDateFields() {
+        EthiopianZonedDateTime zoned = EthiopianZonedDateTime.ofInstant(
+                Instant.parse("2024-01-22T04:30:00Z"), ADDIS_ABABA);
+        ZonedDateTime iso = ZonedDateTime.ofInstant(zoned.toInstant(), ADDIS_ABABA);
+        // Tir 13, 2016
+        assertSame(iso.minusDays(10), zoned.with(ChronoField.DAY_OF_MONTH, 3));
+        assertSame(iso.minusDays(60), zoned.with(ChronoField.MONTH_OF_YEAR, 3));
+        assertEquals(2010, zoned.with(ChronoField.YEAR, 2010).get(ChronoField.YEAR));
+        assertEquals(zoned.toLocalTime(), zoned.with(ChronoField.YEAR, 2010).toLocalTime());
+        assertSame(iso.minusDays(12), zoned.with(TemporalAdjusters.firstDayOfMonth()));
+    }
+
+    @Test
+    public void testWithZone() {
+        EthiopianZonedDateTime zoned = EthiopianZonedDateTime.ofInstant(
+                Instant.parse("2024-01-22T04:30:00Z"), ADDIS_ABABA);
+        EthiopianZonedDateTime utc = zoned.withZoneSameInstant(ZoneOffset.UTC);
+        assertEquals(zoned.toInstant(), utc.toInstant());
+        assertEquals(4, utc.get(ChronoField.HOUR_OF_DAY));
+        EthiopianZonedDateTime local = zoned.withZoneSameLocal(ZoneOffset.UTC);
+        assertEquals(zoned.toLocalDateTime(), local.toLocalDateTime());
+        assertEquals(Instant.parse("2024-01-22T07:30:00Z"), local.toInstant());
+        assertEquals(zoned, local.with(ChronoField.INSTANT_SECONDS, zoned.toEpochSecond())
+                .withZoneSameInstant(ADDIS_ABABA));
+    }
+
+}
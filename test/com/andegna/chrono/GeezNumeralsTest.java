@@ -0,0 +1,114 @@
+package com.andegna.chrono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Tests of {@link GeezNumerals}.
+ */
+public class GeezNumeralsTest {
+
+    /**
+     * Test of toGeez method, of class GeezNumerals.
+     */
+    @Test
+    public void testToGeez() {
+        assertEquals("፩", GeezNumerals.toGeez(1));
+        assertEquals("፱", GeezNumerals.toGeez(9));
+        assertEquals("፲", GeezNumerals.toGeez(10));
+        assertEquals("፲፪", GeezNumerals.toGeez(12));
+        assertEquals("፺፱", GeezNumerals.toGeez(99));
+        assertEquals("፻", GeezNumerals.toGeez(100));
+        assertEquals("፻፩", GeezNumerals.toGeez(101));
+        assertEquals("፪፻", GeezNumerals.toGeez(200));
+        assertEquals("፲፻", GeezNumerals.toGeez(1000));
+        assertEquals("፲፩፻", GeezNumerals.toGeez(1100));
+        assertEquals("፳፻፲፮", GeezNumerals.toGeez(2016));
+        assertEquals("፺፱፻፺፱", GeezNumerals.toGeez(9999));
+        assertEquals("፼", GeezNumerals.toGeez(10000));
+        assertEquals("፼፩", GeezNumerals.toGeez(10001));
+        assertEquals("፼፻", GeezNumerals.toGeez(10100));
+        assertEquals("፼፳፫፻፵፭", GeezNumerals.toGeez(12345));
+        assertEquals("፪፼", GeezNumerals.toGeez(20000));
+        assertEquals("፻፼", GeezNumerals.toGeez(1000000));
+        assertEquals("፻፩፼", GeezNumerals.toGeez(1010000));
+        assertEquals("፻፼፻", GeezNumerals.toGeez(1000100));
+        assertEquals("፼፼", GeezNumerals.toGeez(100000000));
+    }
+
+    /**
+     * Test of parse method, of class GeezNumerals.
+     */
+    @Test
+    public void testRoundTrip() {
+        char[] chars = new char[GeezNumerals.MAX_LENGTH];
+        for (long value = 1; value <= 200000; value++) {
+            String text = GeezNumerals.toGeez(value);
+            assertEquals(text, value, GeezNumerals.parse(text));
+            int end = GeezNumerals.writeTo(value, chars, 0);
+            assertEquals(text, new String(chars, 0, end));
+        }
+        Random random = new Random(7);
+        for (int i = 0; i < 10000; i++) {
+            long value = 1 + (random.nextLong() >>> 1) % (Long.MAX_VALUE - 1);
+            String text = GeezNumerals.toGeez(value);
+            assertEquals(text, value, GeezNumerals.parse(text));
+        }
+        assertEquals(Long.MAX_VALUE, GeezNumerals.parse(GeezNumerals.toGeez(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void testWriteToBuffers() {
+        ByteBuffer buffer = ByteBuffer.allocate(GeezNumerals.MAX_LENGTH * 3);
+        StringBuilder builder = new StringBuilder();
+        for (long value : new long[]{1, 30, 2016, 12345, 1000100, Long.MAX_VALUE}) {
+            buffer.clear();
+            GeezNumerals.writeTo(value, buffer);
+            buffer.flip();
+            assertEquals(GeezNumerals.toGeez(value), StandardCharsets.UTF_8.decode(buffer).toString());
+
+            builder.setLength(0);
+            assertEquals(GeezNumerals.toGeez(value), GeezNumerals.appendTo(value, builder).toString());
+        }
+    }
+
+    @Test
+    public void testYearTableFromSystemProperties() {
+        assertYearTable(1900, 2000, "1900", "2000");
+        // a malformed range falls back to the default
+        assertYearTable(1800, 2200, "x", "2000");
+        assertYearTable(1800, 2200, "2000", "1900");
+    }
+
+    private static void assertYearTable(long first, long last, String start, String end) {
+        System.setProperty(GeezNumerals.START_PROPERTY, start);
+        System.setProperty(GeezNumerals.END_PROPERTY, end);
+        try {
+            GeezNumerals.YearTable table = GeezNumerals.YearTable.fromSystemProperties();
+            assertEquals(first, table.first);
+            assertEquals(last - first + 1, table.texts.length);
+        } finally {
+            System.clearProperty(GeezNumerals.START_PROPERTY);
+            System.clearProperty(GeezNumerals.END_PROPERTY);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZero() {
+        GeezNumerals.toGeez(0);
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testParseInvalid() {
+        GeezNumerals.parse("፳፻16");
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testParseTooLarge() {
+        GeezNumerals.parse("፼፼፼፼፼");
+    }
+
+}
@@ -270,4 +270,31 @@ public class EthiopicCalendarTest extends TestCase {
         }
     }
 
+    public void testGregorianToJdnAgainstIso() {
+        // 2440588 is the JDN of the ISO epoch day zero, 1970-01-01
+        for (long jdn = -1000000000L; jdn < 2000000000L; jdn += 9973) {
+            java.time.LocalDate iso = java.time.LocalDate.ofEpochDay(jdn - 2440588);
+            assertEquals("G->JDN Fail: " + iso, (int) jdn,
+                    ec.gregorianToJDN(iso.getYear(), iso.getMonthValue(), iso.getDayOfMonth()));
+        }
+    }
+
+    public void testCopticToGregorian() {
+        // Nayrouz of 1740, after the leap year 1739
+        int[] gDate = ec.copticToGregorian(1740, 1, 1);
+        assertEquals(2023, gDate[0]);
+        assertEquals(9, gDate[1]);
+        assertEquals(12, gDate[2]);
+        assertEquals(1825030, ec.copticToJDN(1, 1, 1));
+    }
+
+    public void testGregorianToCoptic() {
+        int[] cDate = ec.gregorianToCoptic(2023, 9, 11);
+        assertEquals(1739, cDate[0]);
+        assertEquals(13, cDate[1]);
+        assertEquals(6, cDate[2]);
+        // the Coptic era is not left set
+        assertFalse(ec.isEraSet());
+    }
+
 }
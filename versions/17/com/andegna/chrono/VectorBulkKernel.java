@@ -0,0 +1,111 @@
+package com.andegna.chrono;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The conversion loops of {@link EthiopianBulkConverter} on the incubating
+ * Vector API, loaded by {@link BulkKernel} only when the module is there.
+ * <p>
+ * A long vector of dates is converted per iteration, with int and byte
+ * vectors of as many lanes, which the JIT only compiles for vectors of 8
+ * longs (AVX-512). The cycle division is done in doubles, which are exact
+ * below 2<sup>53</sup>, and corrected by one; the divisions by 365, 1460
+ * and 30 of the day in the cycle are multiplications and shifts, exact
+ * below 1461. The dates left over at the end go through the scalar loops.
+ */
+final class VectorBulkKernel extends BulkKernel {
+
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final int LANES = LONGS.length();
+
+    // 2^52, a double between 2^52 and 2^53 has no fraction bits: the low
+    // bits of 2^52 + n are n, those of 1.5 * 2^52 + n are n when negative
+    private static final double TWO_52 = 0x1p52;
+    private static final double SIGNED_TWO_52 = 0x1.8p52;
+    private static final long TWO_52_BITS = Double.doubleToRawLongBits(TWO_52);
+
+    // static, the JIT only compiles the vector operations of constant
+    // species; no byte vector has fewer than 8 lanes
+    private static final VectorSpecies<Integer> INTS = LANES < 8 ? null
+            : VectorSpecies.of(int.class, VectorShape.forBitSize(LANES * Integer.SIZE));
+    private static final VectorSpecies<Byte> BYTES = LANES < 8 ? null
+            : VectorSpecies.of(byte.class, VectorShape.forBitSize(LANES * Byte.SIZE));
+
+    VectorBulkKernel() {
+        if (LANES < 8) {
+            throw new UnsupportedOperationException("Vectors of " + LANES + " longs");
+        }
+    }
+
+    @Override
+    boolean isVectorized() {
+        return true;
+    }
+
+    @Override
+    void epochDaysToEthiopic(long[] epochDays, int from, int to,
+            int[] years, byte[] months, byte[] days) {
+        int i = from;
+        for (int bound = to - LANES; i <= bound; i += LANES) {
+            // the epoch day is below 2^52 once biased, adding its bits to
+            // those of 2^52 gives 2^52 + n as a double
+            DoubleVector n = LongVector.fromArray(LONGS, epochDays, i)
+                    .add(MIHRET_EPOCH_DAY + BIAS_DAYS + TWO_52_BITS)
+                    .reinterpretAsDoubles().sub(TWO_52);
+            // the quotient rounded to an integer, one too large at most
+            DoubleVector cycles = n.mul(1.0 / 1461).add(TWO_52).sub(TWO_52);
+            DoubleVector rest = n.sub(cycles.mul(1461));
+            VectorMask<Double> over = rest.compare(VectorOperators.LT, 0);
+            rest = rest.add(1461, over);
+            cycles = cycles.sub(1, over);
+
+            // through the bits, JDK 17 does not compile a double to int
+            // conversion that changes the shape
+            IntVector r = (IntVector) rest.add(TWO_52).reinterpretAsLongs()
+                    .convertShape(VectorOperators.L2I, INTS, 0);
+            // r / 365 and r / 30, the 4th year of a cycle takes the 1461st day
+            IntVector yearOfCycle = r.mul(1437).lanewise(VectorOperators.LSHR, 19);
+            IntVector leapDay = yearOfCycle.lanewise(VectorOperators.LSHR, 2);
+            IntVector dayOfYear = r.sub(yearOfCycle.sub(leapDay).mul(365));
+            IntVector month = dayOfYear.mul(547).lanewise(VectorOperators.LSHR, 14);
+
+            ((IntVector) cycles.sub(BIAS_CYCLES).mul(4).add(SIGNED_TWO_52).reinterpretAsLongs()
+                    .convertShape(VectorOperators.L2I, INTS, 0))
+                    .add(yearOfCycle).sub(leapDay).intoArray(years, i);
+            ((ByteVector) month.add(1).convertShape(VectorOperators.I2B, BYTES, 0))
+                    .intoArray(months, i);
+            ((ByteVector) dayOfYear.sub(month.mul(30)).add(1)
+                    .convertShape(VectorOperators.I2B, BYTES, 0)).intoArray(days, i);
+        }
+        super.epochDaysToEthiopic(epochDays, i, to, years, months, days);
+    }
+
+    @Override
+    void ethiopicToEpochDays(int[] years, byte[] months, byte[] days,
+            long[] epochDays, int from, int to) {
+        int i = from;
+        for (int bound = to - LANES; i <= bound; i += LANES) {
+            IntVector year = IntVector.fromArray(INTS, years, i);
+            IntVector month = (IntVector) ByteVector.fromArray(BYTES, months, i)
+                    .convertShape(VectorOperators.B2I, INTS, 0);
+            IntVector day = (IntVector) ByteVector.fromArray(BYTES, days, i)
+                    .convertShape(VectorOperators.B2I, INTS, 0);
+            // an arithmetic shift is a floor division by 4
+            IntVector rest = year.lanewise(VectorOperators.ASHR, 2)
+                    .add(month.mul(30)).add(day).sub(31);
+            ((LongVector) year.convertShape(VectorOperators.I2L, LONGS, 0)).mul(365)
+                    .add((LongVector) rest.convertShape(VectorOperators.I2L, LONGS, 0))
+                    .sub(MIHRET_EPOCH_DAY)
+                    .intoArray(epochDays, i);
+        }
+        super.ethiopicToEpochDays(years, months, days, epochDays, i, to);
+    }
+
+}